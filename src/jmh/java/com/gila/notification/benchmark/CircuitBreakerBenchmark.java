@@ -0,0 +1,59 @@
+package com.gila.notification.benchmark;
+
+import com.gila.notification.infrastructure.config.CircuitBreakerProperties;
+import com.gila.notification.infrastructure.config.NotificationCircuitBreaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one breaker shared by eight threads, each checking the breaker and recording an outcome
+ * per call as the delivery path does. Failures stay below the threshold, so the circuit stays
+ * closed and every call goes through the sliding window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class CircuitBreakerBenchmark {
+
+    private static final long CALL_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Param({"COUNT_BASED", "TIME_BASED"})
+    private CircuitBreakerProperties.WindowType windowType;
+
+    @Param({"10"})
+    private int failurePercent;
+
+    private NotificationCircuitBreaker breaker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CircuitBreakerProperties.Thresholds thresholds = new CircuitBreakerProperties.Thresholds();
+        thresholds.setWindowType(windowType);
+        breaker = new NotificationCircuitBreaker("bench", thresholds);
+    }
+
+    @Benchmark
+    public boolean allowAndRecord() {
+        if (!breaker.allowRequest()) {
+            return false;
+        }
+        if (ThreadLocalRandom.current().nextInt(100) < failurePercent) {
+            breaker.recordFailure(CALL_NANOS);
+        } else {
+            breaker.recordSuccess(CALL_NANOS);
+        }
+        return true;
+    }
+}
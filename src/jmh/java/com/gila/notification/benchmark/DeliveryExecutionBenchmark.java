@@ -0,0 +1,84 @@
+package com.gila.notification.benchmark;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.infrastructure.config.ChannelExecutorConfiguration;
+import com.gila.notification.infrastructure.config.ChannelExecutorProperties;
+import com.gila.notification.infrastructure.config.ChannelExecutorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares fan-out wall time of blocking deliveries on the common ForkJoinPool,
+ * the per-channel platform pools and the per-channel virtual-thread executors.
+ * Each delivery parks for a simulated gateway call followed by a simulated log insert.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeliveryExecutionBenchmark {
+
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+
+    @Param({"COMMON_POOL", "PLATFORM", "VIRTUAL"})
+    private String mode;
+
+    @Param({"1000", "10000"})
+    private int deliveries;
+
+    @Param({"2000"})
+    private long gatewayLatencyMicros;
+
+    @Param({"200"})
+    private long logWriteLatencyMicros;
+
+    private ChannelExecutorRegistry registry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (!"COMMON_POOL".equals(mode)) {
+            ChannelExecutorProperties properties = new ChannelExecutorProperties();
+            properties.setMode(ChannelExecutorProperties.ExecutionMode.valueOf(mode));
+            registry = new ChannelExecutorConfiguration().channelExecutorRegistry(properties);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (registry != null) {
+            registry.destroy();
+        }
+    }
+
+    @Benchmark
+    public int fanOut() {
+        AtomicInteger completed = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture[deliveries];
+
+        for (int i = 0; i < deliveries; i++) {
+            Runnable delivery = () -> {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(gatewayLatencyMicros));
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(logWriteLatencyMicros));
+                completed.incrementAndGet();
+            };
+            futures[i] = registry == null
+                    ? CompletableFuture.runAsync(delivery)
+                    : CompletableFuture.runAsync(delivery, registry.executorFor(CHANNELS[i % CHANNELS.length]));
+        }
+
+        CompletableFuture.allOf(futures).join();
+        return completed.get();
+    }
+}
@@ -0,0 +1,83 @@
+package com.gila.notification.benchmark;
+
+import com.gila.notification.application.dto.NotificationLogDto;
+import com.gila.notification.application.mapper.NotificationMapper;
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.NotificationStatus;
+import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.domain.service.NotificationStrategy;
+import com.gila.notification.infrastructure.adapter.out.persistence.entity.NotificationLogEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-delivery lookups and conversions: sender selection, log to DTO mapping and
+ * the conversions between the log entity and the domain log.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+
+    private NotificationStrategy strategy;
+    private NotificationMapper mapper;
+    private NotificationLog log;
+    private NotificationLogEntity entity;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        strategy = new NotificationStrategy(NoOpNotificationSender.forEveryChannel());
+        strategy.init();
+        mapper = new NotificationMapper();
+        log = NotificationLog.builder()
+                .id(1L)
+                .messageId(1L)
+                .messageContent("Quarterly statements are now available")
+                .messageCategory(Category.FINANCE)
+                .userId(42L)
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .userPhone("+1234567890")
+                .channel(NotificationChannel.EMAIL)
+                .status(NotificationStatus.SUCCESS)
+                .sentAt(LocalDateTime.now())
+                .attempts(1)
+                .build();
+        entity = NotificationLogEntity.from(log);
+        entity.setId(1L);
+    }
+
+    @Benchmark
+    public NotificationSender getSender() {
+        return strategy.getSender(CHANNELS[next++ % CHANNELS.length]);
+    }
+
+    @Benchmark
+    public NotificationLogDto toDto() {
+        return mapper.toDto(log);
+    }
+
+    @Benchmark
+    public NotificationLogEntity domainToEntity() {
+        return NotificationLogEntity.from(log);
+    }
+
+    @Benchmark
+    public NotificationLog entityToDomain() {
+        return entity.toDomain();
+    }
+}
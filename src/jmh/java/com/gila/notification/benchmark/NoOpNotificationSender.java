@@ -0,0 +1,41 @@
+package com.gila.notification.benchmark;
+
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.NotificationSender;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sender that accepts every delivery at once, so benchmarks measure the pipeline around the gateway.
+ */
+record NoOpNotificationSender(NotificationChannel channel) implements NotificationSender {
+
+    @Override
+    public void send(Message message, User user) {
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public List<SendResult> sendBatch(Message message, List<User> users) {
+        List<SendResult> results = new ArrayList<>(users.size());
+        for (User user : users) {
+            results.add(SendResult.success(user));
+        }
+        return results;
+    }
+
+    static List<NotificationSender> forEveryChannel() {
+        List<NotificationSender> senders = new ArrayList<>();
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            senders.add(new NoOpNotificationSender(channel));
+        }
+        return senders;
+    }
+}
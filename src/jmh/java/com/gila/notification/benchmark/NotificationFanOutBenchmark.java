@@ -0,0 +1,152 @@
+package com.gila.notification.benchmark;
+
+import com.gila.notification.application.service.DeliveryDeduplicator;
+import com.gila.notification.application.service.NotificationDispatcher;
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.DeliveryKeyRepository;
+import com.gila.notification.domain.port.out.NotificationLogWriter;
+import com.gila.notification.domain.service.NotificationStrategy;
+import com.gila.notification.domain.service.ResilientNotificationService;
+import com.gila.notification.infrastructure.adapter.out.persistence.UserRepositoryImpl;
+import com.gila.notification.infrastructure.config.ChannelExecutorConfiguration;
+import com.gila.notification.infrastructure.config.ChannelExecutorProperties;
+import com.gila.notification.infrastructure.config.ChannelExecutorRegistry;
+import com.gila.notification.infrastructure.config.CircuitBreakerConfiguration;
+import com.gila.notification.infrastructure.config.CircuitBreakerProperties;
+import com.gila.notification.infrastructure.config.DispatchProperties;
+import com.gila.notification.infrastructure.config.HedgingProperties;
+import com.gila.notification.infrastructure.config.NotificationMetrics;
+import com.gila.notification.infrastructure.config.NotificationSenderConfiguration;
+import com.gila.notification.infrastructure.config.NotificationTracer;
+import com.gila.notification.infrastructure.config.RateLimitProperties;
+import com.gila.notification.infrastructure.config.RateLimiterRegistry;
+import com.gila.notification.infrastructure.config.RetryProperties;
+import com.gila.notification.infrastructure.config.RetryScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the synchronous fan-out behind {@code NotificationService.sendMessage}: recipient paging,
+ * per-channel batching, breaker checks and the channel executors, with senders that accept
+ * every delivery at once and a log writer that only counts. The message insert that
+ * {@code sendMessage} adds is a single row and is left out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotificationFanOutBenchmark {
+
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+
+    @Param({"1000", "100000", "1000000"})
+    private int recipients;
+
+    private final CountingLogWriter logWriter = new CountingLogWriter();
+    private ChannelExecutorRegistry channelExecutorRegistry;
+    private NotificationSenderConfiguration senderConfiguration;
+    private ResilientNotificationService resilientNotificationService;
+    private NotificationDispatcher dispatcher;
+    private final AtomicLong messageIds = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserRepositoryImpl userRepository = new UserRepositoryImpl();
+        SplittableRandom random = new SplittableRandom(42);
+        List<User> users = new ArrayList<>(recipients);
+        for (long id = 1; id <= recipients; id++) {
+            Set<NotificationChannel> channels = EnumSet.noneOf(NotificationChannel.class);
+            channels.add(CHANNELS[random.nextInt(CHANNELS.length)]);
+            channels.add(CHANNELS[random.nextInt(CHANNELS.length)]);
+            users.add(User.builder()
+                    .id(id)
+                    .name("User " + id)
+                    .email("user" + id + "@example.com")
+                    .phoneNumber("+1555" + (1_000_000 + id))
+                    .subscribedCategories(Set.of(Category.FINANCE))
+                    .channels(channels)
+                    .build());
+        }
+        userRepository.saveAll(users);
+
+        RetryScheduler retryScheduler = new RetryScheduler(new RetryProperties());
+        senderConfiguration = new NotificationSenderConfiguration();
+        NotificationStrategy strategy = senderConfiguration.notificationStrategy(
+                NoOpNotificationSender.forEveryChannel(), new HedgingProperties(), retryScheduler);
+        strategy.init();
+        NotificationMetrics metrics = NotificationMetrics.noop();
+        resilientNotificationService = new ResilientNotificationService(strategy,
+                new CircuitBreakerConfiguration().circuitBreakerRegistry(new CircuitBreakerProperties()),
+                metrics, new RateLimiterRegistry(new RateLimitProperties()));
+        channelExecutorRegistry = new ChannelExecutorConfiguration()
+                .channelExecutorRegistry(new ChannelExecutorProperties());
+
+        dispatcher = new NotificationDispatcher(userRepository, logWriter, resilientNotificationService,
+                channelExecutorRegistry, retryScheduler, new DispatchProperties(), metrics, NotificationTracer.disabled(),
+                new DeliveryDeduplicator(new DiscardingDeliveryKeyRepository(), new DispatchProperties(), metrics));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        channelExecutorRegistry.destroy();
+        senderConfiguration.shutdown();
+    }
+
+    @Benchmark
+    public NotificationDispatcher.DispatchResult sendMessage() {
+        // A new message each time, so the deduplicator never skips recipients of an earlier invocation
+        Message message = Message.builder()
+                .id(messageIds.incrementAndGet())
+                .category(Category.FINANCE)
+                .content("Quarterly statements are now available")
+                .build();
+        return dispatcher.dispatch(message);
+    }
+
+    private static final class DiscardingDeliveryKeyRepository implements DeliveryKeyRepository {
+
+        @Override
+        public Set<Long> findDelivered(Long messageId, NotificationChannel channel, Collection<Long> userIds) {
+            return Set.of();
+        }
+
+        @Override
+        public void saveAll(Long messageId, NotificationChannel channel, Collection<Long> userIds) {
+        }
+    }
+
+    private static final class CountingLogWriter implements NotificationLogWriter {
+
+        private final LongAdder written = new LongAdder();
+
+        @Override
+        public void write(NotificationLog log) {
+            written.increment();
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.gila.notification.benchmark;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.RenderedMessage;
+import com.gila.notification.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-recipient work of the email sender before and after contact validation
+ * moved into {@link User} and rendering moved into {@link Message#renderFor}.
+ * The baseline runs {@code String.matches} and {@code String.format} for every recipient.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SenderHotPathBenchmark {
+
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
+    private static final String EMAIL_TEMPLATE = "To: %s%nSubject: Notification - %s%nBody: %s";
+
+    @Param({"1000", "10000"})
+    private int recipients;
+
+    private List<User> users;
+    private Message message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = new ArrayList<>(recipients);
+        for (long id = 1; id <= recipients; id++) {
+            users.add(User.builder().id(id).email("user" + id + "@example.com").build());
+        }
+        message = Message.create(Category.FINANCE, "Quarterly statements are now available");
+    }
+
+    @Benchmark
+    public void perCallRegexAndFormat(Blackhole blackhole) {
+        for (User user : users) {
+            if (user.getEmail().matches(EMAIL_REGEX)) {
+                blackhole.consume(String.format(EMAIL_TEMPLATE, user.getEmail(),
+                        message.getCategory().getDisplayName(), message.getContent()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void prevalidatedAndPrerendered(Blackhole blackhole) {
+        Message fresh = Message.create(message.getCategory(), message.getContent());
+        RenderedMessage rendered = fresh.renderFor(NotificationChannel.EMAIL, SenderHotPathBenchmark::render);
+        for (User user : users) {
+            if (user.hasValidContactFor(NotificationChannel.EMAIL)) {
+                blackhole.consume(rendered.forRecipient(user.getEmail()));
+            }
+        }
+    }
+
+    private static RenderedMessage render(Message message) {
+        return new RenderedMessage("To: ", String.format("%nSubject: Notification - %s%nBody: %s",
+                message.getCategory().getDisplayName(), message.getContent()));
+    }
+}
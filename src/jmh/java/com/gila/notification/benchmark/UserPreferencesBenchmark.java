@@ -0,0 +1,115 @@
+package com.gila.notification.benchmark;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.infrastructure.adapter.out.persistence.UserColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares recipient resolution over the previous {@code Set.of}-based user model,
+ * the mask-backed {@link User} and the columnar {@link UserColumns} snapshot.
+ * Each benchmark counts the deliveries a message to one category would produce.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserPreferencesBenchmark {
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+
+    @Param({"100000", "1000000"})
+    private int users;
+
+    private List<SetBackedUser> setBackedUsers;
+    private List<User> maskedUsers;
+    private UserColumns columns;
+    private Category category;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        setBackedUsers = new ArrayList<>(users);
+        maskedUsers = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            Set<Category> categories = randomSubset(random, CATEGORIES, Category.class);
+            Set<NotificationChannel> channels = randomSubset(random, CHANNELS, NotificationChannel.class);
+            setBackedUsers.add(new SetBackedUser(id, Set.copyOf(categories), Set.copyOf(channels)));
+            maskedUsers.add(User.builder().id(id).subscribedCategories(categories).channels(channels).build());
+        }
+        // Shuffle so list order does not match allocation order, as in a long-lived heap
+        Collections.shuffle(setBackedUsers, new Random(7));
+        Collections.shuffle(maskedUsers, new Random(7));
+        columns = UserColumns.of(maskedUsers);
+        category = Category.FINANCE;
+    }
+
+    @Benchmark
+    public int setBackedModel() {
+        int deliveries = 0;
+        for (SetBackedUser user : setBackedUsers) {
+            if (user.categories().contains(category)) {
+                for (NotificationChannel channel : CHANNELS) {
+                    if (user.channels().contains(channel)) {
+                        deliveries++;
+                    }
+                }
+            }
+        }
+        return deliveries;
+    }
+
+    @Benchmark
+    public int maskBackedModel() {
+        int deliveries = 0;
+        for (User user : maskedUsers) {
+            if (user.isSubscribedTo(category)) {
+                for (NotificationChannel channel : CHANNELS) {
+                    if (user.hasChannel(channel)) {
+                        deliveries++;
+                    }
+                }
+            }
+        }
+        return deliveries;
+    }
+
+    @Benchmark
+    public int columnarStore() {
+        int deliveries = 0;
+        for (int row : columns.rowsSubscribedTo(category)) {
+            deliveries += Integer.bitCount(columns.channelMaskAt(row));
+        }
+        return deliveries;
+    }
+
+    private static <E extends Enum<E>> Set<E> randomSubset(SplittableRandom random, E[] values, Class<E> type) {
+        EnumSet<E> subset = EnumSet.noneOf(type);
+        for (E value : values) {
+            if (random.nextBoolean()) {
+                subset.add(value);
+            }
+        }
+        return subset;
+    }
+
+    private record SetBackedUser(long id, Set<Category> categories, Set<NotificationChannel> channels) {}
+}
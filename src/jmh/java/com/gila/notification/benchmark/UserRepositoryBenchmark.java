@@ -0,0 +1,114 @@
+package com.gila.notification.benchmark;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.UserRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.CachingUserRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.JdbcUserRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.UserRepositoryImpl;
+import com.gila.notification.infrastructure.config.UserStoreProperties;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code findBySubscribedCategory} on the in-memory store, the JDBC store against an
+ * in-memory H2 database migrated by Flyway, and the JDBC store behind its read-through cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRepositoryBenchmark {
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+
+    @Param({"MEMORY", "JDBC", "JDBC_CACHED"})
+    private String store;
+
+    @Param({"10000", "100000"})
+    private int users;
+
+    private JdbcTemplate jdbcTemplate;
+    private UserRepository repository;
+    private Category category;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("MEMORY".equals(store)) {
+            repository = new UserRepositoryImpl();
+        } else {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:bench-" + store + "-" + users + ";DB_CLOSE_DELAY=-1", "sa", "");
+            // The benchmark jar merges driver service files, so register H2 by name
+            dataSource.setDriverClassName("org.h2.Driver");
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            JdbcUserRepository jdbcRepository = new JdbcUserRepository(jdbcTemplate,
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+            repository = "JDBC".equals(store)
+                    ? jdbcRepository
+                    : new CachingUserRepository(jdbcRepository, new UserStoreProperties.Cache());
+        }
+        repository.saveAll(randomUsers());
+        category = Category.FINANCE;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("SHUTDOWN");
+        }
+    }
+
+    @Benchmark
+    public List<User> findBySubscribedCategory() {
+        return repository.findBySubscribedCategory(category);
+    }
+
+    private List<User> randomUsers() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<User> generated = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            generated.add(User.builder()
+                    .id(id)
+                    .name("User " + id)
+                    .email("user" + id + "@example.com")
+                    .phoneNumber("+1555" + (1_000_000 + id))
+                    .subscribedCategories(randomSubset(random, CATEGORIES, Category.class))
+                    .channels(randomSubset(random, CHANNELS, NotificationChannel.class))
+                    .build());
+        }
+        return generated;
+    }
+
+    private static <E extends Enum<E>> Set<E> randomSubset(SplittableRandom random, E[] values, Class<E> type) {
+        EnumSet<E> subset = EnumSet.noneOf(type);
+        for (E value : values) {
+            if (random.nextBoolean()) {
+                subset.add(value);
+            }
+        }
+        return subset;
+    }
+}
@@ -0,0 +1,109 @@
+package com.gila.notification.loadtest;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent latency histogram with log-linear buckets of about 3% width, recorded in microseconds.
+ * Percentiles report the upper bound of the bucket they fall in.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 32;
+    private static final long[] DISPLAY_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 30_000};
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(indexOf(micros));
+        total.incrementAndGet();
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    long count() {
+        return total.get();
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the latency in milliseconds at or below which that share of requests completed
+     */
+    double percentileMillis(double percentile) {
+        long total = this.total.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return maxMicros.get() / 1000.0;
+    }
+
+    double maxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Prints how many requests fell into each of a fixed set of latency ranges.
+     */
+    void printDistribution(PrintStream out) {
+        long total = this.total.get();
+        if (total == 0) {
+            return;
+        }
+        long[] ranges = new long[DISPLAY_BOUNDS_MS.length + 1];
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                ranges[rangeOf(upperBoundOf(i))] += count;
+            }
+        }
+        long lower = 0;
+        for (int r = 0; r < ranges.length; r++) {
+            String label = r < DISPLAY_BOUNDS_MS.length
+                    ? String.format("%6d - %6d ms", lower, DISPLAY_BOUNDS_MS[r])
+                    : String.format("%6d ms and up ", lower);
+            int bar = (int) Math.round(50.0 * ranges[r] / total);
+            out.printf("  %s %9d %6.2f%% %s%n", label, ranges[r], 100.0 * ranges[r] / total, "#".repeat(bar));
+            if (r < DISPLAY_BOUNDS_MS.length) {
+                lower = DISPLAY_BOUNDS_MS[r];
+            }
+        }
+    }
+
+    private static int rangeOf(long micros) {
+        for (int r = 0; r < DISPLAY_BOUNDS_MS.length; r++) {
+            if (micros < DISPLAY_BOUNDS_MS[r] * 1000) {
+                return r;
+            }
+        }
+        return DISPLAY_BOUNDS_MS.length;
+    }
+
+    private static int indexOf(long micros) {
+        if (micros < 2 * SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - 5;
+        return shift * SUB_BUCKETS + (int) (micros >>> shift);
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = index - (long) shift * SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
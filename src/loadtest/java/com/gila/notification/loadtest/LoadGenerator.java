@@ -0,0 +1,146 @@
+package com.gila.notification.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the send endpoint of a running instance.
+ * <p>
+ * Requests start on a fixed schedule whether or not earlier ones have finished, and each latency
+ * is measured from its scheduled start, so a stalled server shows up as latency instead of as a
+ * quietly lower request rate. Requests started during the warm-up are sent but not reported.
+ * <p>
+ * Options, all in {@code --name=value} form:
+ * {@code url} (http://localhost:8080), {@code path} (/api/notifications/send), {@code rate} requests
+ * per second (10), {@code duration} seconds (60), {@code warmup} seconds (5), {@code categories}
+ * sent in turn (SPORTS,FINANCE,MOVIES) and {@code timeout} seconds per request (60).
+ */
+public final class LoadGenerator {
+
+    private final URI target;
+    private final double rate;
+    private final long durationNanos;
+    private final long warmupNanos;
+    private final String[] categories;
+    private final Duration timeout;
+    private final HttpClient client;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errorCounts = new ConcurrentHashMap<>();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    private LoadGenerator(Map<String, String> options) {
+        this.target = URI.create(options.getOrDefault("url", "http://localhost:8080")
+                + options.getOrDefault("path", "/api/notifications/send"));
+        this.rate = Double.parseDouble(options.getOrDefault("rate", "10"));
+        this.durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("duration", "60")));
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("warmup", "5")));
+        this.categories = options.getOrDefault("categories", "SPORTS,FINANCE,MOVIES").split(",");
+        this.timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "60")));
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadGenerator(options).run();
+    }
+
+    private void run() throws InterruptedException {
+        System.out.printf("Sending %.1f requests/s to %s for %ds after a %ds warm-up%n",
+                rate, target, TimeUnit.NANOSECONDS.toSeconds(durationNanos), TimeUnit.NANOSECONDS.toSeconds(warmupNanos));
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        long sent = 0;
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduled = start; scheduled < end; scheduled = start + ++sent * intervalNanos) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intendedStart = scheduled;
+                boolean measured = scheduled >= measureFrom;
+                String category = categories[(int) (sent % categories.length)];
+                long sequence = sent;
+                inFlight.incrementAndGet();
+                requests.execute(() -> send(intendedStart, measured, category, sequence));
+            }
+            System.out.printf("Schedule finished, waiting for %d requests still in flight%n", inFlight.get());
+        }
+        report(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - measureFrom));
+    }
+
+    private void send(long intendedStart, boolean measured, String category, long sequence) {
+        String body = "{\"category\": \"" + category + "\", \"message\": \"Load test message " + sequence + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(target)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (measured) {
+                histogram.record(System.nanoTime() - intendedStart);
+                statusCounts.computeIfAbsent(response.statusCode(), ignored -> new LongAdder()).increment();
+            }
+        } catch (IOException e) {
+            if (measured) {
+                errorCounts.computeIfAbsent(e.getClass().getSimpleName(), ignored -> new LongAdder()).increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void report(long elapsedMillis) {
+        long completed = histogram.count();
+        System.out.println();
+        System.out.printf("Completed  %d requests in %.1fs, %.1f requests/s%n",
+                completed, elapsedMillis / 1000.0, completed * 1000.0 / Math.max(1, elapsedMillis));
+        new TreeMap<>(statusCounts).forEach((status, count) -> System.out.printf("  HTTP %d  %d%n", status, count.sum()));
+        errorCounts.forEach((error, count) -> System.out.printf("  %s  %d%n", error, count.sum()));
+        System.out.println();
+        System.out.println("Latency from scheduled start (ms)");
+        for (double percentile : new double[]{50, 90, 95, 99, 99.9}) {
+            System.out.printf("  p%-5s %10.1f%n", formatPercentile(percentile), histogram.percentileMillis(percentile));
+        }
+        System.out.printf("  max    %10.1f%n", histogram.maxMillis());
+        System.out.println();
+        System.out.println("Distribution");
+        histogram.printDistribution(System.out);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,26 @@
+package com.gila.notification.application.dto;
+
+import com.gila.notification.domain.model.Category;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO describing the delivery progress of a message.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageStatusResponse {
+    private Long messageId;
+    private Category category;
+    private LocalDateTime createdAt;
+    private String status;
+    private long successfulNotifications;
+    private long failedNotifications;
+    private long pendingNotifications;
+}
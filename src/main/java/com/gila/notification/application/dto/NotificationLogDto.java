@@ -30,4 +30,5 @@ public class NotificationLogDto {
     private NotificationStatus status;
     private LocalDateTime sentAt;
     private String errorMessage;
+    private int attempts;
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.gila.notification.application.dto;
 import com.gila.notification.domain.model.Category;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -20,4 +21,11 @@ public class SendMessageRequest {
 
     @NotBlank(message = "Message content cannot be empty")
     private String message;
+
+    /**
+     * Optional key chosen by the client. Retrying a request with the same key returns the
+     * message the first request created instead of sending it again.
+     */
+    @Size(max = 100, message = "Idempotency key must be at most 100 characters")
+    private String idempotencyKey;
 }
\ No newline at end of file
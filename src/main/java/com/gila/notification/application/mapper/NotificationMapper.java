@@ -21,6 +21,7 @@ public class NotificationMapper {
                 .status(log.getStatus())
                 .sentAt(log.getSentAt())
                 .errorMessage(log.getErrorMessage())
+                .attempts(log.getAttempts())
                 .build();
     }
 }
\ No newline at end of file
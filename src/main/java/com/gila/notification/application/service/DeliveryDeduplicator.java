@@ -0,0 +1,113 @@
+package com.gila.notification.application.service;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.DeliveryKeyRepository;
+import com.gila.notification.infrastructure.config.DispatchProperties;
+import com.gila.notification.infrastructure.config.NotificationMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a message from reaching the same user on the same channel twice when it is dispatched
+ * again, after a worker failed or a partition lease moved to another node.
+ * <p>
+ * Every delivery the provider accepted is stored as a key under a unique index. A first dispatch
+ * cannot have delivered anything yet, so it only writes keys, one batch insert per provider batch.
+ * Only a repeated dispatch reads them back. An LRU of the keys this node wrote recently answers
+ * first, so recipients it served itself are skipped without touching the database.
+ */
+@Component
+@Slf4j
+public class DeliveryDeduplicator {
+
+    private final DeliveryKeyRepository deliveryKeyRepository;
+    private final NotificationMetrics notificationMetrics;
+    private final Map<DeliveryKey, Boolean> recentKeys;
+
+    public DeliveryDeduplicator(DeliveryKeyRepository deliveryKeyRepository, DispatchProperties properties,
+                                NotificationMetrics notificationMetrics) {
+        this.deliveryKeyRepository = deliveryKeyRepository;
+        this.notificationMetrics = notificationMetrics;
+        int capacity = properties.getDeliveryKeyCacheSize();
+        this.recentKeys = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DeliveryKey, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Removes the users a message has already reached on a channel.
+     *
+     * @param messageId the message ID
+     * @param channel the channel
+     * @param users the recipients of one batch
+     * @param redelivery whether the message or range was dispatched before, so stored keys must be read
+     * @return the users still to deliver to; {@code users} itself when none was removed
+     */
+    public List<User> undelivered(Long messageId, NotificationChannel channel, List<User> users, boolean redelivery) {
+        List<User> remaining = new ArrayList<>(users.size());
+        synchronized (recentKeys) {
+            for (User user : users) {
+                if (!recentKeys.containsKey(new DeliveryKey(messageId, user.getId(), channel))) {
+                    remaining.add(user);
+                }
+            }
+        }
+        if (redelivery && !remaining.isEmpty()) {
+            Set<Long> delivered = deliveryKeyRepository.findDelivered(messageId, channel,
+                    remaining.stream().map(User::getId).toList());
+            if (!delivered.isEmpty()) {
+                remaining.removeIf(user -> delivered.contains(user.getId()));
+                remember(messageId, channel, delivered);
+            }
+        }
+
+        int skipped = users.size() - remaining.size();
+        if (skipped == 0) {
+            return users;
+        }
+        notificationMetrics.deliveriesDeduplicated(channel, skipped);
+        log.debug("Skipping {} {} recipient(s) of message {} that were already notified", skipped, channel, messageId);
+        return remaining;
+    }
+
+    /**
+     * Stores the keys of deliveries the provider accepted. A failure to store them is logged and
+     * not propagated, since the deliveries themselves succeeded; a later dispatch may repeat them.
+     *
+     * @param messageId the message ID
+     * @param channel the channel
+     * @param userIds the users the message was delivered to
+     */
+    public void recordDelivered(Long messageId, NotificationChannel channel, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        remember(messageId, channel, userIds);
+        try {
+            deliveryKeyRepository.saveAll(messageId, channel, userIds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store {} {} delivery key(s) of message {}: {}",
+                    userIds.size(), channel, messageId, e.getMessage());
+        }
+    }
+
+    private void remember(Long messageId, NotificationChannel channel, Iterable<Long> userIds) {
+        synchronized (recentKeys) {
+            for (Long userId : userIds) {
+                recentKeys.put(new DeliveryKey(messageId, userId, channel), Boolean.TRUE);
+            }
+        }
+    }
+
+    private record DeliveryKey(long messageId, long userId, NotificationChannel channel) {}
+}
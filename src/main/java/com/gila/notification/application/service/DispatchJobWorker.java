@@ -0,0 +1,283 @@
+package com.gila.notification.application.service;
+
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.port.out.DispatchJobRepository;
+import com.gila.notification.domain.port.out.DispatchPartitionRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.entity.MessageEntity;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.MessageRepository;
+import com.gila.notification.infrastructure.config.DispatchProperties;
+import com.gila.notification.infrastructure.config.NotificationTracer;
+import com.gila.notification.infrastructure.config.Span;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Drains the dispatch job outbox. Each worker thread claims a few due jobs in one short
+ * transaction and handles them one after another, outside any transaction.
+ * <p>
+ * In LOCAL mode a worker fans each claimed message out itself. In PARTITIONED mode it splits the
+ * message's audience into user id ranges, and the workers of every node claim those ranges with
+ * leases. A heartbeat renews the job and range leases this node holds. Work whose node stops
+ * renewing is claimed again once its lease expires, so one large broadcast is delivered by all
+ * nodes at once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchJobWorker {
+
+    private final DispatchJobRepository dispatchJobRepository;
+    private final DispatchPartitionRepository dispatchPartitionRepository;
+    private final MessageRepository messageRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationTracer notificationTracer;
+    private final TransactionTemplate transactionTemplate;
+    private final DispatchProperties properties;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<Thread> workers = new ArrayList<>();
+    private final Set<HeldLease> heldLeases = ConcurrentHashMap.newKeySet();
+    private Thread heartbeatThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < properties.getPoolSize(); i++) {
+            workers.add(Thread.ofPlatform()
+                    .name("dispatch-" + i)
+                    .start(this::runWorker));
+        }
+        heartbeatThread = Thread.ofPlatform()
+                .name("dispatch-heartbeat")
+                .daemon(true)
+                .start(this::runHeartbeat);
+    }
+
+    /**
+     * Stops claiming work and waits for the messages and partitions being delivered to finish.
+     * Work claimed but not started becomes due again when its lease runs out.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        if (heartbeatThread != null) {
+            LockSupport.unpark(heartbeatThread);
+        }
+    }
+
+    private void runWorker() {
+        boolean partitioned = properties.getMode() == DispatchProperties.Mode.PARTITIONED;
+        while (running) {
+            // Finishing the partitions already planned comes before splitting further messages
+            boolean worked = (partitioned && claimPartition()) || claimJobs();
+            if (!worked) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(properties.getPollIntervalMs()));
+            }
+        }
+    }
+
+    private boolean claimJobs() {
+        List<DispatchJobRepository.Job> jobs;
+        try {
+            jobs = dispatchJobRepository.claim(workerId, properties.getClaimBatchSize(),
+                    Duration.ofMillis(properties.getLeaseMs()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim dispatch jobs: {}", e.getMessage());
+            return false;
+        }
+        for (DispatchJobRepository.Job job : jobs) {
+            if (!running) {
+                break;
+            }
+            process(job);
+        }
+        return !jobs.isEmpty();
+    }
+
+    /**
+     * Dispatches or partitions one claimed message and removes its job, or makes the job due
+     * again after the retry delay. A job claimed before is dispatched as a redelivery, skipping
+     * recipients the earlier attempt reached. Once the lease is lost no further recipients are
+     * loaded, and the job is left to the worker that claimed it again.
+     */
+    void process(DispatchJobRepository.Job job) {
+        Long messageId = job.messageId();
+        try (HeldLease held = hold(job)) {
+            Optional<Message> message = messageRepository.findById(messageId).map(MessageEntity::toDomain);
+            if (message.isEmpty()) {
+                log.warn("Dropping dispatch job of missing message {}", messageId);
+                dispatchJobRepository.complete(job);
+            } else if (properties.getMode() == DispatchProperties.Mode.PARTITIONED) {
+                split(message.get(), job);
+            } else {
+                notificationDispatcher.dispatch(message.get(), job.isRedelivery(), held::isHeld);
+                if (!held.isHeld() || !dispatchJobRepository.complete(job)) {
+                    log.warn("Lost the lease on the job of message {} before it was dispatched", messageId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Dispatch of message {} failed, retrying in {} ms", messageId, properties.getRetryDelayMs(), e);
+            try {
+                dispatchJobRepository.retryLater(job, Duration.ofMillis(properties.getRetryDelayMs()));
+            } catch (RuntimeException retryFailure) {
+                log.warn("Could not reschedule message {}, it becomes due when its lease expires", messageId);
+            }
+        }
+    }
+
+    /**
+     * Registers a job lease held by the calling thread, so the heartbeat renews it until the
+     * returned lease is closed. Used for the jobs of synchronous sends, which the intake holds
+     * from the start.
+     *
+     * @param job the held job
+     * @return the lease, which reports whether it is still held
+     */
+    public HeldLease hold(DispatchJobRepository.Job job) {
+        Duration lease = Duration.ofMillis(properties.getLeaseMs());
+        return hold(() -> dispatchJobRepository.renew(job, lease), "the job of message " + job.messageId());
+    }
+
+    /**
+     * Replaces a message's job with its partitions in one transaction. If another worker has
+     * already split the message, nothing is written, so a message is never partitioned twice.
+     */
+    private void split(Message message, DispatchJobRepository.Job job) {
+        Long messageId = message.getId();
+        List<Long> bounds = notificationDispatcher.partitionBounds(message.getCategory(),
+                properties.getRecipientsPerPartition());
+        Boolean created = transactionTemplate.execute(status -> {
+            if (!dispatchJobRepository.complete(job)) {
+                return false;
+            }
+            dispatchPartitionRepository.createAll(messageId, bounds, job.isRedelivery());
+            return true;
+        });
+        if (Boolean.TRUE.equals(created)) {
+            log.info("Message {} split into {} partitions", messageId, bounds.size());
+        } else {
+            log.warn("Message {} was already split by another worker or claimed again", messageId);
+        }
+    }
+
+    private boolean claimPartition() {
+        List<DispatchPartitionRepository.Partition> partitions;
+        try {
+            partitions = dispatchPartitionRepository.claim(workerId, 1,
+                    Duration.ofMillis(properties.getPartitionLeaseMs()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim dispatch partitions: {}", e.getMessage());
+            return false;
+        }
+        if (partitions.isEmpty()) {
+            return false;
+        }
+        deliver(partitions.getFirst());
+        return true;
+    }
+
+    /**
+     * Delivers one leased partition and removes it while the lease is still held. Once the lease
+     * is lost no further recipients are loaded, and the partition is left to its new holder.
+     */
+    void deliver(DispatchPartitionRepository.Partition partition) {
+        Duration lease = Duration.ofMillis(properties.getPartitionLeaseMs());
+        try (HeldLease held = hold(() -> dispatchPartitionRepository.renew(partition, workerId, lease),
+                "partition " + partition.partitionNo() + " of message " + partition.messageId())) {
+            Optional<Message> message = messageRepository.findById(partition.messageId()).map(MessageEntity::toDomain);
+            if (message.isPresent()) {
+                try (Span trace = notificationTracer.startTrace("dispatchPartition").messageId(partition.messageId())) {
+                    trace.attribute("partition", partition.partitionNo());
+                    notificationDispatcher.dispatchRange(message.get(), partition.afterUserId(),
+                            partition.lastUserId(), partition.isRedelivery(), held::isHeld, trace);
+                }
+            }
+            if (held.isHeld() && dispatchPartitionRepository.complete(partition, workerId)) {
+                log.debug("Partition {} of message {} delivered", partition.partitionNo(), partition.messageId());
+            } else {
+                log.warn("Lost the lease on partition {} of message {} before it was delivered",
+                        partition.partitionNo(), partition.messageId());
+            }
+        } catch (RuntimeException e) {
+            log.error("Delivery of partition {} of message {} failed, it is claimed again when its lease expires",
+                    partition.partitionNo(), partition.messageId(), e);
+        }
+    }
+
+    private HeldLease hold(BooleanSupplier renewal, String description) {
+        HeldLease held = new HeldLease(renewal, description, heldLeases);
+        heldLeases.add(held);
+        return held;
+    }
+
+    private void runHeartbeat() {
+        while (running || !heldLeases.isEmpty()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(properties.getHeartbeatIntervalMs()));
+            renewLeases();
+        }
+    }
+
+    void renewLeases() {
+        for (HeldLease held : heldLeases) {
+            try {
+                if (!held.renewal.getAsBoolean()) {
+                    held.lost = true;
+                }
+            } catch (RuntimeException e) {
+                // Keep delivering; if the lease runs out meanwhile, the next renewal reports it lost
+                log.warn("Failed to renew the lease on {}: {}", held.description, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A job or partition lease this node holds. The heartbeat renews it until it is closed and
+     * marks it lost once another worker has taken it over.
+     */
+    public static final class HeldLease implements AutoCloseable {
+
+        private final BooleanSupplier renewal;
+        private final String description;
+        private final Set<HeldLease> heldLeases;
+        private volatile boolean lost;
+
+        private HeldLease(BooleanSupplier renewal, String description, Set<HeldLease> heldLeases) {
+            this.renewal = renewal;
+            this.description = description;
+            this.heldLeases = heldLeases;
+        }
+
+        public boolean isHeld() {
+            return !lost;
+        }
+
+        @Override
+        public void close() {
+            heldLeases.remove(this);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.gila.notification.application.service;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.NotificationLogWriter;
+import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.domain.port.out.UserRepository;
+import com.gila.notification.domain.service.ResilientNotificationService;
+import com.gila.notification.infrastructure.config.ChannelExecutorRegistry;
+import com.gila.notification.infrastructure.config.DispatchProperties;
+import com.gila.notification.infrastructure.config.NotificationMetrics;
+import com.gila.notification.infrastructure.config.NotificationTracer;
+import com.gila.notification.infrastructure.config.RetryScheduler;
+import com.gila.notification.infrastructure.config.Span;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Fans a persisted message out to every subscribed user and channel.
+ * Runs on the caller thread for synchronous sends and on the dispatch job workers otherwise.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+    private static final String ERROR_QUEUE_FULL = "Delivery queue full for channel ";
+    private static final String ERROR_CIRCUIT_OPEN = "Circuit breaker open for channel ";
+
+    private final UserRepository userRepository;
+    private final NotificationLogWriter notificationLogWriter;
+    private final ResilientNotificationService resilientNotificationService;
+    private final ChannelExecutorRegistry channelExecutorRegistry;
+    private final RetryScheduler retryScheduler;
+    private final DispatchProperties dispatchProperties;
+    private final NotificationMetrics notificationMetrics;
+    private final NotificationTracer notificationTracer;
+    private final DeliveryDeduplicator deliveryDeduplicator;
+
+    /**
+     * Delivers a message to all subscribers and waits for every delivery to finish,
+     * as the root of a new trace when the message is sampled.
+     *
+     * @param message the persisted message
+     * @return the aggregated delivery counts
+     */
+    public DispatchResult dispatch(Message message) {
+        return dispatch(message, false, () -> true);
+    }
+
+    /**
+     * Delivers a message to all subscribers as the root of a new trace, skipping the recipients
+     * an earlier dispatch already reached when {@code redelivery} is set.
+     *
+     * @param message the persisted message
+     * @param redelivery whether the message may have been dispatched before
+     * @param keepGoing checked before each recipient page
+     * @return the aggregated delivery counts
+     */
+    public DispatchResult dispatch(Message message, boolean redelivery, BooleanSupplier keepGoing) {
+        try (Span trace = notificationTracer.startTrace("dispatch").messageId(message.getId())) {
+            return dispatchRange(message, null, Long.MAX_VALUE, redelivery, keepGoing, trace);
+        }
+    }
+
+    /**
+     * Delivers a message to all subscribers and waits for every delivery to finish.
+     * Recipients are read in keyset pages, grouped per channel into batches of {@code batchSize},
+     * and each batch goes to the provider in one call. At most {@code maxInFlightDeliveries}
+     * deliveries are outstanding at once, so memory stays flat regardless of audience size.
+     * A delivery waiting for a retry stays outstanding until its final attempt.
+     *
+     * @param message the persisted message
+     * @param keepGoing checked before each recipient page
+     * @param span the span covering this dispatch, or {@link Span#NOOP} if the message is not traced
+     * @return the aggregated delivery counts
+     */
+    public DispatchResult dispatch(Message message, BooleanSupplier keepGoing, Span span) {
+        return dispatchRange(message, null, Long.MAX_VALUE, false, keepGoing, span);
+    }
+
+    /**
+     * Delivers a message to the subscribers in one user id range and waits for those deliveries
+     * to finish. No further recipient page is loaded once {@code keepGoing} turns false; deliveries
+     * already submitted still complete.
+     *
+     * @param message the persisted message
+     * @param afterUserId the last user id before the range, or null to start at the first subscriber
+     * @param lastUserId the last user id in the range
+     * @param redelivery whether the range may have been dispatched before, so delivered recipients are looked up
+     * @param keepGoing checked before each recipient page
+     * @param span the span covering this dispatch, or {@link Span#NOOP} if the message is not traced
+     * @return the delivery counts of the range
+     */
+    public DispatchResult dispatchRange(Message message, Long afterUserId, long lastUserId, boolean redelivery,
+                                        BooleanSupplier keepGoing, Span span) {
+        Category category = message.getCategory();
+        int pageSize = dispatchProperties.getRecipientPageSize();
+        int window = dispatchProperties.getMaxInFlightDeliveries();
+        int batchSize = Math.min(dispatchProperties.getBatchSize(), window);
+        DispatchContext context = new DispatchContext(message, redelivery, span, new Semaphore(window),
+                new AtomicInteger(0), new AtomicInteger(0));
+
+        Map<NotificationChannel, List<User>> batches = new EnumMap<>(NotificationChannel.class);
+        int totalUsers = 0;
+        Long afterId = afterUserId;
+        boolean more;
+        try {
+            do {
+                List<User> page;
+                try (Span lookup = span.child("recipients.lookup")) {
+                    page = userRepository.findSubscribersAfter(category, afterId, pageSize);
+                    lookup.attribute("recipients", page.size());
+                }
+                more = page.size() == pageSize;
+                if (!page.isEmpty() && page.getLast().getId() >= lastUserId) {
+                    page = page.stream().filter(user -> user.getId() <= lastUserId).toList();
+                    more = false;
+                }
+                for (User user : page) {
+                    for (NotificationChannel channel : CHANNELS) {
+                        if (!user.hasChannel(channel)) {
+                            continue;
+                        }
+                        List<User> batch = batches.computeIfAbsent(channel, ignored -> new ArrayList<>(batchSize));
+                        batch.add(user);
+                        if (batch.size() == batchSize) {
+                            submitBatch(context, channel, batches.remove(channel));
+                        }
+                    }
+                }
+                totalUsers += page.size();
+                if (!page.isEmpty()) {
+                    afterId = page.getLast().getId();
+                }
+            } while (more && keepGoing.getAsBoolean());
+            batches.forEach((channel, batch) -> submitBatch(context, channel, batch));
+        } finally {
+            // Every permit is back once the last delivery has finished, also when a lookup failed midway
+            context.inFlight().acquireUninterruptibly(window);
+        }
+        try (Span flush = span.child("log.flush")) {
+            notificationLogWriter.flush();
+        }
+        notificationMetrics.messageDispatched(totalUsers);
+
+        int successful = context.successCount().get();
+        int failed = context.failureCount().get();
+        span.attribute("category", category.name())
+                .attribute("recipients", totalUsers)
+                .attribute("deliveries.succeeded", successful)
+                .attribute("deliveries.failed", failed);
+        log.info("Message {} processing completed for {} users subscribed to {}. Success: {}, Failures: {}",
+                message.getId(), totalUsers, category, successful, failed);
+
+        return new DispatchResult(totalUsers, successful, failed);
+    }
+
+    /**
+     * Splits the subscribers of a category into consecutive user id ranges of about
+     * {@code recipientsPerPartition} users each.
+     *
+     * @param category the category
+     * @param recipientsPerPartition subscribers per range
+     * @return the last user id of each range, ascending; empty when nobody is subscribed
+     */
+    public List<Long> partitionBounds(Category category, int recipientsPerPartition) {
+        return userRepository.findSubscriberIdBounds(category, recipientsPerPartition);
+    }
+
+    private void submitBatch(DispatchContext context, NotificationChannel channel, List<User> batch) {
+        List<User> users = deliveryDeduplicator.undelivered(context.message().getId(), channel, batch,
+                context.redelivery());
+        if (users.isEmpty()) {
+            return;
+        }
+        // Fail fast on a tripped channel without occupying one of its workers
+        if (resilientNotificationService.isCircuitOpen(channel)) {
+            for (User user : users) {
+                recordFailure(context, channel, user, ERROR_CIRCUIT_OPEN + channel, 0);
+            }
+            return;
+        }
+        context.inFlight().acquireUninterruptibly(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            retryScheduler.recordFirstAttempt(channel);
+        }
+        enqueue(context, channel, users, 1);
+    }
+
+    /**
+     * Hands a batch attempt to the channel executor. Each recipient keeps its in-flight permit
+     * across retries and releases it once its delivery has a final outcome.
+     */
+    private void enqueue(DispatchContext context, NotificationChannel channel, List<User> users, int attempt) {
+        Span batch = context.span().child("channel.batch")
+                .attribute("channel", channel.name())
+                .attribute("attempt", attempt)
+                .attribute("recipients", users.size());
+        try {
+            channelExecutorRegistry.executorFor(channel).execute(() -> attemptBatch(context, batch, channel, users, attempt));
+        } catch (RejectedExecutionException e) {
+            batch.error(ERROR_QUEUE_FULL + channel).end();
+            for (User user : users) {
+                complete(context, () -> recordFailure(context, channel, user, ERROR_QUEUE_FULL + channel, attempt - 1));
+            }
+        }
+    }
+
+    private void attemptBatch(DispatchContext context, Span batch, NotificationChannel channel, List<User> users,
+                              int attempt) {
+        Span send = batch.child("sender.send", Span.Kind.CLIENT)
+                .attribute("channel", channel.name())
+                .attribute("recipients", users.size());
+        List<NotificationSender.SendResult> results;
+        try {
+            results = resilientNotificationService.sendBatchWithCircuitBreaker(context.message(), users, channel);
+        } catch (RuntimeException e) {
+            send.error(e.getMessage()).end();
+            for (User user : users) {
+                complete(context, () -> recordFailure(context, channel, user, e.getMessage(), attempt));
+            }
+            batch.error(e.getMessage()).end();
+            return;
+        }
+        if (send.isSampled() && results.stream().noneMatch(NotificationSender.SendResult::isSuccess)) {
+            send.error(results.isEmpty() ? null : results.getFirst().failure().getMessage());
+        }
+        send.end();
+
+        boolean circuitOpen = resilientNotificationService.isCircuitOpen(channel);
+        List<User> delivered = new ArrayList<>(results.size());
+        List<User> retries = new ArrayList<>();
+        for (NotificationSender.SendResult result : results) {
+            User user = result.user();
+            if (result.isSuccess()) {
+                delivered.add(user);
+            } else if (result.failure().isRetryable() && !circuitOpen
+                    && retryScheduler.tryAcquireRetry(channel, attempt)) {
+                retries.add(user);
+            } else {
+                complete(context, () -> recordFailure(context, channel, user, result.failure().getMessage(), attempt));
+            }
+        }
+        // Keys are stored before the permits are released, so they exist once the dispatch has finished
+        deliveryDeduplicator.recordDelivered(context.message().getId(), channel,
+                delivered.stream().map(User::getId).toList());
+        for (User user : delivered) {
+            complete(context, () -> recordSuccess(context, channel, user, attempt));
+        }
+
+        if (!retries.isEmpty()) {
+            notificationMetrics.deliveriesRetried(channel, retries.size());
+            log.debug("Attempt {} of {} batch failed for {} recipient(s), retrying",
+                    attempt, channel, retries.size());
+            retryScheduler.scheduleRetry(attempt, () -> enqueue(context, channel, retries, attempt + 1));
+        }
+        batch.attribute("retried", retries.size()).end();
+    }
+
+    private void complete(DispatchContext context, Runnable outcome) {
+        try {
+            outcome.run();
+        } finally {
+            context.inFlight().release();
+        }
+    }
+
+    private void recordSuccess(DispatchContext context, NotificationChannel channel, User user, int attempts) {
+        NotificationLog successLog = NotificationLog.createSuccessLog(context.message(), user, channel, attempts);
+        saveNotificationLog(successLog);
+        notificationMetrics.deliveryCompleted(channel, true);
+
+        context.successCount().incrementAndGet();
+        log.debug("Successfully sent {} notification to user {}", channel, user.getName());
+    }
+
+    private void recordFailure(DispatchContext context, NotificationChannel channel, User user,
+                               String errorMessage, int attempts) {
+        NotificationLog failureLog = NotificationLog.createFailureLog(
+                context.message(), user, channel, errorMessage, attempts);
+        saveNotificationLog(failureLog);
+        notificationMetrics.deliveryCompleted(channel, false);
+
+        context.failureCount().incrementAndGet();
+        log.error("Failed to send {} notification to user {} after {} attempt(s): {}",
+                channel, user.getName(), attempts, errorMessage);
+    }
+
+    private void saveNotificationLog(NotificationLog log) {
+        notificationLogWriter.write(log);
+    }
+
+    private record DispatchContext(
+            Message message,
+            boolean redelivery,
+            Span span,
+            Semaphore inFlight,
+            AtomicInteger successCount,
+            AtomicInteger failureCount
+    ) {}
+
+    public record DispatchResult(
+            int totalUsers,
+            int successfulNotifications,
+            int failedNotifications
+    ) {}
+}
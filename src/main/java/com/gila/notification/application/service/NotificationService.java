@@ -1,172 +1,300 @@
 package com.gila.notification.application.service;
 
 import com.gila.notification.domain.model.*;
+import com.gila.notification.domain.port.in.ExportNotificationLogsUseCase;
+import com.gila.notification.domain.port.in.GetMessageStatusUseCase;
 import com.gila.notification.domain.port.in.GetNotificationLogsUseCase;
 import com.gila.notification.domain.port.in.SendMessageUseCase;
-import com.gila.notification.domain.port.out.NotificationSender;
-import com.gila.notification.domain.port.out.UserRepository;
-import com.gila.notification.domain.service.NotificationStrategy;
+import com.gila.notification.domain.port.out.DispatchJobRepository;
 import com.gila.notification.infrastructure.adapter.out.persistence.entity.MessageEntity;
 import com.gila.notification.infrastructure.adapter.out.persistence.entity.NotificationLogEntity;
 import com.gila.notification.infrastructure.adapter.out.persistence.repository.MessageRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogExportRepository;
 import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogSpecifications;
+import com.gila.notification.infrastructure.config.DispatchProperties;
+import com.gila.notification.infrastructure.config.NotificationTracer;
+import com.gila.notification.infrastructure.config.Span;
+import com.gila.notification.infrastructure.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Core service for handling notification sending and log management.
  * Implements business logic for message distribution and tracking.
+ * <p>
+ * Intake commits the message and its dispatch job together in one short transaction. The fan-out
+ * runs without a transaction, so no connection is held while gateways are called.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
-public class NotificationService implements SendMessageUseCase, GetNotificationLogsUseCase {
+public class NotificationService implements SendMessageUseCase, GetNotificationLogsUseCase, GetMessageStatusUseCase,
+        ExportNotificationLogsUseCase {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String CURSOR_SEPARATOR = "|";
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("sentAt"), Sort.Order.desc("id"));
 
-    private final UserRepository userRepository;
     private final MessageRepository messageRepository;
     private final NotificationLogRepository notificationLogRepository;
-    private final NotificationStrategy notificationStrategy;
+    private final NotificationLogExportRepository notificationLogExportRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationTracer notificationTracer;
+    private final DispatchJobRepository dispatchJobRepository;
+    private final DispatchJobWorker dispatchJobWorker;
+    private final DispatchProperties dispatchProperties;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * Dispatches on the caller thread. The message's job stays hidden from the workers for one
+     * lease, renewed by the dispatch heartbeat, and is removed once the fan-out finishes, so a
+     * crash mid-send still gets the message dispatched by a worker later.
+     * <p>
+     * A retried request whose idempotency key is already stored is not sent again; it gets the
+     * delivery counts logged so far for the first message.
+     */
     @Override
     public SendMessageResult sendMessage(SendMessageCommand command) {
         log.info("Processing message for category: {}", command.category());
 
-        if (command.content() == null || command.content().trim().isEmpty()) {
-            throw new IllegalArgumentException("Message content cannot be empty");
-        }
+        try (Span trace = notificationTracer.startTrace("sendMessage")) {
+            Intake intake;
+            try (Span persist = trace.child("message.persist")) {
+                intake = persistMessage(command, true);
+            }
+            Message message = intake.message();
+            trace.messageId(message.getId());
+            if (!intake.created()) {
+                return replayedResult(message.getId());
+            }
 
-        MessageEntity messageEntity = new MessageEntity();
-        messageEntity.setCategory(command.category());
-        messageEntity.setContent(command.content());
-        messageEntity = messageRepository.save(messageEntity);
+            DispatchJobRepository.Job job = DispatchJobRepository.Job.held(message.getId());
+            NotificationDispatcher.DispatchResult result;
+            try (DispatchJobWorker.HeldLease held = dispatchJobWorker.hold(job);
+                 Span dispatch = trace.child("dispatch")) {
+                result = notificationDispatcher.dispatch(message, held::isHeld, dispatch);
+            }
+            if (!dispatchJobRepository.complete(job)) {
+                log.warn("Lost the lease on the job of message {}, a worker finishes its dispatch", message.getId());
+            }
+
+            return new SendMessageResult(
+                    message.getId(),
+                    result.totalUsers(),
+                    result.successfulNotifications(),
+                    result.failedNotifications()
+            );
+        }
+    }
 
-        Message message = mapToMessage(messageEntity);
+    @Override
+    public SubmitMessageResult submitMessage(SendMessageCommand command) {
+        log.info("Accepting message for asynchronous delivery, category: {}", command.category());
 
-        List<User> subscribedUsers = userRepository.findBySubscribedCategory(command.category());
-        log.info("Found {} users subscribed to category {}", subscribedUsers.size(), command.category());
+        Message message = persistMessage(command, false).message();
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failureCount = new AtomicInteger(0);
+        return new SubmitMessageResult(message.getId());
+    }
 
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
+    @Override
+    @Transactional(readOnly = true)
+    public MessageStatus getMessageStatus(Long messageId) {
+        MessageEntity messageEntity = messageRepository.findById(messageId)
+                .orElseThrow(() -> new ResourceNotFoundException("Message not found: " + messageId));
 
-        for (User user : subscribedUsers) {
-            for (NotificationChannel channel : user.getChannels()) {
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    sendNotificationToUser(message, user, channel, successCount, failureCount);
-                });
-                futures.add(future);
+        long successful = 0;
+        long failed = 0;
+        long pending = 0;
+        for (NotificationLogRepository.StatusCount count : notificationLogRepository.countByStatusForMessage(messageId)) {
+            switch (count.getStatus()) {
+                case SUCCESS -> successful = count.getTotal();
+                case FAILED -> failed = count.getTotal();
+                case PENDING -> pending = count.getTotal();
             }
         }
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-
-        log.info("Message processing completed. Success: {}, Failures: {}",
-                successCount.get(), failureCount.get());
-
-        return new SendMessageResult(
-                message.getId(),
-                subscribedUsers.size(),
-                successCount.get(),
-                failureCount.get()
+        return new MessageStatus(
+                messageEntity.getId(),
+                messageEntity.getCategory(),
+                messageEntity.getCreatedAt(),
+                dispatchJobRepository.isPending(messageId),
+                successful,
+                failed,
+                pending
         );
     }
 
-    private void sendNotificationToUser(Message message, User user, NotificationChannel channel,
-                                         AtomicInteger successCount, AtomicInteger failureCount) {
-        try {
-            NotificationSender sender = notificationStrategy.getSender(channel);
-            sender.send(message, user);
-
-            NotificationLog successLog = NotificationLog.createSuccessLog(message, user, channel);
-            saveNotificationLog(successLog);
-
-            successCount.incrementAndGet();
-            log.debug("Successfully sent {} notification to user {}", channel, user.getName());
-
-        } catch (Exception e) {
-            NotificationLog failureLog = NotificationLog.createFailureLog(message, user, channel, e.getMessage());
-            saveNotificationLog(failureLog);
+    /**
+     * Inserts the message and its dispatch job in one transaction, unless a message with the
+     * command's idempotency key exists. The unique index on the key settles concurrent retries:
+     * the losing insert rolls back and returns the winner's message.
+     *
+     * @param held whether the caller dispatches the message itself, hiding the job from the
+     *             dispatch workers for one lease
+     */
+    private Intake persistMessage(SendMessageCommand command, boolean held) {
+        if (command.content() == null || command.content().trim().isEmpty()) {
+            throw new IllegalArgumentException("Message content cannot be empty");
+        }
+        String idempotencyKey = command.idempotencyKey();
+        if (idempotencyKey != null) {
+            Optional<MessageEntity> existing = messageRepository.findByIdempotencyKey(idempotencyKey);
+            if (existing.isPresent()) {
+                return replayed(existing.get());
+            }
+        }
 
-            failureCount.incrementAndGet();
-            log.error("Failed to send {} notification to user {}: {}",
-                    channel, user.getName(), e.getMessage());
+        MessageEntity messageEntity = new MessageEntity();
+        messageEntity.setCategory(command.category());
+        messageEntity.setContent(command.content());
+        messageEntity.setIdempotencyKey(idempotencyKey);
+        try {
+            MessageEntity saved = transactionTemplate.execute(status -> {
+                MessageEntity entity = messageRepository.save(messageEntity);
+                if (held) {
+                    Duration lease = Duration.ofMillis(dispatchProperties.getLeaseMs());
+                    dispatchJobRepository.enqueueHeld(entity.getId(), lease);
+                } else {
+                    dispatchJobRepository.enqueue(entity.getId(), Duration.ZERO);
+                }
+                return entity;
+            });
+            return new Intake(saved.toDomain(), true);
+        } catch (DataIntegrityViolationException e) {
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            return replayed(messageRepository.findByIdempotencyKey(idempotencyKey).orElseThrow(() -> e));
         }
     }
 
-    private void saveNotificationLog(NotificationLog log) {
-        NotificationLogEntity entity = mapToEntity(log);
-        notificationLogRepository.save(entity);
+    private Intake replayed(MessageEntity existing) {
+        log.info("Request with idempotency key {} already created message {}",
+                existing.getIdempotencyKey(), existing.getId());
+        return new Intake(existing.toDomain(), false);
+    }
+
+    private SendMessageResult replayedResult(Long messageId) {
+        int successful = 0;
+        int failed = 0;
+        for (NotificationLogRepository.StatusCount count : notificationLogRepository.countByStatusForMessage(messageId)) {
+            switch (count.getStatus()) {
+                case SUCCESS -> successful = (int) count.getTotal();
+                case FAILED -> failed = (int) count.getTotal();
+                default -> { }
+            }
+        }
+        int recipients = (int) notificationLogRepository.countRecipientsForMessage(messageId);
+        return new SendMessageResult(messageId, recipients, successful, failed);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<NotificationLog> getAllLogs() {
         List<NotificationLogEntity> entities = notificationLogRepository.findAllByOrderBySentAtDesc();
-        return entities.stream().map(this::mapToNotificationLog).toList();
+        return entities.stream().map(NotificationLogEntity::toDomain).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<NotificationLog> getLogsByUserId(Long userId) {
         List<NotificationLogEntity> entities = notificationLogRepository.findByUserIdOrderBySentAtDesc(userId);
-        return entities.stream().map(this::mapToNotificationLog).toList();
+        return entities.stream().map(NotificationLogEntity::toDomain).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<NotificationLog> getLogsByMessageId(Long messageId) {
         List<NotificationLogEntity> entities = notificationLogRepository.findByMessageIdOrderBySentAtDesc(messageId);
-        return entities.stream().map(this::mapToNotificationLog).toList();
+        return entities.stream().map(NotificationLogEntity::toDomain).toList();
     }
 
-    private Message mapToMessage(MessageEntity entity) {
-        return Message.builder()
-                .id(entity.getId())
-                .category(entity.getCategory())
-                .content(entity.getContent())
-                .createdAt(entity.getCreatedAt())
-                .build();
+    /**
+     * Uses keyset pagination on (sentAt, id) when a cursor is given, so every page costs
+     * the same as the first. Offset pages are still served for clients that pass only
+     * {@code page}, and they also return a cursor to continue from.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public LogPage findLogs(LogQuery query) {
+        if (query.size() < 1 || query.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Specification<NotificationLogEntity> specification = NotificationLogSpecifications.matching(query.filter());
+
+        List<NotificationLogEntity> entities;
+        boolean hasNext;
+        if (query.cursor() == null && query.page() > 0) {
+            // The page request's sort replaces the query's, so the order goes on the request
+            Slice<NotificationLogEntity> slice = notificationLogRepository.findBy(specification, q -> q
+                    .slice(PageRequest.of(query.page(), query.size(), NEWEST_FIRST)));
+            entities = slice.getContent();
+            hasNext = slice.hasNext();
+        } else {
+            ScrollPosition position = query.cursor() == null
+                    ? ScrollPosition.keyset()
+                    : decodeCursor(query.cursor());
+            Window<NotificationLogEntity> window = notificationLogRepository.findBy(specification, q -> q
+                    .sortBy(NEWEST_FIRST)
+                    .limit(query.size())
+                    .scroll(position));
+            entities = window.getContent();
+            hasNext = window.hasNext();
+        }
+
+        List<NotificationLog> logs = entities.stream().map(NotificationLogEntity::toDomain).toList();
+        String nextCursor = hasNext && !entities.isEmpty() ? encodeCursor(entities.getLast()) : null;
+        return new LogPage(logs, nextCursor);
+    }
+
+    /**
+     * Holds a read-only transaction for the whole export so the JDBC cursor stays open.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportLogs(LogFilter filter, Consumer<NotificationLog> consumer) {
+        return notificationLogExportRepository.streamMatching(filter, consumer);
     }
 
-    private NotificationLogEntity mapToEntity(NotificationLog log) {
-        NotificationLogEntity entity = new NotificationLogEntity();
-        entity.setMessageId(log.getMessageId());
-        entity.setMessageContent(log.getMessageContent());
-        entity.setMessageCategory(log.getMessageCategory());
-        entity.setUserId(log.getUserId());
-        entity.setUserName(log.getUserName());
-        entity.setUserEmail(log.getUserEmail());
-        entity.setUserPhone(log.getUserPhone());
-        entity.setChannel(log.getChannel());
-        entity.setStatus(log.getStatus());
-        entity.setSentAt(log.getSentAt());
-        entity.setErrorMessage(log.getErrorMessage());
-        return entity;
+    private String encodeCursor(NotificationLogEntity last) {
+        String key = last.getSentAt() + CURSOR_SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
     }
 
-    private NotificationLog mapToNotificationLog(NotificationLogEntity entity) {
-        return NotificationLog.builder()
-                .id(entity.getId())
-                .messageId(entity.getMessageId())
-                .messageContent(entity.getMessageContent())
-                .messageCategory(entity.getMessageCategory())
-                .userId(entity.getUserId())
-                .userName(entity.getUserName())
-                .userEmail(entity.getUserEmail())
-                .userPhone(entity.getUserPhone())
-                .channel(entity.getChannel())
-                .status(entity.getStatus())
-                .sentAt(entity.getSentAt())
-                .errorMessage(entity.getErrorMessage())
-                .build();
+    private ScrollPosition decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(CURSOR_SEPARATOR);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("sentAt", LocalDateTime.parse(key.substring(0, separator)));
+            keys.put("id", Long.parseLong(key.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
-}
\ No newline at end of file
+
+    private record Intake(Message message, boolean created) {}
+}
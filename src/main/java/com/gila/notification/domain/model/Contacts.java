@@ -0,0 +1,43 @@
+package com.gila.notification.domain.model;
+
+import java.util.regex.Pattern;
+
+/**
+ * Validation of user contact details, with the patterns compiled once.
+ * Users validate their contacts when built or loaded, so senders only read the result.
+ */
+public final class Contacts {
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final Pattern PHONE_NUMBER = Pattern.compile("\\+?[1-9]\\d{1,14}");
+
+    private Contacts() {
+    }
+
+    public static boolean isValidEmail(String email) {
+        return email != null && EMAIL.matcher(email).matches();
+    }
+
+    public static boolean isValidPhoneNumber(String phoneNumber) {
+        return phoneNumber != null && PHONE_NUMBER.matcher(phoneNumber).matches();
+    }
+
+    /**
+     * Computes the channels the contact details can reach. Push is always reachable because
+     * device tokens are derived from the user id.
+     *
+     * @param email the email address, may be null
+     * @param phoneNumber the phone number, may be null
+     * @return a mask over {@link NotificationChannel} ordinals
+     */
+    static int reachableMask(String email, String phoneNumber) {
+        int mask = EnumMasks.bit(NotificationChannel.PUSH_NOTIFICATION);
+        if (isValidEmail(email)) {
+            mask |= EnumMasks.bit(NotificationChannel.EMAIL);
+        }
+        if (isValidPhoneNumber(phoneNumber)) {
+            mask |= EnumMasks.bit(NotificationChannel.SMS);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,48 @@
+package com.gila.notification.domain.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Converts between enum sets and {@code int} bit masks keyed by ordinal.
+ * Only usable for enums with at most 32 constants.
+ */
+public final class EnumMasks {
+
+    private EnumMasks() {
+    }
+
+    /**
+     * Gets the single bit for an enum constant.
+     */
+    public static int bit(Enum<?> value) {
+        return 1 << value.ordinal();
+    }
+
+    /**
+     * Encodes a set as a mask; null encodes as an empty mask.
+     */
+    public static <E extends Enum<E>> int toMask(Set<E> values) {
+        int mask = 0;
+        if (values != null) {
+            for (E value : values) {
+                mask |= bit(value);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Decodes a mask into an unmodifiable set.
+     */
+    public static <E extends Enum<E>> Set<E> toSet(int mask, Class<E> type) {
+        EnumSet<E> values = EnumSet.noneOf(type);
+        for (E value : type.getEnumConstants()) {
+            if ((mask & bit(value)) != 0) {
+                values.add(value);
+            }
+        }
+        return Collections.unmodifiableSet(values);
+    }
+}
@@ -1,11 +1,18 @@
 package com.gila.notification.domain.model;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Domain model representing a notification message.
@@ -21,6 +28,23 @@ public class Message {
     private String content;
     private LocalDateTime createdAt;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final transient Map<NotificationChannel, RenderedMessage> renderings = new ConcurrentHashMap<>();
+
+    /**
+     * Renders the message for a channel on first use and reuses that rendering for every
+     * later recipient, so template work is done once per message and channel.
+     *
+     * @param channel the channel the rendering is for
+     * @param renderer renders the message when no rendering is cached yet
+     * @return the rendering
+     */
+    public RenderedMessage renderFor(NotificationChannel channel, Function<Message, RenderedMessage> renderer) {
+        return renderings.computeIfAbsent(channel, ignored -> renderer.apply(this));
+    }
+
     /**
      * Factory method to create a new message.
      *
@@ -28,6 +28,7 @@ public class NotificationLog {
     private NotificationStatus status;
     private LocalDateTime sentAt;
     private String errorMessage;
+    private int attempts;
 
     /**
      * Creates a success log entry for a delivered notification.
@@ -35,9 +36,11 @@ public class NotificationLog {
      * @param message the message that was sent
      * @param user the recipient user
      * @param channel the notification channel used
+     * @param attempts the number of attempts it took, including the successful one
      * @return a new success NotificationLog
      */
-    public static NotificationLog createSuccessLog(Message message, User user, NotificationChannel channel) {
+    public static NotificationLog createSuccessLog(Message message, User user, NotificationChannel channel,
+                                                   int attempts) {
         return NotificationLog.builder()
                 .messageId(message.getId())
                 .messageContent(message.getContent())
@@ -49,6 +52,7 @@ public class NotificationLog {
                 .channel(channel)
                 .status(NotificationStatus.SUCCESS)
                 .sentAt(LocalDateTime.now())
+                .attempts(attempts)
                 .build();
     }
 
@@ -59,9 +63,11 @@ public class NotificationLog {
      * @param user the intended recipient
      * @param channel the notification channel attempted
      * @param errorMessage the error description
+     * @param attempts the number of attempts made before giving up
      * @return a new failure NotificationLog
      */
-    public static NotificationLog createFailureLog(Message message, User user, NotificationChannel channel, String errorMessage) {
+    public static NotificationLog createFailureLog(Message message, User user, NotificationChannel channel,
+                                                   String errorMessage, int attempts) {
         return NotificationLog.builder()
                 .messageId(message.getId())
                 .messageContent(message.getContent())
@@ -74,6 +80,7 @@ public class NotificationLog {
                 .status(NotificationStatus.FAILED)
                 .sentAt(LocalDateTime.now())
                 .errorMessage(errorMessage)
+                .attempts(attempts)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.gila.notification.domain.model;
+
+/**
+ * A message rendered for one channel, split around the slot that takes the recipient address.
+ * Rendering happens once per message and channel; each recipient only costs one concatenation.
+ *
+ * @param head the rendered text before the recipient slot
+ * @param tail the rendered text after the recipient slot
+ */
+public record RenderedMessage(String head, String tail) {
+
+    /**
+     * Fills the recipient slot.
+     *
+     * @param recipient the recipient address
+     * @return the payload for that recipient
+     */
+    public String forRecipient(String recipient) {
+        return head + recipient + tail;
+    }
+}
@@ -1,27 +1,79 @@
 package com.gila.notification.domain.model;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.util.Set;
 
 /**
  * Domain model representing a user in the notification system.
  * Contains user details and notification preferences.
+ * Preferences are held as bit masks over the enum ordinals, so membership checks
+ * are a single AND; the set-based accessors decode them on demand.
+ * Contact details are validated whenever they are set, and the result is kept as a mask of
+ * reachable channels, so senders never run the validation patterns per delivery.
  */
 @Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
 public class User {
     private Long id;
     private String name;
     private String email;
     private String phoneNumber;
-    private Set<Category> subscribedCategories;
-    private Set<NotificationChannel> channels;
+    private int categoryMask;
+    private int channelMask;
+    @Setter(AccessLevel.NONE)
+    private int contactMask;
+
+    public User() {
+        this.contactMask = Contacts.reachableMask(null, null);
+    }
+
+    public User(Long id, String name, String email, String phoneNumber,
+                Set<Category> subscribedCategories, Set<NotificationChannel> channels) {
+        this(id, name, email, phoneNumber, EnumMasks.toMask(subscribedCategories), EnumMasks.toMask(channels));
+    }
+
+    /**
+     * Creates a user from preference masks, deriving the reachable channels from the contact details.
+     */
+    @Builder
+    User(Long id, String name, String email, String phoneNumber, int categoryMask, int channelMask) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.categoryMask = categoryMask;
+        this.channelMask = channelMask;
+        this.contactMask = Contacts.reachableMask(email, phoneNumber);
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+        this.contactMask = Contacts.reachableMask(email, phoneNumber);
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+        this.contactMask = Contacts.reachableMask(email, phoneNumber);
+    }
+
+    public Set<Category> getSubscribedCategories() {
+        return EnumMasks.toSet(categoryMask, Category.class);
+    }
+
+    public void setSubscribedCategories(Set<Category> subscribedCategories) {
+        this.categoryMask = EnumMasks.toMask(subscribedCategories);
+    }
+
+    public Set<NotificationChannel> getChannels() {
+        return EnumMasks.toSet(channelMask, NotificationChannel.class);
+    }
+
+    public void setChannels(Set<NotificationChannel> channels) {
+        this.channelMask = EnumMasks.toMask(channels);
+    }
 
     /**
      * Checks if the user is subscribed to a specific category.
@@ -30,7 +82,7 @@ public class User {
      * @return true if subscribed, false otherwise
      */
     public boolean isSubscribedTo(Category category) {
-        return subscribedCategories != null && subscribedCategories.contains(category);
+        return (categoryMask & EnumMasks.bit(category)) != 0;
     }
 
     /**
@@ -40,7 +92,17 @@ public class User {
      * @return true if enabled, false otherwise
      */
     public boolean hasChannel(NotificationChannel channel) {
-        return channels != null && channels.contains(channel);
+        return (channelMask & EnumMasks.bit(channel)) != 0;
+    }
+
+    /**
+     * Checks if the user's contact details for a channel passed validation.
+     *
+     * @param channel the channel to check
+     * @return true if a delivery on the channel can be addressed
+     */
+    public boolean hasValidContactFor(NotificationChannel channel) {
+        return (contactMask & EnumMasks.bit(channel)) != 0;
     }
 
     /**
@@ -50,6 +112,19 @@ public class User {
      * @return true if user is subscribed and has channels enabled
      */
     public boolean shouldReceiveNotification(Category category) {
-        return isSubscribedTo(category) && channels != null && !channels.isEmpty();
+        return isSubscribedTo(category) && channelMask != 0;
+    }
+
+    public static class UserBuilder {
+
+        public UserBuilder subscribedCategories(Set<Category> subscribedCategories) {
+            this.categoryMask = EnumMasks.toMask(subscribedCategories);
+            return this;
+        }
+
+        public UserBuilder channels(Set<NotificationChannel> channels) {
+            this.channelMask = EnumMasks.toMask(channels);
+            return this;
+        }
     }
-}
\ No newline at end of file
+}
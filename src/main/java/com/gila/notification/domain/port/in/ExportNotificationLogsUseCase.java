@@ -0,0 +1,18 @@
+package com.gila.notification.domain.port.in;
+
+import com.gila.notification.domain.model.NotificationLog;
+
+import java.util.function.Consumer;
+
+public interface ExportNotificationLogsUseCase {
+
+    /**
+     * Streams every log matching the filter to the consumer, in insertion order,
+     * without materializing the result set.
+     *
+     * @param filter optional filters; null fields match every log
+     * @param consumer receives each log as it is read
+     * @return the number of exported logs
+     */
+    long exportLogs(GetNotificationLogsUseCase.LogFilter filter, Consumer<NotificationLog> consumer);
+}
@@ -0,0 +1,19 @@
+package com.gila.notification.domain.port.in;
+
+import com.gila.notification.domain.model.Category;
+
+import java.time.LocalDateTime;
+
+public interface GetMessageStatusUseCase {
+    MessageStatus getMessageStatus(Long messageId);
+
+    record MessageStatus(
+            Long messageId,
+            Category category,
+            LocalDateTime createdAt,
+            boolean inProgress,
+            long successfulNotifications,
+            long failedNotifications,
+            long pendingNotifications
+    ) {}
+}
@@ -1,6 +1,9 @@
 package com.gila.notification.domain.port.in;
 
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
 import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.NotificationStatus;
 
 import java.util.List;
 
@@ -8,4 +11,34 @@ public interface GetNotificationLogsUseCase {
     List<NotificationLog> getAllLogs();
     List<NotificationLog> getLogsByUserId(Long userId);
     List<NotificationLog> getLogsByMessageId(Long messageId);
-}
\ No newline at end of file
+
+    /**
+     * Finds logs newest first, filtered and paginated in the database.
+     */
+    LogPage findLogs(LogQuery query);
+
+    /**
+     * Optional filters; null fields match every log.
+     */
+    record LogFilter(
+            Long userId,
+            NotificationStatus status,
+            NotificationChannel channel,
+            Category category
+    ) {}
+
+    /**
+     * A page request. When {@code cursor} is set it wins over {@code page}.
+     */
+    record LogQuery(
+            LogFilter filter,
+            String cursor,
+            int page,
+            int size
+    ) {}
+
+    record LogPage(
+            List<NotificationLog> logs,
+            String nextCursor
+    ) {}
+}
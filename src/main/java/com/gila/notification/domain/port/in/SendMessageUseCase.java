@@ -5,10 +5,24 @@ import com.gila.notification.domain.model.Category;
 public interface SendMessageUseCase {
     SendMessageResult sendMessage(SendMessageCommand command);
 
+    /**
+     * Persists the message together with its dispatch job, leaving delivery to the dispatch workers.
+     */
+    SubmitMessageResult submitMessage(SendMessageCommand command);
+
+    /**
+     * @param idempotencyKey client key of the request, or null; repeated keys return the first message
+     */
     record SendMessageCommand(
             Category category,
-            String content
-    ) {}
+            String content,
+            String idempotencyKey
+    ) {
+
+        public SendMessageCommand(Category category, String content) {
+            this(category, content, null);
+        }
+    }
 
     record SendMessageResult(
             Long messageId,
@@ -16,4 +30,8 @@ public interface SendMessageUseCase {
             int successfulNotifications,
             int failedNotifications
     ) {}
-}
\ No newline at end of file
+
+    record SubmitMessageResult(
+            Long messageId
+    ) {}
+}
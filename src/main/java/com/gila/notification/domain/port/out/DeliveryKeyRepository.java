@@ -0,0 +1,32 @@
+package com.gila.notification.domain.port.out;
+
+import com.gila.notification.domain.model.NotificationChannel;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Keys of the deliveries that reached their provider, one per message, user and channel.
+ * A unique index guarantees each key is stored once.
+ */
+public interface DeliveryKeyRepository {
+
+    /**
+     * Finds which of the given users already received a message on a channel.
+     *
+     * @param messageId the message ID
+     * @param channel the channel
+     * @param userIds the users to check
+     * @return the subset of {@code userIds} with a stored delivery key
+     */
+    Set<Long> findDelivered(Long messageId, NotificationChannel channel, Collection<Long> userIds);
+
+    /**
+     * Stores delivery keys in one batch. Keys that already exist are left as they are.
+     *
+     * @param messageId the message ID
+     * @param channel the channel
+     * @param userIds the users the message was delivered to
+     */
+    void saveAll(Long messageId, NotificationChannel channel, Collection<Long> userIds);
+}
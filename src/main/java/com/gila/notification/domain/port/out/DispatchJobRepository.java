@@ -0,0 +1,94 @@
+package com.gila.notification.domain.port.out;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outbox of messages waiting to be fanned out. A job becomes due at its available time and is
+ * hidden from other workers for the length of a lease once claimed, so a worker that dies
+ * mid-dispatch only delays its jobs.
+ * <p>
+ * Each claim bumps the job's attempt count, which serves as its lease version. Renewing,
+ * rescheduling and completing a job only succeed for the current version, so once a lease has
+ * expired and another worker has claimed the job, the old holder can no longer touch it.
+ */
+public interface DispatchJobRepository {
+
+    /**
+     * Adds the dispatch job of a message. Called in the transaction that inserts the message.
+     *
+     * @param messageId the message ID
+     * @param delay how long the job stays hidden from workers
+     */
+    void enqueue(Long messageId, Duration delay);
+
+    /**
+     * Adds the dispatch job of a message the caller dispatches itself. The job counts as claimed
+     * once, as {@link Job#held}, so a worker that claims it after the caller's lease ran out
+     * treats it as a redelivery. Called in the transaction that inserts the message.
+     *
+     * @param messageId the message ID
+     * @param lease how long the job stays hidden from workers
+     */
+    void enqueueHeld(Long messageId, Duration lease);
+
+    /**
+     * Claims due jobs in one short transaction, skipping rows locked by other workers.
+     *
+     * @param workerId the claiming worker, for diagnostics
+     * @param limit the maximum number of jobs to claim
+     * @param lease how long the claimed jobs stay hidden from other workers
+     * @return the claimed jobs, oldest first
+     */
+    List<Job> claim(String workerId, int limit, Duration lease);
+
+    /**
+     * Extends the lease on a job that is still held.
+     *
+     * @return false if the job has been claimed again or completed
+     */
+    boolean renew(Job job, Duration lease);
+
+    /**
+     * Removes the job of a dispatched message if its lease is still held.
+     *
+     * @return false if the job has been claimed again or completed by another worker
+     */
+    boolean complete(Job job);
+
+    /**
+     * Makes a job due again after a delay, unless another worker has claimed it meanwhile.
+     */
+    void retryLater(Job job, Duration delay);
+
+    /**
+     * Checks whether a message still has a dispatch job or undelivered partitions.
+     *
+     * @param messageId the message ID
+     * @return true if the message has not finished dispatching
+     */
+    boolean isPending(Long messageId);
+
+    /**
+     * A claimed dispatch job.
+     *
+     * @param messageId the message ID
+     * @param attempts the claims of this job so far, this one included
+     */
+    record Job(Long messageId, int attempts) {
+
+        /**
+         * The job as added by {@link #enqueueHeld}, held by the intake that inserted it.
+         */
+        public static Job held(Long messageId) {
+            return new Job(messageId, 1);
+        }
+
+        /**
+         * Whether an earlier claim may already have delivered part of the message.
+         */
+        public boolean isRedelivery() {
+            return attempts > 1;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.gila.notification.domain.port.out;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * User id ranges of a message's audience, shared by the dispatch workers of every node.
+ * <p>
+ * A claimed partition carries a lease that its holder renews while delivering. Each claim bumps
+ * the partition's lease version, and renewals and completion only succeed for the current
+ * version. So once a lease has expired and another worker has taken the partition, the old holder
+ * can neither extend nor complete it.
+ */
+public interface DispatchPartitionRepository {
+
+    /**
+     * Creates the partitions of a message, all due at once.
+     *
+     * @param messageId the message ID
+     * @param lastUserIds the last user id of each consecutive range, ascending
+     * @param redelivery whether part of the audience may already have been delivered, which makes
+     *                   even the first claim of each partition a redelivery
+     */
+    void createAll(Long messageId, List<Long> lastUserIds, boolean redelivery);
+
+    /**
+     * Claims partitions that are unleased or whose lease has expired, skipping rows locked by other workers.
+     *
+     * @param owner the claiming worker
+     * @param limit the maximum number of partitions to claim
+     * @param lease how long the partitions stay leased without a renewal
+     * @return the claimed partitions
+     */
+    List<Partition> claim(String owner, int limit, Duration lease);
+
+    /**
+     * Extends a lease that is still held.
+     *
+     * @return false if the lease has been taken over
+     */
+    boolean renew(Partition partition, String owner, Duration lease);
+
+    /**
+     * Removes a delivered partition if its lease is still held.
+     *
+     * @return false if the lease has been taken over
+     */
+    boolean complete(Partition partition, String owner);
+
+    /**
+     * A leased range of recipients: the subscribers after {@code afterUserId} up to and including {@code lastUserId}.
+     *
+     * @param afterUserId the last user id of the previous range, or null for the first range
+     */
+    record Partition(
+            Long messageId,
+            int partitionNo,
+            Long afterUserId,
+            long lastUserId,
+            long leaseVersion
+    ) {
+
+        /**
+         * Whether an earlier lease holder may already have delivered part of the range.
+         */
+        public boolean isRedelivery() {
+            return leaseVersion > 1;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.gila.notification.domain.port.out;
+
+import com.gila.notification.domain.model.NotificationLog;
+
+public interface NotificationLogWriter {
+    /**
+     * Records a delivery outcome. Implementations may buffer the write.
+     */
+    void write(NotificationLog log);
+
+    /**
+     * Persists everything written so far before returning.
+     */
+    void flush();
+}
@@ -4,17 +4,75 @@ import com.gila.notification.domain.model.Message;
 import com.gila.notification.domain.model.NotificationChannel;
 import com.gila.notification.domain.model.User;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface NotificationSender {
     void send(Message message, User user) throws NotificationException;
     NotificationChannel getChannel();
 
+    /**
+     * Sends one message to several recipients. Providers that accept multi-recipient requests
+     * override this to make one call per batch; the default sends to each recipient in turn.
+     * A failure for one recipient never fails the others.
+     *
+     * @param message the message to send
+     * @param users the recipients
+     * @return one outcome per recipient, in the order of {@code users}
+     */
+    default List<SendResult> sendBatch(Message message, List<User> users) {
+        List<SendResult> results = new ArrayList<>(users.size());
+        for (User user : users) {
+            try {
+                send(message, user);
+                results.add(SendResult.success(user));
+            } catch (NotificationException e) {
+                results.add(SendResult.failure(user, e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Outcome of a batch send for one recipient; {@code failure} is null on success.
+     */
+    record SendResult(User user, NotificationException failure) {
+
+        public static SendResult success(User user) {
+            return new SendResult(user, null);
+        }
+
+        public static SendResult failure(User user, NotificationException failure) {
+            return new SendResult(user, failure);
+        }
+
+        public boolean isSuccess() {
+            return failure == null;
+        }
+    }
+
     class NotificationException extends Exception {
+        private final boolean retryable;
+
         public NotificationException(String message) {
-            super(message);
+            this(message, true);
         }
 
         public NotificationException(String message, Throwable cause) {
             super(message, cause);
+            this.retryable = true;
+        }
+
+        /**
+         * @param retryable false when trying again cannot succeed, such as for invalid recipient data
+         */
+        public NotificationException(String message, boolean retryable) {
+            super(message);
+            this.retryable = retryable;
+        }
+
+        public boolean isRetryable() {
+            return retryable;
         }
     }
-}
\ No newline at end of file
+}
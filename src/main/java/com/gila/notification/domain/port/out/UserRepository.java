@@ -3,11 +3,57 @@ package com.gila.notification.domain.port.out;
 import com.gila.notification.domain.model.Category;
 import com.gila.notification.domain.model.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
     Optional<User> findById(Long id);
     List<User> findAll();
+
+    /**
+     * Finds the users subscribed to a category.
+     *
+     * @param category the category
+     * @return a read-only view of the subscribers
+     */
     List<User> findBySubscribedCategory(Category category);
+
+    /**
+     * Finds one keyset page of subscribers, ordered by id.
+     * Callers walk a whole audience by passing the last id of each page until a short page is returned.
+     *
+     * @param category the category
+     * @param afterId the last id of the previous page, or null for the first page
+     * @param limit the maximum number of users to return
+     * @return the next subscribers after {@code afterId}
+     */
+    List<User> findSubscribersAfter(Category category, Long afterId, int limit);
+
+    /**
+     * Splits the subscribers of a category into consecutive id ranges without loading any user.
+     *
+     * @param category the category
+     * @param rangeSize subscribers per range
+     * @return the id of every {@code rangeSize}-th subscriber and of the last one, ascending;
+     *         empty when nobody is subscribed
+     */
+    List<Long> findSubscriberIdBounds(Category category, int rangeSize);
+
+    /**
+     * Creates or replaces a user and updates the subscription index.
+     *
+     * @param user the user, with its id set
+     * @return the stored user
+     */
+    User save(User user);
+
+    /**
+     * Creates or replaces many users, rebuilding the subscription index once.
+     *
+     * @param users the users, each with its id set
+     */
+    void saveAll(Collection<User> users);
+
+    void deleteById(Long id);
 }
\ No newline at end of file
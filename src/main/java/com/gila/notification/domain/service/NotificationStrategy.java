@@ -4,7 +4,6 @@ import com.gila.notification.domain.model.NotificationChannel;
 import com.gila.notification.domain.port.out.NotificationSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
@@ -16,7 +15,6 @@ import java.util.stream.Collectors;
  * Strategy pattern implementation for selecting notification senders.
  * Manages the mapping between notification channels and their senders.
  */
-@Component
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationStrategy {
@@ -5,22 +5,41 @@ import com.gila.notification.domain.model.Message;
 import com.gila.notification.domain.model.NotificationChannel;
 import com.gila.notification.domain.model.User;
 import com.gila.notification.domain.port.out.NotificationSender;
-import com.gila.notification.infrastructure.config.CircuitBreakerConfiguration.NotificationCircuitBreaker;
+import com.gila.notification.infrastructure.config.CircuitBreakerRegistry;
+import com.gila.notification.infrastructure.config.NotificationCircuitBreaker;
+import com.gila.notification.infrastructure.config.NotificationMetrics;
+import com.gila.notification.infrastructure.config.RateLimiter;
+import com.gila.notification.infrastructure.config.RateLimiterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Resilient notification service with circuit breaker and retry mechanisms.
- * Provides fault-tolerant notification delivery.
+ * Provides fault-tolerant notification delivery with one breaker per channel.
+ * <p>
+ * Every send first passes the channel's {@link RateLimiter}: the calling worker waits for its
+ * permits before the provider is called, so a throttled channel slows delivery down instead of
+ * failing it. The wait happens before the breaker starts timing the call and is never mistaken
+ * for a slow provider.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ResilientNotificationService {
 
+    private static final String ERROR_CIRCUIT_OPEN = "Circuit breaker open for channel ";
+    private static final String ERROR_USER_CAP = "Send rate cap reached for user ";
+    private static final String ERROR_INTERRUPTED = "Interrupted while waiting for a send permit";
+
     private final NotificationStrategy notificationStrategy;
-    private final NotificationCircuitBreaker circuitBreaker;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final NotificationMetrics notificationMetrics;
+    private final RateLimiterRegistry rateLimiterRegistry;
 
     /**
      * Sends a notification with circuit breaker protection.
@@ -28,31 +47,43 @@ public class ResilientNotificationService {
      * @param message the message to send
      * @param user the recipient
      * @param channel the notification channel
-     * @throws NotificationSender.NotificationException if sending fails
+     * @throws NotificationSender.NotificationException if sending fails or the channel's circuit is open
      */
     public void sendWithCircuitBreaker(Message message, User user, NotificationChannel channel)
             throws NotificationSender.NotificationException {
 
-        // Check circuit breaker state
+        if (!rateLimiterRegistry.tryAcquireForUser(channel, user.getId())) {
+            throw new NotificationSender.NotificationException(ERROR_USER_CAP + user.getId(), false);
+        }
+        try {
+            rateLimiterRegistry.limiterFor(channel).acquire(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationSender.NotificationException(ERROR_INTERRUPTED, e);
+        }
+
+        NotificationCircuitBreaker circuitBreaker = circuitBreakerRegistry.breakerFor(channel);
         if (!circuitBreaker.allowRequest()) {
-            log.warn("Circuit breaker is OPEN for channel {}. Skipping notification to user {}",
+            log.debug("Circuit breaker is OPEN for channel {}. Skipping notification to user {}",
                     channel, user.getName());
-            throw new NotificationSender.NotificationException(
-                    "Service temporarily unavailable due to high failure rate");
+            throw new NotificationSender.NotificationException(ERROR_CIRCUIT_OPEN + channel, false);
         }
 
+        notificationMetrics.sendStarted(channel);
+        long startNanos = System.nanoTime();
         try {
-            // Attempt to send notification
             NotificationSender sender = notificationStrategy.getSender(channel);
             sender.send(message, user);
 
-            // Record success
-            circuitBreaker.recordSuccess();
+            long durationNanos = System.nanoTime() - startNanos;
+            circuitBreaker.recordSuccess(durationNanos);
+            notificationMetrics.sendFinished(channel, true, durationNanos);
             log.debug("Successfully sent {} notification through circuit breaker", channel);
 
         } catch (Exception e) {
-            // Record failure
-            circuitBreaker.recordFailure();
+            long durationNanos = System.nanoTime() - startNanos;
+            circuitBreaker.recordFailure(durationNanos);
+            notificationMetrics.sendFinished(channel, false, durationNanos);
             log.error("Failed to send {} notification through circuit breaker: {}",
                     channel, e.getMessage());
             throw e;
@@ -60,19 +91,138 @@ public class ResilientNotificationService {
     }
 
     /**
-     * Gets the current circuit breaker state.
+     * Sends a message to a batch of recipients with rate limiting and circuit breaker protection.
+     * Recipients over the per-user cap fail without a retry. On a rate-limited channel the rest go
+     * to the provider in calls of at most the limiter's burst, each paid for before it is made.
+     *
+     * @param message the message to send
+     * @param users the recipients
+     * @param channel the notification channel
+     * @return one outcome per recipient, in the order of {@code users}
+     */
+    public List<NotificationSender.SendResult> sendBatchWithCircuitBreaker(Message message, List<User> users,
+                                                                           NotificationChannel channel) {
+        RateLimiter limiter = rateLimiterRegistry.limiterFor(channel);
+        if (limiter.isUnlimited() && !rateLimiterRegistry.hasUserCap(channel)) {
+            return sendCall(message, users, channel);
+        }
+
+        NotificationSender.SendResult[] results = new NotificationSender.SendResult[users.size()];
+        List<Integer> allowed = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            if (rateLimiterRegistry.tryAcquireForUser(channel, user.getId())) {
+                allowed.add(i);
+            } else {
+                results[i] = NotificationSender.SendResult.failure(user,
+                        new NotificationSender.NotificationException(ERROR_USER_CAP + user.getId(), false));
+            }
+        }
+
+        int callSize = limiter.isUnlimited() ? Math.max(1, allowed.size()) : limiter.getBurst();
+        for (int from = 0; from < allowed.size(); from += callSize) {
+            List<Integer> call = allowed.subList(from, Math.min(from + callSize, allowed.size()));
+            List<User> recipients = new ArrayList<>(call.size());
+            for (int index : call) {
+                recipients.add(users.get(index));
+            }
+            List<NotificationSender.SendResult> sent;
+            try {
+                limiter.acquire(recipients.size());
+                sent = sendCall(message, recipients, channel);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                NotificationSender.NotificationException interrupted =
+                        new NotificationSender.NotificationException(ERROR_INTERRUPTED, e);
+                sent = recipients.stream().map(user -> NotificationSender.SendResult.failure(user, interrupted)).toList();
+            }
+            for (int i = 0; i < call.size(); i++) {
+                results[call.get(i)] = sent.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Makes one provider call for a batch. The breaker sees it as one call, which counts as failed
+     * only when nobody was reached and the provider reported a transient error. Invalid recipients
+     * alone do not trip the circuit.
+     *
+     * @return one outcome per recipient; every recipient fails when the channel's circuit is open
+     */
+    private List<NotificationSender.SendResult> sendCall(Message message, List<User> users,
+                                                         NotificationChannel channel) {
+        NotificationCircuitBreaker circuitBreaker = circuitBreakerRegistry.breakerFor(channel);
+        if (!circuitBreaker.allowRequest()) {
+            log.debug("Circuit breaker is OPEN for channel {}. Skipping batch of {} notifications",
+                    channel, users.size());
+            NotificationSender.NotificationException open =
+                    new NotificationSender.NotificationException(ERROR_CIRCUIT_OPEN + channel, false);
+            return users.stream().map(user -> NotificationSender.SendResult.failure(user, open)).toList();
+        }
+
+        notificationMetrics.sendStarted(channel);
+        long startNanos = System.nanoTime();
+        List<NotificationSender.SendResult> results;
+        try {
+            results = notificationStrategy.getSender(channel).sendBatch(message, users);
+        } catch (RuntimeException e) {
+            long durationNanos = System.nanoTime() - startNanos;
+            circuitBreaker.recordFailure(durationNanos);
+            notificationMetrics.sendFinished(channel, false, durationNanos);
+            throw e;
+        }
+
+        long durationNanos = System.nanoTime() - startNanos;
+        boolean providerFailed = results.stream().noneMatch(NotificationSender.SendResult::isSuccess)
+                && results.stream().anyMatch(result -> result.failure().isRetryable());
+        notificationMetrics.sendFinished(channel, !providerFailed, durationNanos);
+        if (providerFailed) {
+            circuitBreaker.recordFailure(durationNanos);
+            log.error("Failed to send {} batch of {} through circuit breaker", channel, users.size());
+        } else {
+            circuitBreaker.recordSuccess(durationNanos);
+        }
+        return results;
+    }
+
+    /**
+     * Checks whether a channel is currently failing fast, without consuming a half-open trial.
      *
+     * @param channel the notification channel
+     * @return true if deliveries on the channel would be refused
+     */
+    public boolean isCircuitOpen(NotificationChannel channel) {
+        return circuitBreakerRegistry.breakerFor(channel).isRejecting();
+    }
+
+    /**
+     * Gets the current circuit breaker state of a channel.
+     *
+     * @param channel the notification channel
      * @return the circuit state
      */
-    public CircuitState getCircuitState() {
-        return circuitBreaker.getState();
+    public CircuitState getCircuitState(NotificationChannel channel) {
+        return circuitBreakerRegistry.breakerFor(channel).getState();
     }
 
     /**
-     * Resets the circuit breaker.
+     * Gets the state and sliding-window counts of a channel's circuit breaker.
+     *
+     * @param channel the notification channel
+     * @return the breaker metrics
+     */
+    public NotificationCircuitBreaker.Metrics getCircuitMetrics(NotificationChannel channel) {
+        return circuitBreakerRegistry.breakerFor(channel).getMetrics();
+    }
+
+    /**
+     * Resets the circuit breaker of a channel.
+     *
+     * @param channel the notification channel
      */
-    public void resetCircuitBreaker() {
-        circuitBreaker.reset();
-        log.info("Circuit breaker has been reset");
+    public void resetCircuitBreaker(NotificationChannel channel) {
+        circuitBreakerRegistry.breakerFor(channel).reset();
+        log.info("Circuit breaker for {} has been reset", channel);
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,42 @@
 package com.gila.notification.infrastructure.adapter.in.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gila.notification.application.dto.MessageStatusResponse;
 import com.gila.notification.application.dto.NotificationLogDto;
 import com.gila.notification.application.dto.SendMessageRequest;
 import com.gila.notification.application.dto.SendMessageResponse;
 import com.gila.notification.application.mapper.NotificationMapper;
 import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationStatus;
+import com.gila.notification.domain.port.in.ExportNotificationLogsUseCase;
+import com.gila.notification.domain.port.in.GetMessageStatusUseCase;
 import com.gila.notification.domain.port.in.GetNotificationLogsUseCase;
 import com.gila.notification.domain.port.in.SendMessageUseCase;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for notification operations.
@@ -26,17 +46,31 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
 @Slf4j
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = "X-Next-Cursor")
 public class NotificationController {
 
     private static final String STATUS_SUCCESS = "SUCCESS";
     private static final String STATUS_ERROR = "ERROR";
+    private static final String STATUS_ACCEPTED = "ACCEPTED";
+    private static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    private static final String ACCEPTED_MESSAGE = "Message accepted for delivery.";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String STATUS_PATH_TEMPLATE = "/api/notifications/messages/%d/status";
     private static final String SUCCESS_MESSAGE_TEMPLATE = "Message sent successfully. %d successful, %d failed notifications.";
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final String EXPORT_FILE_NAME = "notification-logs.ndjson";
+    private static final int EXPORT_GZIP_BUFFER_BYTES = 64 * 1024;
+    private static final long EXPORT_NO_TIMEOUT = -1;
     private static final String GENERIC_ERROR_MESSAGE = "An error occurred while processing your request";
 
     private final SendMessageUseCase sendMessageUseCase;
     private final GetNotificationLogsUseCase getNotificationLogsUseCase;
+    private final GetMessageStatusUseCase getMessageStatusUseCase;
+    private final ExportNotificationLogsUseCase exportNotificationLogsUseCase;
     private final NotificationMapper mapper;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/send")
     public ResponseEntity<SendMessageResponse> sendMessage(@Valid @RequestBody SendMessageRequest request) {
@@ -45,7 +79,8 @@ public class NotificationController {
         try {
             SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
                     request.getCategory(),
-                    request.getMessage()
+                    request.getMessage(),
+                    request.getIdempotencyKey()
             );
 
             SendMessageUseCase.SendMessageResult result = sendMessageUseCase.sendMessage(command);
@@ -81,13 +116,78 @@ public class NotificationController {
     }
 
     /**
-     * Gets notification logs with optional filtering.
+     * Accepts a message for background delivery and returns without waiting for the fan-out.
+     *
+     * @param request the message to send
+     * @return 202 with the message ID and a link to its status
+     */
+    @PostMapping("/send/async")
+    public ResponseEntity<SendMessageResponse> submitMessage(@Valid @RequestBody SendMessageRequest request) {
+        log.info("Received async message request for category: {}", request.getCategory());
+
+        try {
+            SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                    request.getCategory(),
+                    request.getMessage(),
+                    request.getIdempotencyKey()
+            );
+
+            SendMessageUseCase.SubmitMessageResult result = sendMessageUseCase.submitMessage(command);
+
+            SendMessageResponse response = SendMessageResponse.builder()
+                    .messageId(result.messageId())
+                    .status(STATUS_ACCEPTED)
+                    .message(ACCEPTED_MESSAGE)
+                    .build();
+
+            return ResponseEntity.accepted()
+                    .location(URI.create(String.format(STATUS_PATH_TEMPLATE, result.messageId())))
+                    .body(response);
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            SendMessageResponse errorResponse = SendMessageResponse.builder()
+                    .status(STATUS_ERROR)
+                    .message(e.getMessage())
+                    .build();
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * Gets the delivery progress of a message from its notification logs.
+     *
+     * @param messageId the message ID
+     * @return counts per delivery status and whether dispatch is still running
+     */
+    @GetMapping("/messages/{messageId}/status")
+    public ResponseEntity<MessageStatusResponse> getMessageStatus(@PathVariable Long messageId) {
+        GetMessageStatusUseCase.MessageStatus status = getMessageStatusUseCase.getMessageStatus(messageId);
+
+        MessageStatusResponse response = MessageStatusResponse.builder()
+                .messageId(status.messageId())
+                .category(status.category())
+                .createdAt(status.createdAt())
+                .status(status.inProgress() ? STATUS_IN_PROGRESS : STATUS_COMPLETED)
+                .successfulNotifications(status.successfulNotifications())
+                .failedNotifications(status.failedNotifications())
+                .pendingNotifications(status.pendingNotifications())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Gets notification logs with optional filtering, newest first.
+     * Filtering and pagination run in the database. Pass the {@code X-Next-Cursor}
+     * response header back as {@code cursor} to fetch the following page.
      *
      * @param userId optional user ID filter
      * @param status optional status filter
      * @param channel optional channel filter
      * @param category optional category filter
-     * @param page page number (0-based)
+     * @param cursor optional keyset cursor from a previous page
+     * @param page page number (0-based), ignored when a cursor is given
      * @param size page size
      * @return filtered and paginated logs
      */
@@ -97,24 +197,93 @@ public class NotificationController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String channel,
             @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
         log.info("Fetching notification logs with filters - userId: {}, status: {}, channel: {}, category: {}",
                 userId, status, channel, category);
 
-        List<NotificationLogDto> logs = getNotificationLogsUseCase.getAllLogs()
+        GetNotificationLogsUseCase.LogFilter filter = toLogFilter(userId, status, channel, category);
+        GetNotificationLogsUseCase.LogPage logPage = getNotificationLogsUseCase.findLogs(
+                new GetNotificationLogsUseCase.LogQuery(filter, cursor, page, size));
+
+        List<NotificationLogDto> logs = logPage.logs()
                 .stream()
-                .filter(log -> userId == null || log.getUserId().equals(userId))
-                .filter(log -> status == null || log.getStatus().toString().equals(status))
-                .filter(log -> channel == null || log.getChannel().toString().equals(channel))
-                .filter(log -> category == null || log.getMessageCategory().toString().equals(category))
-                .skip(page * size)
-                .limit(size)
                 .map(mapper::toDto)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(logs);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (logPage.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, logPage.nextCursor());
+        }
+        return response.body(logs);
+    }
+
+    /**
+     * Exports every matching log as newline-delimited JSON, streamed from a database cursor
+     * so memory use stays flat regardless of the number of rows. The stream runs for as long as
+     * the cursor has rows, so this request alone is exempt from the async request timeout.
+     *
+     * @param userId optional user ID filter
+     * @param status optional status filter
+     * @param channel optional channel filter
+     * @param category optional category filter
+     * @param gzip whether to gzip the stream
+     * @param webRequest the current request
+     * @return the streaming export
+     */
+    @GetMapping("/logs/export")
+    public ResponseEntity<StreamingResponseBody> exportNotificationLogs(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String channel,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            NativeWebRequest webRequest) {
+
+        log.info("Exporting notification logs with filters - userId: {}, status: {}, channel: {}, category: {}",
+                userId, status, channel, category);
+
+        // Parsed up front so invalid filters fail with 400 before the response is committed
+        GetNotificationLogsUseCase.LogFilter filter = toLogFilter(userId, status, channel, category);
+        WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest().setTimeout(EXPORT_NO_TIMEOUT);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, EXPORT_GZIP_BUFFER_BYTES);
+                writeNdjson(filter, gzipOut);
+                gzipOut.finish();
+            } else {
+                writeNdjson(filter, out);
+            }
+        };
+
+        String fileName = gzip ? EXPORT_FILE_NAME + ".gz" : EXPORT_FILE_NAME;
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    private void writeNdjson(GetNotificationLogsUseCase.LogFilter filter, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(NotificationLogDto.class)
+                .withRootValueSeparator("")
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = writer.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            long exported = exportNotificationLogsUseCase.exportLogs(filter, notificationLog -> {
+                try {
+                    writer.writeValue(generator, mapper.toDto(notificationLog));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("Exported {} notification logs", exported);
+        }
     }
 
     @GetMapping("/logs/user/{userId}")
@@ -137,6 +306,16 @@ public class NotificationController {
         return ResponseEntity.ok(logs);
     }
 
+    private GetNotificationLogsUseCase.LogFilter toLogFilter(Long userId, String status,
+                                                          String channel, String category) {
+        return new GetNotificationLogsUseCase.LogFilter(
+                userId,
+                status == null ? null : NotificationStatus.valueOf(status),
+                channel == null ? null : NotificationChannel.valueOf(channel),
+                category == null ? null : Category.valueOf(category)
+        );
+    }
+
     @GetMapping("/categories")
     public ResponseEntity<List<String>> getCategories() {
         List<String> categories = Arrays.stream(Category.values())
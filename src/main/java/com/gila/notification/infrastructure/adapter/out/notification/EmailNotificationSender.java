@@ -2,49 +2,60 @@ package com.gila.notification.infrastructure.adapter.out.notification;
 
 import com.gila.notification.domain.model.Message;
 import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.RenderedMessage;
 import com.gila.notification.domain.model.User;
 import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.infrastructure.config.GatewaySimulatorProperties;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Slf4j
 public class EmailNotificationSender implements NotificationSender {
 
-    private static final double FAILURE_RATE = 0.05;
-    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
-    private static final String EMAIL_TEMPLATE = "To: %s%nSubject: Notification - %s%nBody: %s";
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final String EMAIL_HEAD = "To: ";
+    private static final String EMAIL_TAIL_TEMPLATE = "%nSubject: Notification - %s%nBody: %s";
     private static final String ERROR_NO_EMAIL = "User does not have an email address";
     private static final String ERROR_SERVICE_UNAVAILABLE = "Email service temporarily unavailable";
     private static final String ERROR_INVALID_FORMAT = "Invalid email format: ";
 
+    private final GatewaySimulator gateway;
+
+    public EmailNotificationSender(GatewaySimulatorProperties gatewayProperties) {
+        this.gateway = new GatewaySimulator("Email service", ERROR_SERVICE_UNAVAILABLE,
+                gatewayProperties.forChannel(NotificationChannel.EMAIL));
+    }
+
     @Override
-    @Retryable(
-            value = {NotificationException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
     public void send(Message message, User user) throws NotificationException {
-        if (user.getEmail() == null || user.getEmail().isEmpty()) {
-            throw new NotificationException(ERROR_NO_EMAIL);
+        NotificationException rejection = validateAddress(user);
+        if (rejection != null) {
+            throw rejection;
         }
 
         log.info("Sending Email to {} ({}): Category: {}, Message: {}",
                 user.getName(), user.getEmail(), message.getCategory(), message.getContent());
 
-        simulateEmailService(user.getEmail(), message.getCategory().getDisplayName(), message.getContent());
+        simulateEmailService(user.getEmail(), message.renderFor(getChannel(), EmailNotificationSender::render));
     }
 
     /**
-     * Recovery method called when all retry attempts fail.
+     * Sends one provider request per {@value #MAX_BATCH_SIZE} valid addresses.
      */
-    @Recover
-    public void recover(NotificationException e, Message message, User user) throws NotificationException {
-        log.error("Failed to send email to {} after retries: {}", user.getEmail(), e.getMessage());
-        throw new NotificationException("Email delivery failed after 3 attempts: " + e.getMessage());
+    @Override
+    public List<SendResult> sendBatch(Message message, List<User> users) {
+        RenderedMessage rendered = message.renderFor(getChannel(), EmailNotificationSender::render);
+        return ProviderBatch.send(users, MAX_BATCH_SIZE, this::validateAddress, recipients -> {
+            log.info("Sending Email batch to {} recipients: Category: {}, Message: {}",
+                    recipients.size(), message.getCategory(), message.getContent());
+            gateway.call();
+            if (log.isDebugEnabled()) {
+                recipients.forEach(recipient -> log.debug("Email composed: {}", rendered.forRecipient(recipient.getEmail())));
+            }
+        });
     }
 
     @Override
@@ -52,17 +63,26 @@ public class EmailNotificationSender implements NotificationSender {
         return NotificationChannel.EMAIL;
     }
 
-    private void simulateEmailService(String email, String subject, String body) throws NotificationException {
-        if (Math.random() < FAILURE_RATE) {
-            throw new NotificationException(ERROR_SERVICE_UNAVAILABLE);
-        }
+    private static RenderedMessage render(Message message) {
+        return new RenderedMessage(EMAIL_HEAD, String.format(EMAIL_TAIL_TEMPLATE,
+                message.getCategory().getDisplayName(), message.getContent()));
+    }
 
-        if (!email.matches(EMAIL_REGEX)) {
-            throw new NotificationException(ERROR_INVALID_FORMAT + email);
+    private NotificationException validateAddress(User user) {
+        if (user.getEmail() == null || user.getEmail().isEmpty()) {
+            return new NotificationException(ERROR_NO_EMAIL, false);
         }
+        if (!user.hasValidContactFor(NotificationChannel.EMAIL)) {
+            return new NotificationException(ERROR_INVALID_FORMAT + user.getEmail(), false);
+        }
+        return null;
+    }
 
-        String emailContent = String.format(EMAIL_TEMPLATE, email, subject, body);
+    private void simulateEmailService(String email, RenderedMessage rendered) throws NotificationException {
+        gateway.call();
 
-        log.debug("Email composed: {}", emailContent);
+        if (log.isDebugEnabled()) {
+            log.debug("Email composed: {}", rendered.forRecipient(email));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.gila.notification.infrastructure.adapter.out.notification;
+
+import com.gila.notification.domain.port.out.NotificationSender.NotificationException;
+import com.gila.notification.infrastructure.config.GatewaySimulatorProperties;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Stand-in for a provider gateway that injects latency, random failures, throttling and outages.
+ * <p>
+ * Latency is drawn from a log-normal distribution fitted to the configured median and p99, and
+ * the calling thread is blocked for it, as it would be on a real HTTP call. Throttling uses a
+ * one-second fixed window and answers like a 429. Outages close every {@code outagePeriodMs} cycle,
+ * counted from when the simulator is created. Throttled and failed requests are retryable.
+ */
+final class GatewaySimulator {
+
+    private static final double Z_99 = 2.326;
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String unavailableMessage;
+    private final String throttledMessage;
+    private final String outageMessage;
+    private final GatewaySimulatorProperties.Profile profile;
+    private final double logMedianNanos;
+    private final double sigma;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private long windowStartNanos;
+    private int windowRequests;
+
+    GatewaySimulator(String gatewayName, String unavailableMessage, GatewaySimulatorProperties.Profile profile) {
+        this(gatewayName, unavailableMessage, profile, System::nanoTime);
+    }
+
+    GatewaySimulator(String gatewayName, String unavailableMessage, GatewaySimulatorProperties.Profile profile,
+                     LongSupplier nanoClock) {
+        this.unavailableMessage = unavailableMessage;
+        this.throttledMessage = gatewayName + " rate limit exceeded (429)";
+        this.outageMessage = gatewayName + " outage in progress";
+        this.profile = profile;
+        long medianNanos = TimeUnit.MILLISECONDS.toNanos(profile.getMedianLatencyMs());
+        long p99Nanos = Math.max(medianNanos, TimeUnit.MILLISECONDS.toNanos(profile.getP99LatencyMs()));
+        this.logMedianNanos = medianNanos > 0 ? Math.log(medianNanos) : 0;
+        this.sigma = medianNanos > 0 ? Math.log((double) p99Nanos / medianNanos) / Z_99 : 0;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        this.windowStartNanos = startNanos;
+    }
+
+    /**
+     * Performs one simulated gateway request.
+     *
+     * @throws NotificationException if the gateway is down, throttles the request or fails it
+     */
+    void call() throws NotificationException {
+        if (inOutage()) {
+            throw new NotificationException(outageMessage);
+        }
+        if (!tryAcquire()) {
+            throw new NotificationException(throttledMessage);
+        }
+        pause(sampleLatencyNanos());
+        if (ThreadLocalRandom.current().nextDouble() < profile.getFailureRate()) {
+            throw new NotificationException(unavailableMessage);
+        }
+    }
+
+    /**
+     * Draws one request latency.
+     *
+     * @return the latency in nanoseconds
+     */
+    long sampleLatencyNanos() {
+        if (logMedianNanos == 0) {
+            return 0;
+        }
+        return (long) Math.exp(logMedianNanos + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+
+    private boolean inOutage() {
+        long periodNanos = TimeUnit.MILLISECONDS.toNanos(profile.getOutagePeriodMs());
+        if (periodNanos <= 0) {
+            return false;
+        }
+        long elapsed = (nanoClock.getAsLong() - startNanos) % periodNanos;
+        return elapsed >= periodNanos - TimeUnit.MILLISECONDS.toNanos(profile.getOutageDurationMs());
+    }
+
+    private synchronized boolean tryAcquire() {
+        int limit = profile.getMaxRequestsPerSecond();
+        if (limit <= 0) {
+            return true;
+        }
+        long now = nanoClock.getAsLong();
+        if (now - windowStartNanos >= WINDOW_NANOS) {
+            windowStartNanos = now;
+            windowRequests = 0;
+        }
+        return ++windowRequests <= limit;
+    }
+
+    private static void pause(long nanos) throws NotificationException {
+        long deadline = System.nanoTime() + nanos;
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new NotificationException("Gateway request interrupted");
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.gila.notification.infrastructure.adapter.out.notification;
+
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.infrastructure.config.HedgingProperties;
+import com.gila.notification.infrastructure.config.RetryBudget;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sender decorator that hedges slow sends.
+ * <p>
+ * The first attempt runs on a virtual thread. If it has not finished after the hedge delay, a
+ * second attempt starts, and whichever succeeds first completes the send. The hedge delay follows
+ * the configured percentile of recent first-attempt latencies, so only the slowest few percent of
+ * sends are hedged. Batches are hedged as one request. Every hedge takes a token from the
+ * channel's {@link RetryBudget}, which keeps hedges from doubling the load on a gateway that is
+ * slow across the board.
+ */
+@Slf4j
+public class HedgingNotificationSender implements NotificationSender {
+
+    private final NotificationSender delegate;
+    private final RetryBudget budget;
+    private final HedgingProperties properties;
+    private final Executor attemptExecutor;
+    private final AtomicLongArray latencies;
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final LongAdder hedgesSent = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private volatile long hedgeDelayNanos;
+
+    public HedgingNotificationSender(NotificationSender delegate, RetryBudget budget, HedgingProperties properties,
+                                     Executor attemptExecutor) {
+        this.delegate = delegate;
+        this.budget = budget;
+        this.properties = properties;
+        this.attemptExecutor = attemptExecutor;
+        this.latencies = new AtomicLongArray(properties.getSampleSize());
+        this.hedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(properties.getInitialDelayMs());
+    }
+
+    @Override
+    public void send(Message message, User user) throws NotificationException {
+        hedged(() -> {
+            delegate.send(message, user);
+            return null;
+        });
+    }
+
+    /**
+     * Hedges the batch as a whole; per-recipient failures are part of the result, not a failed attempt.
+     */
+    @Override
+    public List<SendResult> sendBatch(Message message, List<User> users) {
+        try {
+            return hedged(() -> delegate.sendBatch(message, users));
+        } catch (NotificationException e) {
+            return users.stream().map(user -> SendResult.failure(user, e)).toList();
+        }
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return delegate.getChannel();
+    }
+
+    /**
+     * Gets the current hedge delay and how often hedging has paid off.
+     */
+    public Metrics getMetrics() {
+        return new Metrics(TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos), hedgesSent.sum(), hedgeWins.sum());
+    }
+
+    private <T> T hedged(Attempt<T> attempt) throws NotificationException {
+        CompletableFuture<T> first = start(attempt, true);
+        try {
+            return first.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!budget.tryAcquire()) {
+                return await(first);
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException("Interrupted while sending " + getChannel(), e);
+        }
+
+        hedgesSent.increment();
+        log.debug("Hedging slow {} send", getChannel());
+        CompletableFuture<T> hedge = start(attempt, false);
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        first.whenComplete((result, error) -> settle(winner, pending, result, error, false));
+        hedge.whenComplete((result, error) -> settle(winner, pending, result, error, true));
+        return await(winner);
+    }
+
+    private <T> CompletableFuture<T> start(Attempt<T> attempt, boolean sampled) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return attempt.run();
+            } catch (NotificationException e) {
+                throw new CompletionException(e);
+            } finally {
+                if (sampled) {
+                    recordLatency(System.nanoTime() - start);
+                }
+            }
+        }, attemptExecutor);
+    }
+
+    private <T> void settle(CompletableFuture<T> winner, AtomicInteger pending, T result, Throwable error,
+                            boolean hedge) {
+        if (error == null) {
+            if (winner.complete(result) && hedge) {
+                hedgeWins.increment();
+            }
+        } else if (pending.decrementAndGet() == 0) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) throws NotificationException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private NotificationException unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof NotificationException notificationException
+                ? notificationException
+                : new NotificationException(cause.getMessage(), cause);
+    }
+
+    private void recordLatency(long nanos) {
+        long sample = sampleCount.getAndIncrement();
+        latencies.set((int) (sample % latencies.length()), nanos);
+        if (sample + 1 >= latencies.length() && (sample + 1) % properties.getRecomputeInterval() == 0) {
+            recomputeHedgeDelay();
+        }
+    }
+
+    private void recomputeHedgeDelay() {
+        long[] sorted = new long[latencies.length()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(properties.getPercentile() / 100 * sorted.length) - 1;
+        long percentile = sorted[Math.clamp(index, 0, sorted.length - 1)];
+        hedgeDelayNanos = Math.max(percentile, TimeUnit.MILLISECONDS.toNanos(properties.getMinDelayMs()));
+    }
+
+    @FunctionalInterface
+    private interface Attempt<T> {
+        T run() throws NotificationException;
+    }
+
+    /**
+     * Current hedge delay, hedges sent, and hedges that finished before the first attempt.
+     */
+    public record Metrics(long hedgeDelayMs, long hedgesSent, long hedgeWins) {}
+}
@@ -0,0 +1,66 @@
+package com.gila.notification.infrastructure.adapter.out.notification;
+
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.NotificationSender.NotificationException;
+import com.gila.notification.domain.port.out.NotificationSender.SendResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shared batch flow of the simulated providers. Recipients that fail validation are rejected
+ * individually, and the rest go to the gateway in requests of at most {@code maxRequestSize}.
+ * A failed request fails only the recipients it carried.
+ */
+final class ProviderBatch {
+
+    private ProviderBatch() {
+    }
+
+    static List<SendResult> send(List<User> users, int maxRequestSize, Validator validator, Gateway gateway) {
+        SendResult[] results = new SendResult[users.size()];
+        List<Integer> accepted = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            NotificationException rejection = validator.validate(users.get(i));
+            if (rejection == null) {
+                accepted.add(i);
+            } else {
+                results[i] = SendResult.failure(users.get(i), rejection);
+            }
+        }
+
+        for (int from = 0; from < accepted.size(); from += maxRequestSize) {
+            List<Integer> request = accepted.subList(from, Math.min(from + maxRequestSize, accepted.size()));
+            List<User> recipients = new ArrayList<>(request.size());
+            for (int index : request) {
+                recipients.add(users.get(index));
+            }
+            NotificationException failure = null;
+            try {
+                gateway.deliver(recipients);
+            } catch (NotificationException e) {
+                failure = e;
+            }
+            for (int index : request) {
+                results[index] = failure == null
+                        ? SendResult.success(users.get(index))
+                        : SendResult.failure(users.get(index), failure);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    @FunctionalInterface
+    interface Validator {
+        /**
+         * @return the rejection for an undeliverable recipient, or null if the recipient is valid
+         */
+        NotificationException validate(User user);
+    }
+
+    @FunctionalInterface
+    interface Gateway {
+        void deliver(List<User> recipients) throws NotificationException;
+    }
+}
@@ -2,11 +2,15 @@ package com.gila.notification.infrastructure.adapter.out.notification;
 
 import com.gila.notification.domain.model.Message;
 import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.RenderedMessage;
 import com.gila.notification.domain.model.User;
 import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.infrastructure.config.GatewaySimulatorProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Push notification sender implementation.
  * Simulates sending push notifications through services like FCM or APNS.
@@ -15,14 +19,22 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class PushNotificationSender implements NotificationSender {
 
-    private static final double FAILURE_RATE = 0.15;
+    private static final int MAX_BATCH_SIZE = 500;
     private static final int MAX_MESSAGE_LENGTH = 4000;
     private static final String DEVICE_TOKEN_PREFIX = "device_";
-    private static final String PAYLOAD_TEMPLATE = "{\"to\": \"%s\", \"notification\": {\"title\": \"%s\", \"body\": \"%s\"}}";
+    private static final String PAYLOAD_HEAD = "{\"to\": \"";
+    private static final String PAYLOAD_TAIL_TEMPLATE = "\", \"notification\": {\"title\": \"%s\", \"body\": \"%s\"}}";
     private static final String ERROR_SERVICE_UNAVAILABLE = "Push notification service temporarily unavailable";
     private static final String ERROR_INVALID_TOKEN = "Invalid device token";
     private static final String ERROR_MESSAGE_TOO_LONG = "Message too long for push notification";
 
+    private final GatewaySimulator gateway;
+
+    public PushNotificationSender(GatewaySimulatorProperties gatewayProperties) {
+        this.gateway = new GatewaySimulator("Push notification service", ERROR_SERVICE_UNAVAILABLE,
+                gatewayProperties.forChannel(NotificationChannel.PUSH_NOTIFICATION));
+    }
+
     /**
      * Sends a push notification to a user's device.
      *
@@ -37,7 +49,32 @@ public class PushNotificationSender implements NotificationSender {
         log.info("Sending Push Notification to {} (Device: {}): Category: {}, Message: {}",
                 user.getName(), deviceToken, message.getCategory(), message.getContent());
 
-        simulatePushService(deviceToken, message.getCategory().getDisplayName(), message.getContent());
+        simulatePushService(deviceToken, message);
+    }
+
+    /**
+     * Sends one multicast request per {@value #MAX_BATCH_SIZE} device tokens.
+     *
+     * @param message the message to send
+     * @param users the recipients
+     * @return one outcome per recipient
+     */
+    @Override
+    public List<SendResult> sendBatch(Message message, List<User> users) {
+        if (message.getContent().length() > MAX_MESSAGE_LENGTH) {
+            NotificationException tooLong = new NotificationException(ERROR_MESSAGE_TOO_LONG, false);
+            return users.stream().map(user -> SendResult.failure(user, tooLong)).toList();
+        }
+        return ProviderBatch.send(users, MAX_BATCH_SIZE, user -> null, recipients -> {
+            log.info("Sending Push Notification batch to {} devices: Category: {}, Message: {}",
+                    recipients.size(), message.getCategory(), message.getContent());
+            gateway.call();
+            if (log.isDebugEnabled()) {
+                RenderedMessage payload = message.renderFor(getChannel(), PushNotificationSender::render);
+                recipients.forEach(recipient -> log.debug("Push notification payload: {}",
+                        payload.forRecipient(DEVICE_TOKEN_PREFIX + recipient.getId())));
+            }
+        });
     }
 
     /**
@@ -50,20 +87,25 @@ public class PushNotificationSender implements NotificationSender {
         return NotificationChannel.PUSH_NOTIFICATION;
     }
 
-    private void simulatePushService(String deviceToken, String title, String body) throws NotificationException {
-        if (Math.random() < FAILURE_RATE) {
-            throw new NotificationException(ERROR_SERVICE_UNAVAILABLE);
-        }
+    private static RenderedMessage render(Message message) {
+        return new RenderedMessage(PAYLOAD_HEAD, String.format(PAYLOAD_TAIL_TEMPLATE,
+                message.getCategory().getDisplayName(), message.getContent()));
+    }
+
+    private void simulatePushService(String deviceToken, Message message) throws NotificationException {
+        gateway.call();
 
         if (deviceToken == null || deviceToken.isEmpty()) {
-            throw new NotificationException(ERROR_INVALID_TOKEN);
+            throw new NotificationException(ERROR_INVALID_TOKEN, false);
         }
 
-        String payload = String.format(PAYLOAD_TEMPLATE, deviceToken, title, body);
-        log.debug("Push notification payload: {}", payload);
+        if (log.isDebugEnabled()) {
+            RenderedMessage payload = message.renderFor(getChannel(), PushNotificationSender::render);
+            log.debug("Push notification payload: {}", payload.forRecipient(deviceToken));
+        }
 
-        if (body.length() > MAX_MESSAGE_LENGTH) {
-            throw new NotificationException(ERROR_MESSAGE_TOO_LONG);
+        if (message.getContent().length() > MAX_MESSAGE_LENGTH) {
+            throw new NotificationException(ERROR_MESSAGE_TOO_LONG, false);
         }
     }
 }
\ No newline at end of file
@@ -4,9 +4,12 @@ import com.gila.notification.domain.model.Message;
 import com.gila.notification.domain.model.NotificationChannel;
 import com.gila.notification.domain.model.User;
 import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.infrastructure.config.GatewaySimulatorProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * SMS notification sender implementation.
  * Simulates sending SMS messages through a gateway service.
@@ -15,14 +18,20 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class SmsNotificationSender implements NotificationSender {
 
-    private static final double FAILURE_RATE = 0.1;
-    private static final String PHONE_REGEX = "\\+?[1-9]\\d{1,14}";
+    private static final int MAX_BATCH_SIZE = 500;
     private static final int SMS_CHARACTER_LIMIT = 160;
     private static final String ERROR_NO_PHONE = "User does not have a phone number";
     private static final String ERROR_GATEWAY_UNAVAILABLE = "SMS gateway temporarily unavailable";
     private static final String ERROR_INVALID_PHONE = "Invalid phone number format: ";
     private static final String WARN_MESSAGE_TOO_LONG = "Message exceeds SMS character limit, will be sent as multiple parts";
 
+    private final GatewaySimulator gateway;
+
+    public SmsNotificationSender(GatewaySimulatorProperties gatewayProperties) {
+        this.gateway = new GatewaySimulator("SMS gateway", ERROR_GATEWAY_UNAVAILABLE,
+                gatewayProperties.forChannel(NotificationChannel.SMS));
+    }
+
     /**
      * Sends an SMS notification to a user.
      *
@@ -32,14 +41,34 @@ public class SmsNotificationSender implements NotificationSender {
      */
     @Override
     public void send(Message message, User user) throws NotificationException {
-        if (user.getPhoneNumber() == null || user.getPhoneNumber().isEmpty()) {
-            throw new NotificationException(ERROR_NO_PHONE);
+        NotificationException rejection = validatePhoneNumber(user);
+        if (rejection != null) {
+            throw rejection;
         }
 
         log.info("Sending SMS to {} ({}): Category: {}, Message: {}",
                 user.getName(), user.getPhoneNumber(), message.getCategory(), message.getContent());
 
-        simulateSmsGateway(user.getPhoneNumber(), message.getContent());
+        simulateSmsGateway(message.getContent());
+    }
+
+    /**
+     * Sends one gateway request per {@value #MAX_BATCH_SIZE} valid phone numbers.
+     *
+     * @param message the message to send
+     * @param users the recipients
+     * @return one outcome per recipient
+     */
+    @Override
+    public List<SendResult> sendBatch(Message message, List<User> users) {
+        return ProviderBatch.send(users, MAX_BATCH_SIZE, this::validatePhoneNumber, recipients -> {
+            log.info("Sending SMS batch to {} recipients: Category: {}, Message: {}",
+                    recipients.size(), message.getCategory(), message.getContent());
+            gateway.call();
+            if (message.getContent().length() > SMS_CHARACTER_LIMIT) {
+                log.warn(WARN_MESSAGE_TOO_LONG);
+            }
+        });
     }
 
     /**
@@ -52,14 +81,18 @@ public class SmsNotificationSender implements NotificationSender {
         return NotificationChannel.SMS;
     }
 
-    private void simulateSmsGateway(String phoneNumber, String message) throws NotificationException {
-        if (Math.random() < FAILURE_RATE) {
-            throw new NotificationException(ERROR_GATEWAY_UNAVAILABLE);
+    private NotificationException validatePhoneNumber(User user) {
+        if (user.getPhoneNumber() == null || user.getPhoneNumber().isEmpty()) {
+            return new NotificationException(ERROR_NO_PHONE, false);
         }
-
-        if (!phoneNumber.matches(PHONE_REGEX)) {
-            throw new NotificationException(ERROR_INVALID_PHONE + phoneNumber);
+        if (!user.hasValidContactFor(NotificationChannel.SMS)) {
+            return new NotificationException(ERROR_INVALID_PHONE + user.getPhoneNumber(), false);
         }
+        return null;
+    }
+
+    private void simulateSmsGateway(String message) throws NotificationException {
+        gateway.call();
 
         if (message.length() > SMS_CHARACTER_LIMIT) {
             log.warn(WARN_MESSAGE_TOO_LONG);
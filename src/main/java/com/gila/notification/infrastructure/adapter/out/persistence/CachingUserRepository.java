@@ -0,0 +1,187 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.UserRepository;
+import com.gila.notification.infrastructure.config.UserStoreProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-through cache in front of another user store.
+ * <p>
+ * Users are cached by id in a size-bounded LRU map, and recipient lists per category are cached
+ * whole. Writes through this repository invalidate the affected entries; {@link #evict(Long)} and
+ * {@link #evictAll()} cover changes made elsewhere. Loads that race with an invalidation are not
+ * cached, so a stale read can never outlive the write that replaced it.
+ */
+@Slf4j
+public class CachingUserRepository implements UserRepository {
+
+    private static final Comparator<User> BY_ID = Comparator.comparing(User::getId);
+
+    private final UserRepository delegate;
+    private final UserStoreProperties.Cache settings;
+    private final long ttlNanos;
+    private final Map<Long, CachedValue<User>> usersById;
+    private final AtomicReferenceArray<CachedValue<List<User>>> recipientsByCategory =
+            new AtomicReferenceArray<>(Category.values().length);
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingUserRepository(UserRepository delegate, UserStoreProperties.Cache settings) {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(settings.getTtlMs());
+        this.usersById = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedValue<User>> eldest) {
+                return size() > settings.getMaxUsers();
+            }
+        };
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        CachedValue<User> cached;
+        synchronized (usersById) {
+            cached = usersById.get(id);
+        }
+        if (cached != null && cached.isFresh()) {
+            return Optional.of(cached.value());
+        }
+
+        long loadedAt = generation.get();
+        Optional<User> user = delegate.findById(id);
+        user.ifPresent(value -> {
+            synchronized (usersById) {
+                if (generation.get() == loadedAt) {
+                    usersById.put(id, expiring(value));
+                }
+            }
+        });
+        return user;
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<User> findBySubscribedCategory(Category category) {
+        CachedValue<List<User>> cached = recipientsByCategory.get(category.ordinal());
+        if (cached != null && cached.isFresh()) {
+            return cached.value();
+        }
+
+        long loadedAt = generation.get();
+        List<User> recipients = Collections.unmodifiableList(delegate.findBySubscribedCategory(category));
+        if (recipients.size() <= settings.getMaxCachedRecipients()) {
+            recipientsByCategory.compareAndSet(category.ordinal(), cached, expiring(recipients));
+            if (generation.get() != loadedAt) {
+                recipientsByCategory.set(category.ordinal(), null);
+            }
+        } else {
+            log.debug("Not caching {} recipients of category {}", recipients.size(), category);
+        }
+        return recipients;
+    }
+
+    /**
+     * Slices a cached recipient list when one is fresh; otherwise pages straight from the delegate
+     * so huge audiences never have to be held whole.
+     */
+    @Override
+    public List<User> findSubscribersAfter(Category category, Long afterId, int limit) {
+        CachedValue<List<User>> cached = recipientsByCategory.get(category.ordinal());
+        if (cached == null || !cached.isFresh()) {
+            return delegate.findSubscribersAfter(category, afterId, limit);
+        }
+        List<User> recipients = cached.value();
+        int from = 0;
+        if (afterId != null) {
+            int index = Collections.binarySearch(recipients, User.builder().id(afterId).build(), BY_ID);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        int to = (int) Math.min((long) from + limit, recipients.size());
+        return recipients.subList(from, to);
+    }
+
+    /**
+     * Always asks the delegate, which computes the bounds without materializing users.
+     */
+    @Override
+    public List<Long> findSubscriberIdBounds(Category category, int rangeSize) {
+        return delegate.findSubscriberIdBounds(category, rangeSize);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        evict(user.getId());
+        return saved;
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        delegate.saveAll(users);
+        evictAll();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        evict(id);
+    }
+
+    /**
+     * Drops a user and every cached recipient list, since the user's subscriptions may have changed.
+     *
+     * @param id the user ID
+     */
+    public void evict(Long id) {
+        generation.incrementAndGet();
+        synchronized (usersById) {
+            usersById.remove(id);
+        }
+        clearRecipients();
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        synchronized (usersById) {
+            usersById.clear();
+        }
+        clearRecipients();
+    }
+
+    private void clearRecipients() {
+        for (int i = 0; i < recipientsByCategory.length(); i++) {
+            recipientsByCategory.set(i, null);
+        }
+    }
+
+    private <V> CachedValue<V> expiring(V value) {
+        return new CachedValue<>(value, System.nanoTime() + ttlNanos);
+    }
+
+    private record CachedValue<V>(V value, long expiresAtNanos) {
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+}
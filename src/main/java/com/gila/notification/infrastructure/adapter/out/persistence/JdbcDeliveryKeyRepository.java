@@ -0,0 +1,71 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.port.out.DeliveryKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Delivery keys on the {@code delivery_keys} table. Inserts skip keys that are already stored, so a
+ * batch only fails on the unique index when another node stores the same key at the same moment;
+ * such a batch is then stored row by row.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcDeliveryKeyRepository implements DeliveryKeyRepository {
+
+    private static final String SELECT_DELIVERED =
+            "SELECT user_id FROM delivery_keys WHERE message_id = ? AND channel = ? AND user_id IN (%s)";
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO delivery_keys (message_id, user_id, channel)
+            SELECT ?, ?, ? FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM delivery_keys WHERE message_id = ? AND user_id = ? AND channel = ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<Long> findDelivered(Long messageId, NotificationChannel channel, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Object> args = new ArrayList<>(userIds.size() + 2);
+        args.add(messageId);
+        args.add(channel.name());
+        args.addAll(userIds);
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                SELECT_DELIVERED.formatted(placeholders), Long.class, args.toArray()));
+    }
+
+    @Override
+    public void saveAll(Long messageId, NotificationChannel channel, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            rows.add(new Object[]{messageId, userId, channel.name(), messageId, userId, channel.name()});
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, rows);
+        } catch (DuplicateKeyException e) {
+            for (Object[] row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_IF_ABSENT, row);
+                } catch (DuplicateKeyException ignored) {
+                    // Stored concurrently by another node
+                }
+            }
+        }
+    }
+}
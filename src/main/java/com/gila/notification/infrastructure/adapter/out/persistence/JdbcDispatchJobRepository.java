@@ -0,0 +1,102 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.port.out.DispatchJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Dispatch job outbox on the {@code dispatch_jobs} table.
+ * <p>
+ * Claiming locks due rows with {@code FOR UPDATE SKIP LOCKED}, so concurrent workers on any
+ * number of nodes each take different jobs without waiting on one another. The lock is held only
+ * while the claim pushes the rows' available time out by the lease. The fan-out itself runs
+ * outside any transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcDispatchJobRepository implements DispatchJobRepository {
+
+    private static final String INSERT_JOB =
+            "INSERT INTO dispatch_jobs (message_id, available_at, attempts) VALUES (?, ?, ?)";
+
+    private static final String SELECT_DUE_JOBS = """
+            SELECT message_id, attempts FROM dispatch_jobs
+            WHERE available_at <= ?
+            ORDER BY available_at, message_id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED""";
+
+    private static final String CLAIM_JOB =
+            "UPDATE dispatch_jobs SET available_at = ?, attempts = attempts + 1, claimed_by = ? WHERE message_id = ?";
+    private static final String RESCHEDULE_JOB =
+            "UPDATE dispatch_jobs SET available_at = ? WHERE message_id = ? AND attempts = ?";
+    private static final String DELETE_JOB = "DELETE FROM dispatch_jobs WHERE message_id = ? AND attempts = ?";
+    private static final String COUNT_PENDING = """
+            SELECT (SELECT COUNT(*) FROM dispatch_jobs WHERE message_id = ?)
+                 + (SELECT COUNT(*) FROM dispatch_partitions WHERE message_id = ?)""";
+
+    // The row's attempts are read before the claim counts itself
+    private static final RowMapper<Job> CLAIMED_JOB_ROW =
+            (rs, rowNum) -> new Job(rs.getLong("message_id"), rs.getInt("attempts") + 1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void enqueue(Long messageId, Duration delay) {
+        jdbcTemplate.update(INSERT_JOB, messageId, Timestamp.from(Instant.now().plus(delay)), 0);
+    }
+
+    @Override
+    public void enqueueHeld(Long messageId, Duration lease) {
+        Job held = Job.held(messageId);
+        jdbcTemplate.update(INSERT_JOB, messageId, Timestamp.from(Instant.now().plus(lease)), held.attempts());
+    }
+
+    @Override
+    public List<Job> claim(String workerId, int limit, Duration lease) {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<Job> jobs = jdbcTemplate.query(SELECT_DUE_JOBS, CLAIMED_JOB_ROW, Timestamp.from(now), limit);
+            if (!jobs.isEmpty()) {
+                Timestamp leaseEnd = Timestamp.from(now.plus(lease));
+                jdbcTemplate.batchUpdate(CLAIM_JOB, jobs, jobs.size(), (ps, job) -> {
+                    ps.setTimestamp(1, leaseEnd);
+                    ps.setString(2, workerId);
+                    ps.setLong(3, job.messageId());
+                });
+            }
+            return jobs;
+        });
+    }
+
+    @Override
+    public boolean renew(Job job, Duration lease) {
+        return jdbcTemplate.update(RESCHEDULE_JOB, Timestamp.from(Instant.now().plus(lease)),
+                job.messageId(), job.attempts()) == 1;
+    }
+
+    @Override
+    public boolean complete(Job job) {
+        return jdbcTemplate.update(DELETE_JOB, job.messageId(), job.attempts()) == 1;
+    }
+
+    @Override
+    public void retryLater(Job job, Duration delay) {
+        jdbcTemplate.update(RESCHEDULE_JOB, Timestamp.from(Instant.now().plus(delay)), job.messageId(), job.attempts());
+    }
+
+    @Override
+    public boolean isPending(Long messageId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_PENDING, Integer.class, messageId, messageId);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,104 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.port.out.DispatchPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dispatch partitions on the {@code dispatch_partitions} table. Claims lock expired rows with
+ * {@code FOR UPDATE SKIP LOCKED} and take the lease in the same short transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcDispatchPartitionRepository implements DispatchPartitionRepository {
+
+    private static final String INSERT_PARTITION = """
+            INSERT INTO dispatch_partitions
+                (message_id, partition_no, after_user_id, last_user_id, lease_version, lease_expires_at)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private static final String SELECT_CLAIMABLE = """
+            SELECT message_id, partition_no, after_user_id, last_user_id, lease_version FROM dispatch_partitions
+            WHERE lease_expires_at <= ?
+            ORDER BY message_id, partition_no
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED""";
+
+    private static final String TAKE_LEASE = """
+            UPDATE dispatch_partitions SET lease_owner = ?, lease_version = lease_version + 1, lease_expires_at = ?
+            WHERE message_id = ? AND partition_no = ?""";
+
+    private static final String RENEW_LEASE = """
+            UPDATE dispatch_partitions SET lease_expires_at = ?
+            WHERE message_id = ? AND partition_no = ? AND lease_owner = ? AND lease_version = ?""";
+
+    private static final String DELETE_PARTITION = """
+            DELETE FROM dispatch_partitions
+            WHERE message_id = ? AND partition_no = ? AND lease_owner = ? AND lease_version = ?""";
+
+    private static final RowMapper<Partition> PARTITION_ROW = (rs, rowNum) -> {
+        Long afterUserId = rs.getObject("after_user_id", Long.class);
+        return new Partition(
+                rs.getLong("message_id"),
+                rs.getInt("partition_no"),
+                afterUserId,
+                rs.getLong("last_user_id"),
+                rs.getLong("lease_version"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void createAll(Long messageId, List<Long> lastUserIds, boolean redelivery) {
+        Timestamp due = Timestamp.from(Instant.now());
+        // Starting at version 1 makes the first claim version 2, a redelivery
+        long leaseVersion = redelivery ? 1 : 0;
+        List<Object[]> rows = new ArrayList<>(lastUserIds.size());
+        Long afterUserId = null;
+        for (int i = 0; i < lastUserIds.size(); i++) {
+            rows.add(new Object[]{messageId, i, afterUserId, lastUserIds.get(i), leaseVersion, due});
+            afterUserId = lastUserIds.get(i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_PARTITION, rows,
+                new int[]{Types.BIGINT, Types.INTEGER, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP});
+    }
+
+    @Override
+    public List<Partition> claim(String owner, int limit, Duration lease) {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<Partition> expired = jdbcTemplate.query(SELECT_CLAIMABLE, PARTITION_ROW, Timestamp.from(now), limit);
+            Timestamp leaseEnd = Timestamp.from(now.plus(lease));
+            List<Partition> claimed = new ArrayList<>(expired.size());
+            for (Partition partition : expired) {
+                jdbcTemplate.update(TAKE_LEASE, owner, leaseEnd, partition.messageId(), partition.partitionNo());
+                claimed.add(new Partition(partition.messageId(), partition.partitionNo(), partition.afterUserId(),
+                        partition.lastUserId(), partition.leaseVersion() + 1));
+            }
+            return claimed;
+        });
+    }
+
+    @Override
+    public boolean renew(Partition partition, String owner, Duration lease) {
+        return jdbcTemplate.update(RENEW_LEASE, Timestamp.from(Instant.now().plus(lease)),
+                partition.messageId(), partition.partitionNo(), owner, partition.leaseVersion()) == 1;
+    }
+
+    @Override
+    public boolean complete(Partition partition, String owner) {
+        return jdbcTemplate.update(DELETE_PARTITION,
+                partition.messageId(), partition.partitionNo(), owner, partition.leaseVersion()) == 1;
+    }
+}
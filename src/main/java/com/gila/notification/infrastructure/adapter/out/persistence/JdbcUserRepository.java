@@ -0,0 +1,176 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.EnumMasks;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.UserRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Database-backed user store. Users, subscriptions and channels live in separate tables;
+ * every read joins them in one query and folds the rows of each user into its preference masks.
+ */
+public class JdbcUserRepository implements UserRepository {
+
+    private static final String SELECT_USERS = """
+            SELECT u.id, u.name, u.email, u.phone_number, s.category, c.channel
+            FROM users u
+            LEFT JOIN user_subscriptions s ON s.user_id = u.id
+            LEFT JOIN user_channels c ON c.user_id = u.id""";
+
+    private static final String SELECT_SUBSCRIBERS = """
+            SELECT u.id, u.name, u.email, u.phone_number, s.category, c.channel
+            FROM user_subscriptions r
+            JOIN users u ON u.id = r.user_id
+            JOIN user_subscriptions s ON s.user_id = u.id
+            LEFT JOIN user_channels c ON c.user_id = u.id
+            WHERE r.category = ?
+            ORDER BY u.id""";
+
+    private static final String SELECT_SUBSCRIBERS_PAGE = """
+            SELECT u.id, u.name, u.email, u.phone_number, s.category, c.channel
+            FROM (SELECT user_id FROM user_subscriptions
+                  WHERE category = ? AND user_id > ?
+                  ORDER BY user_id
+                  LIMIT ?) r
+            JOIN users u ON u.id = r.user_id
+            JOIN user_subscriptions s ON s.user_id = u.id
+            LEFT JOIN user_channels c ON c.user_id = u.id
+            ORDER BY u.id""";
+
+    private static final String SELECT_SUBSCRIBER_BOUNDS = """
+            SELECT user_id FROM (
+                SELECT user_id, ROW_NUMBER() OVER (ORDER BY user_id) AS position, COUNT(*) OVER () AS total
+                FROM user_subscriptions
+                WHERE category = ?) r
+            WHERE MOD(position, ?) = 0 OR position = total
+            ORDER BY user_id""";
+
+    private static final String UPDATE_USER = "UPDATE users SET name = ?, email = ?, phone_number = ? WHERE id = ?";
+    private static final String INSERT_USER = "INSERT INTO users (name, email, phone_number, id) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_SUBSCRIPTIONS = "DELETE FROM user_subscriptions WHERE user_id = ?";
+    private static final String DELETE_CHANNELS = "DELETE FROM user_channels WHERE user_id = ?";
+    private static final String INSERT_SUBSCRIPTION = "INSERT INTO user_subscriptions (user_id, category) VALUES (?, ?)";
+    private static final String INSERT_CHANNEL = "INSERT INTO user_channels (user_id, channel) VALUES (?, ?)";
+    private static final String DELETE_USER = "DELETE FROM users WHERE id = ?";
+
+    /**
+     * Folds consecutive rows of the same user, one per category and channel pair, into one user.
+     * Queries must return the rows of each user together.
+     */
+    private static final ResultSetExtractor<List<User>> USER_ROWS = rs -> {
+        List<User> users = new ArrayList<>();
+        User current = null;
+        while (rs.next()) {
+            long id = rs.getLong("id");
+            if (current == null || current.getId() != id) {
+                current = User.builder()
+                        .id(id)
+                        .name(rs.getString("name"))
+                        .email(rs.getString("email"))
+                        .phoneNumber(rs.getString("phone_number"))
+                        .build();
+                users.add(current);
+            }
+            String category = rs.getString("category");
+            if (category != null) {
+                current.setCategoryMask(current.getCategoryMask() | EnumMasks.bit(Category.valueOf(category)));
+            }
+            String channel = rs.getString("channel");
+            if (channel != null) {
+                current.setChannelMask(current.getChannelMask() | EnumMasks.bit(NotificationChannel.valueOf(channel)));
+            }
+        }
+        return users;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcUserRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        List<User> users = jdbcTemplate.query(SELECT_USERS + " WHERE u.id = ?", USER_ROWS, id);
+        return users.isEmpty() ? Optional.empty() : Optional.of(users.getFirst());
+    }
+
+    @Override
+    public List<User> findAll() {
+        return jdbcTemplate.query(SELECT_USERS + " ORDER BY u.id", USER_ROWS);
+    }
+
+    @Override
+    public List<User> findBySubscribedCategory(Category category) {
+        return jdbcTemplate.query(SELECT_SUBSCRIBERS, USER_ROWS, category.name());
+    }
+
+    /**
+     * Pages on the (category, user_id) index, limiting users before joining their preference rows.
+     */
+    @Override
+    public List<User> findSubscribersAfter(Category category, Long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_SUBSCRIBERS_PAGE, USER_ROWS,
+                category.name(), afterId == null ? Long.MIN_VALUE : afterId, limit);
+    }
+
+    /**
+     * Numbers the subscription rows on the (category, user_id) index and returns only the bounds,
+     * so no user row is read.
+     */
+    @Override
+    public List<Long> findSubscriberIdBounds(Category category, int rangeSize) {
+        return jdbcTemplate.queryForList(SELECT_SUBSCRIBER_BOUNDS, Long.class, category.name(), rangeSize);
+    }
+
+    @Override
+    public User save(User user) {
+        saveAll(List.of(user));
+        return user;
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        transactionTemplate.executeWithoutResult(status -> writeUsers(users));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jdbcTemplate.update(DELETE_USER, id);
+    }
+
+    private void writeUsers(Collection<User> users) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> ids = new ArrayList<>(users.size());
+        List<Object[]> subscriptions = new ArrayList<>();
+        List<Object[]> channels = new ArrayList<>();
+        for (User user : users) {
+            if (user.getId() == null) {
+                throw new IllegalArgumentException("User id is required");
+            }
+            Object[] row = {user.getName(), user.getEmail(), user.getPhoneNumber(), user.getId()};
+            if (jdbcTemplate.update(UPDATE_USER, row) == 0) {
+                inserts.add(row);
+            }
+            ids.add(new Object[]{user.getId()});
+            user.getSubscribedCategories().forEach(c -> subscriptions.add(new Object[]{user.getId(), c.name()}));
+            user.getChannels().forEach(c -> channels.add(new Object[]{user.getId(), c.name()}));
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, inserts);
+        jdbcTemplate.batchUpdate(DELETE_SUBSCRIPTIONS, ids);
+        jdbcTemplate.batchUpdate(DELETE_CHANNELS, ids);
+        jdbcTemplate.batchUpdate(INSERT_SUBSCRIPTION, subscriptions);
+        jdbcTemplate.batchUpdate(INSERT_CHANNEL, channels);
+    }
+}
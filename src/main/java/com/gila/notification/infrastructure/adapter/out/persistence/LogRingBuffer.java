@@ -0,0 +1,106 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring for many producers and a single consumer.
+ * Each slot carries a sequence number, so producers claim slots with one CAS
+ * and the consumer never contends with them.
+ */
+class LogRingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private volatile long dequeuePosition;
+
+    LogRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publishes an element if a slot is free.
+     *
+     * @param element the element to publish
+     * @return false if the ring is full
+     */
+    boolean offer(T element) {
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code maxElements} published elements into {@code target}.
+     * Must only be called from the single consumer thread.
+     *
+     * @return the number of elements drained
+     */
+    int drainTo(List<T> target, int maxElements) {
+        long position = dequeuePosition;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.lazySet(index, position + capacity);
+            position++;
+            drained++;
+        }
+        dequeuePosition = position;
+        return drained;
+    }
+
+    /**
+     * Gets the number of slots claimed by producers so far.
+     */
+    long publishedCount() {
+        return enqueuePosition.get();
+    }
+
+    /**
+     * Gets the number of elements handed to the consumer so far.
+     */
+    long consumedCount() {
+        return dequeuePosition;
+    }
+
+    int size() {
+        return (int) Math.max(0, enqueuePosition.get() - dequeuePosition);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,174 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.NotificationLog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Memory-mapped, append-only file that holds notification logs the database could not take.
+ * <p>
+ * Layout: an 8-byte header with the offset up to which records have been replayed, followed by
+ * records of {@code [int length][payload]}. A record's length is written after its payload,
+ * so a zero length marks the end of the log even after a crash mid-append.
+ */
+final class LogSpillFile implements Closeable {
+
+    private static final int HEADER_BYTES = Long.BYTES;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+    private MappedByteBuffer buffer;
+    private int writePosition;
+    private int replayPosition;
+
+    private LogSpillFile(Path path, FileChannel channel, FileLock fileLock, int initialSize) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.fileLock = fileLock;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(initialSize, channel.size()));
+        this.replayPosition = (int) Math.max(HEADER_BYTES, buffer.getLong(0));
+        this.writePosition = scanEnd();
+    }
+
+    /**
+     * Opens or creates a spill file and locks it for this process.
+     *
+     * @param path the file location
+     * @param initialSize the number of bytes to map up front
+     * @return the opened spill file
+     * @throws IOException if the file cannot be opened or is locked by another process
+     */
+    static LogSpillFile open(Path path, int initialSize) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileLock fileLock = channel.tryLock();
+        if (fileLock == null) {
+            channel.close();
+            throw new IOException("Spill file is locked by another process: " + path);
+        }
+        return new LogSpillFile(path, channel, fileLock, initialSize);
+    }
+
+    /**
+     * Appends records and forces them to disk before returning.
+     *
+     * @param logs the records to append
+     * @throws IOException if the file cannot grow
+     */
+    synchronized void append(List<NotificationLog> logs) throws IOException {
+        for (NotificationLog log : logs) {
+            byte[] payload = NotificationLogCodec.encode(log);
+            ensureCapacity(LENGTH_BYTES + payload.length + LENGTH_BYTES);
+            buffer.put(writePosition + LENGTH_BYTES, payload);
+            buffer.putInt(writePosition, payload.length);
+            writePosition += LENGTH_BYTES + payload.length;
+        }
+        buffer.force();
+    }
+
+    /**
+     * Reads records that have not been replayed yet.
+     *
+     * @param maxRecords the maximum number of records to read
+     * @return the records and the offset to acknowledge once they are stored
+     */
+    synchronized ReplayBatch readBatch(int maxRecords) {
+        List<NotificationLog> logs = new ArrayList<>(Math.min(maxRecords, 1024));
+        int position = replayPosition;
+        while (logs.size() < maxRecords && position < writePosition) {
+            int length = buffer.getInt(position);
+            logs.add(NotificationLogCodec.decode(buffer.slice(position + LENGTH_BYTES, length), length));
+            position += LENGTH_BYTES + length;
+        }
+        return new ReplayBatch(logs, position);
+    }
+
+    /**
+     * Marks records up to {@code offset} as stored. Once everything is replayed the file is reset.
+     *
+     * @param offset the offset returned by {@link #readBatch(int)}
+     */
+    synchronized void acknowledge(int offset) {
+        replayPosition = offset;
+        if (replayPosition >= writePosition) {
+            int i = HEADER_BYTES;
+            for (; i + Long.BYTES <= writePosition; i += Long.BYTES) {
+                buffer.putLong(i, 0L);
+            }
+            for (; i < writePosition; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            replayPosition = HEADER_BYTES;
+            writePosition = HEADER_BYTES;
+        }
+        buffer.putLong(0, replayPosition);
+        buffer.force();
+    }
+
+    synchronized boolean isEmpty() {
+        return replayPosition >= writePosition;
+    }
+
+    /**
+     * Gets the number of bytes waiting to be replayed.
+     */
+    synchronized int pendingBytes() {
+        return writePosition - replayPosition;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        fileLock.release();
+        channel.close();
+    }
+
+    private int scanEnd() {
+        int position = HEADER_BYTES;
+        while (position + LENGTH_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + LENGTH_BYTES + length > buffer.capacity()) {
+                break;
+            }
+            position += LENGTH_BYTES + length;
+        }
+        return position;
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        long required = (long) writePosition + bytes;
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        long newSize = buffer.capacity();
+        while (newSize < required) {
+            newSize *= 2;
+        }
+        if (newSize > Integer.MAX_VALUE) {
+            throw new IOException("Spill file exceeds maximum mappable size: " + path);
+        }
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+    }
+
+    record ReplayBatch(List<NotificationLog> logs, int endOffset) {}
+}
@@ -0,0 +1,120 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.NotificationStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact binary encoding of {@link NotificationLog} records for the spill file.
+ * Enums are written by name so reordering constants cannot corrupt spilled records.
+ * Version 1 records, written before attempt counts existed, decode with one attempt.
+ */
+final class NotificationLogCodec {
+
+    private static final byte FORMAT_VERSION = 2;
+    private static final byte FORMAT_VERSION_WITHOUT_ATTEMPTS = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private NotificationLogCodec() {
+    }
+
+    static byte[] encode(NotificationLog log) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeLong(out, log.getMessageId());
+            writeString(out, log.getMessageContent());
+            writeString(out, log.getMessageCategory() == null ? null : log.getMessageCategory().name());
+            writeLong(out, log.getUserId());
+            writeString(out, log.getUserName());
+            writeString(out, log.getUserEmail());
+            writeString(out, log.getUserPhone());
+            writeString(out, log.getChannel() == null ? null : log.getChannel().name());
+            writeString(out, log.getStatus() == null ? null : log.getStatus().name());
+            LocalDateTime sentAt = log.getSentAt();
+            out.writeBoolean(sentAt != null);
+            if (sentAt != null) {
+                out.writeLong(sentAt.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(sentAt.getNano());
+            }
+            writeString(out, log.getErrorMessage());
+            out.writeInt(log.getAttempts());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static NotificationLog decode(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_ATTEMPTS) {
+                throw new IllegalStateException("Unsupported spill record version: " + version);
+            }
+            NotificationLog.NotificationLogBuilder builder = NotificationLog.builder()
+                    .messageId(readLong(in))
+                    .messageContent(readString(in));
+            String category = readString(in);
+            builder.messageCategory(category == null ? null : Category.valueOf(category))
+                    .userId(readLong(in))
+                    .userName(readString(in))
+                    .userEmail(readString(in))
+                    .userPhone(readString(in));
+            String channel = readString(in);
+            String status = readString(in);
+            builder.channel(channel == null ? null : NotificationChannel.valueOf(channel))
+                    .status(status == null ? null : NotificationStatus.valueOf(status));
+            if (in.readBoolean()) {
+                builder.sentAt(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+            }
+            builder.errorMessage(readString(in));
+            return builder.attempts(version == FORMAT_VERSION ? in.readInt() : 1).build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = in.readNBytes(length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,127 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.User;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Inverted index from category to its subscribers.
+ * <p>
+ * Each category holds an immutable array of users sorted by id. Lookups read the current array
+ * without locking and wrap it in a list view, so resolving recipients costs O(subscribers) and
+ * allocates nothing per user. Writers are serialized and replace only the arrays of the
+ * categories a change touches.
+ * <p>
+ * The price is on single-user writes: {@link #update} copies every array it touches, so one
+ * save costs O(subscribers) and saving n users one at a time costs O(n²). That trade favours
+ * the fan-out, which reads these arrays for every message, over subscription changes, which
+ * are rare. Bulk loads are the intended write path: {@link #rebuild} builds each array once
+ * from a columnar snapshot, and imports should go through {@code saveAll}, not repeated saves.
+ */
+final class SubscriptionIndex {
+
+    private static final User[] NO_USERS = new User[0];
+    private static final Comparator<User> BY_ID = Comparator.comparing(User::getId);
+
+    private final AtomicReferenceArray<User[]> subscribers = new AtomicReferenceArray<>(Category.values().length);
+
+    SubscriptionIndex() {
+        for (Category category : Category.values()) {
+            subscribers.set(category.ordinal(), NO_USERS);
+        }
+    }
+
+    /**
+     * Gets a read-only view of the users subscribed to a category, ordered by id.
+     * The view is a stable snapshot and is not affected by later updates.
+     */
+    List<User> subscribersOf(Category category) {
+        return Collections.unmodifiableList(Arrays.asList(subscribers.get(category.ordinal())));
+    }
+
+    /**
+     * Gets a read-only view of the subscribers with an id greater than {@code afterId}.
+     *
+     * @param category the category
+     * @param afterId the last id already seen, or null to start from the lowest id
+     * @param limit the maximum number of users to return
+     */
+    List<User> subscribersAfter(Category category, Long afterId, int limit) {
+        User[] current = subscribers.get(category.ordinal());
+        int from = 0;
+        if (afterId != null) {
+            int index = Arrays.binarySearch(current, User.builder().id(afterId).build(), BY_ID);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        int to = (int) Math.min((long) from + limit, current.length);
+        return Collections.unmodifiableList(Arrays.asList(current).subList(from, to));
+    }
+
+    /**
+     * Replaces the index contents from a columnar snapshot, one mask scan per category.
+     *
+     * @param columns every known user
+     */
+    synchronized void rebuild(UserColumns columns) {
+        for (Category category : Category.values()) {
+            int[] rows = columns.rowsSubscribedTo(category);
+            User[] matching = new User[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                matching[i] = columns.userAt(rows[i]);
+            }
+            subscribers.set(category.ordinal(), matching);
+        }
+    }
+
+    /**
+     * Applies a single user change.
+     *
+     * @param previous the stored user before the change, or null if it is new
+     * @param current the stored user after the change, or null if it was removed
+     */
+    synchronized void update(User previous, User current) {
+        for (Category category : Category.values()) {
+            boolean wasSubscribed = previous != null && previous.isSubscribedTo(category);
+            boolean isSubscribed = current != null && current.isSubscribedTo(category);
+            if (isSubscribed) {
+                upsert(category, current);
+            } else if (wasSubscribed) {
+                remove(category, previous.getId());
+            }
+        }
+    }
+
+    private void upsert(Category category, User user) {
+        User[] current = subscribers.get(category.ordinal());
+        int index = Arrays.binarySearch(current, user, BY_ID);
+        User[] updated;
+        if (index >= 0) {
+            updated = current.clone();
+            updated[index] = user;
+        } else {
+            int insertAt = -index - 1;
+            updated = new User[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, insertAt);
+            updated[insertAt] = user;
+            System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+        }
+        subscribers.set(category.ordinal(), updated);
+    }
+
+    private void remove(Category category, Long userId) {
+        User[] current = subscribers.get(category.ordinal());
+        int index = Arrays.binarySearch(current, User.builder().id(userId).build(), BY_ID);
+        if (index < 0) {
+            return;
+        }
+        User[] updated = new User[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        subscribers.set(category.ordinal(), updated);
+    }
+}
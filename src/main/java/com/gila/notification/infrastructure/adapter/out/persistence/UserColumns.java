@@ -0,0 +1,94 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.EnumMasks;
+import com.gila.notification.domain.model.User;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Immutable columnar snapshot of users: parallel arrays of ids and preference masks,
+ * ordered by id. Subscription scans run over the {@code int[]} mask column only,
+ * so they stream through contiguous memory instead of dereferencing every user.
+ */
+public final class UserColumns {
+
+    private final long[] ids;
+    private final int[] categoryMasks;
+    private final int[] channelMasks;
+    private final User[] users;
+
+    private UserColumns(User[] users) {
+        this.users = users;
+        this.ids = new long[users.length];
+        this.categoryMasks = new int[users.length];
+        this.channelMasks = new int[users.length];
+        for (int row = 0; row < users.length; row++) {
+            ids[row] = users[row].getId();
+            categoryMasks[row] = users[row].getCategoryMask();
+            channelMasks[row] = users[row].getChannelMask();
+        }
+    }
+
+    /**
+     * Builds a snapshot of the given users.
+     *
+     * @param users the users, each with an id
+     * @return the columnar snapshot
+     */
+    public static UserColumns of(Collection<User> users) {
+        User[] rows = users.toArray(new User[0]);
+        Arrays.sort(rows, Comparator.comparing(User::getId));
+        return new UserColumns(rows);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long idAt(int row) {
+        return ids[row];
+    }
+
+    public int channelMaskAt(int row) {
+        return channelMasks[row];
+    }
+
+    public User userAt(int row) {
+        return users[row];
+    }
+
+    /**
+     * Gets the rows subscribed to a category, in id order.
+     *
+     * @param category the category
+     * @return the matching row numbers
+     */
+    public int[] rowsSubscribedTo(Category category) {
+        int bit = EnumMasks.bit(category);
+        int[] rows = new int[categoryMasks.length];
+        int count = 0;
+        for (int row = 0; row < categoryMasks.length; row++) {
+            if ((categoryMasks[row] & bit) != 0) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Counts the users subscribed to a category.
+     */
+    public int countSubscribedTo(Category category) {
+        int bit = EnumMasks.bit(category);
+        int count = 0;
+        for (int mask : categoryMasks) {
+            if ((mask & bit) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
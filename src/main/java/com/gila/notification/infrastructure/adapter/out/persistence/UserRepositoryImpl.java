@@ -6,20 +6,31 @@ import com.gila.notification.domain.model.User;
 import com.gila.notification.domain.port.out.UserRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory user store with an inverted subscription index, so recipients of a message are
+ * found without scanning every user. Stored users are private copies, so callers cannot
+ * change subscriptions behind the index's back. Bulk loads rebuild the index from a columnar
+ * snapshot instead of applying one update per user.
+ */
 @Repository
+@ConditionalOnProperty(prefix = "notification.users", name = "store", havingValue = "memory", matchIfMissing = true)
 @Slf4j
 public class UserRepositoryImpl implements UserRepository {
 
-    private final Map<Long, User> users = new HashMap<>();
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+    private final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
 
     @PostConstruct
     public void initUsers() {
-        users.put(1L, User.builder()
+        List<User> seed = new ArrayList<>();
+
+        seed.add(User.builder()
                 .id(1L)
                 .name("John Doe")
                 .email("john.doe@example.com")
@@ -28,7 +39,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.SMS, NotificationChannel.EMAIL))
                 .build());
 
-        users.put(2L, User.builder()
+        seed.add(User.builder()
                 .id(2L)
                 .name("Jane Smith")
                 .email("jane.smith@example.com")
@@ -37,7 +48,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.EMAIL))
                 .build());
 
-        users.put(3L, User.builder()
+        seed.add(User.builder()
                 .id(3L)
                 .name("Bob Johnson")
                 .email("bob.johnson@example.com")
@@ -46,7 +57,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.SMS, NotificationChannel.PUSH_NOTIFICATION))
                 .build());
 
-        users.put(4L, User.builder()
+        seed.add(User.builder()
                 .id(4L)
                 .name("Alice Brown")
                 .email("alice.brown@example.com")
@@ -55,7 +66,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.PUSH_NOTIFICATION))
                 .build());
 
-        users.put(5L, User.builder()
+        seed.add(User.builder()
                 .id(5L)
                 .name("Charlie Wilson")
                 .email("charlie.wilson@example.com")
@@ -64,7 +75,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.SMS, NotificationChannel.EMAIL, NotificationChannel.PUSH_NOTIFICATION))
                 .build());
 
-        users.put(6L, User.builder()
+        seed.add(User.builder()
                 .id(6L)
                 .name("Diana Martinez")
                 .email("diana.martinez@example.com")
@@ -73,7 +84,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.EMAIL, NotificationChannel.PUSH_NOTIFICATION))
                 .build());
 
-        users.put(7L, User.builder()
+        seed.add(User.builder()
                 .id(7L)
                 .name("Edward Davis")
                 .email("edward.davis@example.com")
@@ -82,7 +93,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.SMS))
                 .build());
 
-        users.put(8L, User.builder()
+        seed.add(User.builder()
                 .id(8L)
                 .name("Fiona Garcia")
                 .email("fiona.garcia@example.com")
@@ -91,7 +102,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.EMAIL))
                 .build());
 
-        users.put(9L, User.builder()
+        seed.add(User.builder()
                 .id(9L)
                 .name("George Lee")
                 .email("")  // No email
@@ -100,7 +111,7 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.SMS, NotificationChannel.PUSH_NOTIFICATION))
                 .build());
 
-        users.put(10L, User.builder()
+        seed.add(User.builder()
                 .id(10L)
                 .name("Helen White")
                 .email("helen.white@example.com")
@@ -109,6 +120,8 @@ public class UserRepositoryImpl implements UserRepository {
                 .channels(Set.of(NotificationChannel.EMAIL))
                 .build());
 
+        saveAll(seed);
+
         log.info("Initialized {} mock users", users.size());
     }
 
@@ -124,8 +137,68 @@ public class UserRepositoryImpl implements UserRepository {
 
     @Override
     public List<User> findBySubscribedCategory(Category category) {
-        return users.values().stream()
-                .filter(user -> user.isSubscribedTo(category))
-                .collect(Collectors.toList());
+        return subscriptionIndex.subscribersOf(category);
+    }
+
+    @Override
+    public List<User> findSubscribersAfter(Category category, Long afterId, int limit) {
+        return subscriptionIndex.subscribersAfter(category, afterId, limit);
+    }
+
+    @Override
+    public List<Long> findSubscriberIdBounds(Category category, int rangeSize) {
+        List<User> subscribers = subscriptionIndex.subscribersOf(category);
+        List<Long> bounds = new ArrayList<>();
+        for (int i = rangeSize - 1; i < subscribers.size(); i += rangeSize) {
+            bounds.add(subscribers.get(i).getId());
+        }
+        if (subscribers.size() % rangeSize != 0) {
+            bounds.add(subscribers.getLast().getId());
+        }
+        return bounds;
+    }
+
+    /**
+     * Copies the index arrays of the user's categories, so use {@link #saveAll} to load many users.
+     */
+    @Override
+    public synchronized User save(User user) {
+        if (user.getId() == null) {
+            throw new IllegalArgumentException("User id is required");
+        }
+        User stored = copyOf(user);
+        User previous = users.put(stored.getId(), stored);
+        subscriptionIndex.update(previous, stored);
+        return stored;
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<User> batch) {
+        for (User user : batch) {
+            if (user.getId() == null) {
+                throw new IllegalArgumentException("User id is required");
+            }
+            users.put(user.getId(), copyOf(user));
+        }
+        subscriptionIndex.rebuild(UserColumns.of(users.values()));
+    }
+
+    @Override
+    public synchronized void deleteById(Long id) {
+        User previous = users.remove(id);
+        if (previous != null) {
+            subscriptionIndex.update(previous, null);
+        }
+    }
+
+    private User copyOf(User user) {
+        return User.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .categoryMask(user.getCategoryMask())
+                .channelMask(user.getChannelMask())
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,246 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.port.out.NotificationLogWriter;
+import com.gila.notification.infrastructure.adapter.out.persistence.entity.NotificationLogEntity;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogRepository;
+import com.gila.notification.infrastructure.config.LogWriterProperties;
+import com.gila.notification.infrastructure.config.NotificationMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind sink for notification logs.
+ * <p>
+ * Delivery threads publish logs to a lock-free ring buffer and return immediately. A single
+ * writer thread drains the ring in batches and inserts them. When the database fails, or the
+ * ring fills past its high watermark, batches are appended to a memory-mapped spill file instead.
+ * Spilled records are replayed when the database recovers and on the next startup.
+ * Everything handed to the writer is therefore either stored or spilled. Only logs still in the
+ * ring when the process dies are lost.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WriteBehindNotificationLogWriter implements NotificationLogWriter {
+
+    private static final long FULL_RING_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long FLUSH_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int REPLAY_BATCHES_PER_IDLE_CYCLE = 10;
+
+    private final NotificationLogRepository notificationLogRepository;
+    private final LogWriterProperties properties;
+    private final NotificationMetrics notificationMetrics;
+
+    private final AtomicLong processedCount = new AtomicLong();
+    private LogRingBuffer<NotificationLog> ring;
+    private LogSpillFile spillFile;
+    private Thread writerThread;
+    private volatile boolean running;
+    private volatile boolean flushRequested;
+    private volatile boolean databaseAvailable = true;
+    private long lastDatabaseFailureNanos;
+
+    @PostConstruct
+    public void start() throws IOException {
+        ring = new LogRingBuffer<>(properties.getRingCapacity());
+        spillFile = LogSpillFile.open(Path.of(properties.getSpillFile()), properties.getSpillInitialSizeBytes());
+        if (!spillFile.isEmpty()) {
+            log.warn("Replaying {} bytes of spilled notification logs from {}",
+                    spillFile.pendingBytes(), spillFile.getPath());
+            replaySpill(Integer.MAX_VALUE);
+        }
+
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("log-writer")
+                .daemon(true)
+                .start(this::runWriter);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(properties.getFlushTimeoutMs());
+        }
+        if (spillFile != null) {
+            spillFile.close();
+        }
+    }
+
+    /**
+     * Publishes a log to the ring. Only spins when the ring is completely full,
+     * which means the writer cannot keep up even by spilling.
+     */
+    @Override
+    public void write(NotificationLog log) {
+        while (!ring.offer(log)) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(FULL_RING_BACKOFF_NANOS);
+        }
+        if (ring.size() >= properties.getBatchSize()) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Waits until every log published before the call is stored or spilled,
+     * giving up after the configured flush timeout.
+     */
+    @Override
+    public void flush() {
+        long target = ring.publishedCount();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getFlushTimeoutMs());
+        while (processedCount.get() < target) {
+            if (System.nanoTime() > deadline) {
+                log.warn("Timed out waiting for notification log flush, {} logs still buffered",
+                        target - processedCount.get());
+                return;
+            }
+            flushRequested = true;
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(FLUSH_POLL_NANOS);
+        }
+    }
+
+    /**
+     * Gets the number of logs waiting in the ring.
+     */
+    public int getBufferedCount() {
+        return ring.size();
+    }
+
+    /**
+     * Gets the number of spilled bytes waiting to be replayed.
+     */
+    public int getSpilledBytes() {
+        return spillFile.pendingBytes();
+    }
+
+    private void runWriter() {
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        List<NotificationLog> batch = new ArrayList<>(properties.getBatchSize());
+        long lastDrainNanos = System.nanoTime();
+
+        while (running || ring.size() > 0) {
+            long sinceLastDrain = System.nanoTime() - lastDrainNanos;
+            if (running && !flushRequested && ring.size() < properties.getBatchSize()
+                    && sinceLastDrain < flushIntervalNanos) {
+                if (ring.size() == 0) {
+                    replaySpillIfDue();
+                }
+                LockSupport.parkNanos(flushIntervalNanos - sinceLastDrain);
+                continue;
+            }
+
+            flushRequested = false;
+            lastDrainNanos = System.nanoTime();
+            batch.clear();
+            int drained = ring.drainTo(batch, properties.getBatchSize());
+            if (drained > 0) {
+                store(batch);
+                processedCount.addAndGet(drained);
+            }
+        }
+        log.info("Notification log writer stopped");
+    }
+
+    private void store(List<NotificationLog> batch) {
+        boolean backlogged = ring.size() > ring.capacity() * properties.getHighWatermark();
+        if (!backlogged && (databaseAvailable || isRetryDue())) {
+            try {
+                persist(batch);
+                markDatabaseAvailable();
+                // Under sustained load the ring never empties, so the spill is worked off here as well
+                replaySpill(1);
+                return;
+            } catch (Exception e) {
+                markDatabaseUnavailable(e);
+            }
+        }
+        spill(batch);
+    }
+
+    private void spill(List<NotificationLog> batch) {
+        while (true) {
+            try {
+                spillFile.append(batch);
+                log.debug("Spilled batch of {} notification logs to {}", batch.size(), spillFile.getPath());
+                return;
+            } catch (IOException e) {
+                log.error("Failed to spill {} notification logs, retrying against the database", batch.size(), e);
+            }
+            try {
+                persist(batch);
+                return;
+            } catch (Exception e) {
+                markDatabaseUnavailable(e);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(properties.getRetryIntervalMs()));
+            }
+        }
+    }
+
+    private void replaySpillIfDue() {
+        if (!spillFile.isEmpty() && (databaseAvailable || isRetryDue())) {
+            replaySpill(REPLAY_BATCHES_PER_IDLE_CYCLE);
+        }
+    }
+
+    private void replaySpill(int maxBatches) {
+        for (int i = 0; i < maxBatches && !spillFile.isEmpty(); i++) {
+            LogSpillFile.ReplayBatch replay = spillFile.readBatch(properties.getBatchSize());
+            try {
+                persist(replay.logs());
+            } catch (Exception e) {
+                markDatabaseUnavailable(e);
+                return;
+            }
+            spillFile.acknowledge(replay.endOffset());
+            markDatabaseAvailable();
+        }
+    }
+
+    private boolean isRetryDue() {
+        long sinceFailure = System.nanoTime() - lastDatabaseFailureNanos;
+        return sinceFailure >= TimeUnit.MILLISECONDS.toNanos(properties.getRetryIntervalMs());
+    }
+
+    private void markDatabaseAvailable() {
+        if (!databaseAvailable) {
+            databaseAvailable = true;
+            log.info("Database available again, replaying spilled notification logs");
+        }
+    }
+
+    private void markDatabaseUnavailable(Exception e) {
+        lastDatabaseFailureNanos = System.nanoTime();
+        if (databaseAvailable) {
+            databaseAvailable = false;
+            log.error("Notification log insert failed, spilling to {}", spillFile.getPath(), e);
+        }
+    }
+
+    private void persist(List<NotificationLog> batch) {
+        List<NotificationLogEntity> entities = new ArrayList<>(batch.size());
+        for (NotificationLog log : batch) {
+            entities.add(NotificationLogEntity.from(log));
+        }
+        long startNanos = System.nanoTime();
+        notificationLogRepository.saveAll(entities);
+        notificationMetrics.logBatchWritten(System.nanoTime() - startNanos);
+        log.debug("Inserted batch of {} notification logs", entities.size());
+    }
+}
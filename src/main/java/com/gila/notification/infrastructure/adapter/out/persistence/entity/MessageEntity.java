@@ -1,6 +1,7 @@
 package com.gila.notification.infrastructure.adapter.out.persistence.entity;
 
 import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.Message;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -35,6 +36,9 @@ public class MessageEntity {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(length = 100, unique = true, updatable = false)
+    private String idempotencyKey;
+
     /**
      * Sets creation timestamp before persisting.
      */
@@ -44,4 +48,18 @@ public class MessageEntity {
             createdAt = LocalDateTime.now();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts this entity to the domain message.
+     *
+     * @return the domain message
+     */
+    public Message toDomain() {
+        return Message.builder()
+                .id(id)
+                .category(category)
+                .content(content)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.gila.notification.infrastructure.adapter.out.persistence.entity;
 
 import com.gila.notification.domain.model.Category;
 import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
 import com.gila.notification.domain.model.NotificationStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -26,8 +27,20 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class NotificationLogEntity {
 
+    /**
+     * Ids come from a pooled hi/lo table so Hibernate can batch inserts,
+     * which it cannot do for IDENTITY columns.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_log_id")
+    @TableGenerator(
+            name = "notification_log_id",
+            table = "id_generators",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "notification_logs",
+            allocationSize = 500
+    )
     private Long id;
 
     @Column(nullable = false)
@@ -66,6 +79,55 @@ public class NotificationLogEntity {
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Column(nullable = false)
+    private int attempts = 1;
+
+    /**
+     * Creates an unsaved entity from a domain log; the id is assigned on insert.
+     *
+     * @param log the domain log
+     * @return the entity
+     */
+    public static NotificationLogEntity from(NotificationLog log) {
+        NotificationLogEntity entity = new NotificationLogEntity();
+        entity.setMessageId(log.getMessageId());
+        entity.setMessageContent(log.getMessageContent());
+        entity.setMessageCategory(log.getMessageCategory());
+        entity.setUserId(log.getUserId());
+        entity.setUserName(log.getUserName());
+        entity.setUserEmail(log.getUserEmail());
+        entity.setUserPhone(log.getUserPhone());
+        entity.setChannel(log.getChannel());
+        entity.setStatus(log.getStatus());
+        entity.setSentAt(log.getSentAt());
+        entity.setErrorMessage(log.getErrorMessage());
+        entity.setAttempts(log.getAttempts());
+        return entity;
+    }
+
+    /**
+     * Converts this entity to the domain log.
+     *
+     * @return the domain log
+     */
+    public NotificationLog toDomain() {
+        return NotificationLog.builder()
+                .id(id)
+                .messageId(messageId)
+                .messageContent(messageContent)
+                .messageCategory(messageCategory)
+                .userId(userId)
+                .userName(userName)
+                .userEmail(userEmail)
+                .userPhone(userPhone)
+                .channel(channel)
+                .status(status)
+                .sentAt(sentAt)
+                .errorMessage(errorMessage)
+                .attempts(attempts)
+                .build();
+    }
+
     /**
      * Sets sent timestamp before persisting.
      */
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for message persistence operations.
@@ -16,4 +17,5 @@ public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
     List<MessageEntity> findByCategoryOrderByCreatedAtDesc(Category category);
     List<MessageEntity> findByCreatedAtBetweenOrderByCreatedAtDesc(LocalDateTime start, LocalDateTime end);
     List<MessageEntity> findAllByOrderByCreatedAtDesc();
+    Optional<MessageEntity> findByIdempotencyKey(String idempotencyKey);
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.gila.notification.infrastructure.adapter.out.persistence.repository;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.NotificationStatus;
+import com.gila.notification.domain.port.in.GetNotificationLogsUseCase.LogFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Reads notification logs through a plain JDBC cursor for bulk exports.
+ * Rows are mapped straight to domain objects and handed on one at a time. Nothing is kept in a
+ * persistence context, so memory use does not depend on the number of rows.
+ */
+@Repository
+public class NotificationLogExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String SELECT_LOGS = """
+            SELECT id, message_id, message_content, message_category, user_id, user_name,
+                   user_email, user_phone, channel, status, sent_at, error_message, attempts
+            FROM notification_logs""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationLogExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSizeFor(dataSource));
+    }
+
+    /**
+     * MySQL Connector/J reads the whole result into memory for any positive fetch size unless the
+     * URL sets {@code useCursorFetch=true}. Without that flag, {@link Integer#MIN_VALUE} makes it
+     * stream rows one at a time instead.
+     */
+    static int fetchSizeFor(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, metaData ->
+                    "MySQL".equals(metaData.getDatabaseProductName())
+                            && !metaData.getURL().contains("useCursorFetch=true") ? Integer.MIN_VALUE : FETCH_SIZE);
+        } catch (MetaDataAccessException e) {
+            return FETCH_SIZE;
+        }
+    }
+
+    /**
+     * Streams the logs matching the filter, ordered by id.
+     * Callers should hold a transaction so drivers such as PostgreSQL use a server-side cursor, and
+     * must not run other statements on the connection until it returns, as MySQL streaming forbids it.
+     *
+     * @param filter the log filter
+     * @param consumer receives each log
+     * @return the number of rows read
+     */
+    public long streamMatching(LogFilter filter, Consumer<NotificationLog> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_LOGS);
+        List<Object> args = new ArrayList<>(4);
+        appendCondition(sql, args, "user_id", filter.userId());
+        appendCondition(sql, args, "status", filter.status() == null ? null : filter.status().name());
+        appendCondition(sql, args, "channel", filter.channel() == null ? null : filter.channel().name());
+        appendCondition(sql, args, "message_category", filter.category() == null ? null : filter.category().name());
+        sql.append(" ORDER BY id");
+
+        AtomicLong rows = new AtomicLong();
+        jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> {
+            consumer.accept(mapRow(rs));
+            rows.incrementAndGet();
+        }, args.toArray());
+        return rows.get();
+    }
+
+    private void appendCondition(StringBuilder sql, List<Object> args, String column, Object value) {
+        if (value == null) {
+            return;
+        }
+        sql.append(args.isEmpty() ? " WHERE " : " AND ").append(column).append(" = ?");
+        args.add(value);
+    }
+
+    private NotificationLog mapRow(ResultSet rs) throws SQLException {
+        Timestamp sentAt = rs.getTimestamp("sent_at");
+        return NotificationLog.builder()
+                .id(rs.getLong("id"))
+                .messageId(rs.getLong("message_id"))
+                .messageContent(rs.getString("message_content"))
+                .messageCategory(Category.valueOf(rs.getString("message_category")))
+                .userId(rs.getLong("user_id"))
+                .userName(rs.getString("user_name"))
+                .userEmail(rs.getString("user_email"))
+                .userPhone(rs.getString("user_phone"))
+                .channel(NotificationChannel.valueOf(rs.getString("channel")))
+                .status(NotificationStatus.valueOf(rs.getString("status")))
+                .sentAt(sentAt == null ? null : sentAt.toLocalDateTime())
+                .errorMessage(rs.getString("error_message"))
+                .attempts(rs.getInt("attempts"))
+                .build();
+    }
+}
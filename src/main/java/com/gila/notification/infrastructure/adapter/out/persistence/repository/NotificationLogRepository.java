@@ -6,6 +6,7 @@ import com.gila.notification.infrastructure.adapter.out.persistence.entity.Notif
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -16,7 +17,8 @@ import java.util.List;
  * Repository interface for notification log persistence operations.
  */
 @Repository
-public interface NotificationLogRepository extends JpaRepository<NotificationLogEntity, Long> {
+public interface NotificationLogRepository extends JpaRepository<NotificationLogEntity, Long>,
+        JpaSpecificationExecutor<NotificationLogEntity> {
 
     Page<NotificationLogEntity> findAllByOrderBySentAtDesc(Pageable pageable);
 
@@ -37,4 +39,19 @@ public interface NotificationLogRepository extends JpaRepository<NotificationLog
     long countByChannelAndStatus(NotificationChannel channel, NotificationStatus status);
 
     List<NotificationLogEntity> findBySentAtBetweenOrderBySentAtDesc(LocalDateTime start, LocalDateTime end);
+
+    @Query("SELECT n.status AS status, COUNT(n) AS total FROM NotificationLogEntity n " +
+            "WHERE n.messageId = :messageId GROUP BY n.status")
+    List<StatusCount> countByStatusForMessage(Long messageId);
+
+    @Query("SELECT COUNT(DISTINCT n.userId) FROM NotificationLogEntity n WHERE n.messageId = :messageId")
+    long countRecipientsForMessage(Long messageId);
+
+    /**
+     * Projection of a per-status row count.
+     */
+    interface StatusCount {
+        NotificationStatus getStatus();
+        long getTotal();
+    }
 }
\ No newline at end of file
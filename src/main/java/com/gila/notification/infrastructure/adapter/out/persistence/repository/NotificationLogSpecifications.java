@@ -0,0 +1,44 @@
+package com.gila.notification.infrastructure.adapter.out.persistence.repository;
+
+import com.gila.notification.domain.port.in.GetNotificationLogsUseCase.LogFilter;
+import com.gila.notification.infrastructure.adapter.out.persistence.entity.NotificationLogEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds notification log queries that only contain predicates for the filters actually set,
+ * so the database can pick the matching index instead of evaluating optional parameters.
+ */
+public final class NotificationLogSpecifications {
+
+    private NotificationLogSpecifications() {
+    }
+
+    /**
+     * Creates a specification matching every non-null field of the filter.
+     *
+     * @param filter the log filter
+     * @return the specification
+     */
+    public static Specification<NotificationLogEntity> matching(LogFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(4);
+            if (filter.userId() != null) {
+                predicates.add(cb.equal(root.get("userId"), filter.userId()));
+            }
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.status()));
+            }
+            if (filter.channel() != null) {
+                predicates.add(cb.equal(root.get("channel"), filter.channel()));
+            }
+            if (filter.category() != null) {
+                predicates.add(cb.equal(root.get("messageCategory"), filter.category()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,191 @@
+package com.gila.notification.infrastructure.adapter.out.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.gila.notification.infrastructure.config.Span;
+import com.gila.notification.infrastructure.config.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends finished spans to a file in the OTLP JSON lines format, one
+ * {@code ExportTraceServiceRequest} per line, as written by the OpenTelemetry Collector's file
+ * exporter. The file can be replayed into any OTLP backend with the Collector's otlpjsonfile receiver.
+ * <p>
+ * Spans are queued and written by a single background thread, so ending a span never waits on
+ * disk. Spans that do not fit in the queue are dropped and counted.
+ */
+@Slf4j
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+
+    private static final int MAX_SPANS_PER_LINE = 512;
+    private static final long POLL_MILLIS = 200;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path file;
+    private final String serviceName;
+    private final BlockingQueue<Span> queue;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private OutputStream out;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public OtlpJsonFileSpanExporter(Path file, String serviceName, int queueCapacity) {
+        this.file = file;
+        this.serviceName = serviceName;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("trace-exporter")
+                .daemon(true)
+                .start(this::runWriter);
+    }
+
+    /**
+     * Stops the writer once it has written every queued span. The writer is not interrupted, since
+     * an interrupt during a write would close the file channel and lose the spans still queued.
+     */
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (out != null) {
+            out.close();
+        }
+    }
+
+    @Override
+    public void export(Span span) {
+        if (!queue.offer(span)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void runWriter() {
+        List<Span> batch = new ArrayList<>(MAX_SPANS_PER_LINE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Span first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // Nothing interrupts the writer on purpose; it stops once running is false and the queue is empty
+            }
+            queue.drainTo(batch, MAX_SPANS_PER_LINE - batch.size());
+            if (!batch.isEmpty()) {
+                writeLine(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeLine(List<Span> spans) {
+        try {
+            if (out == null) {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            try (JsonGenerator json = jsonFactory.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                writeRequest(json, spans);
+            }
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            droppedCount.addAndGet(spans.size());
+            log.warn("Failed to write {} spans to {}: {}", spans.size(), file, e.getMessage());
+        }
+    }
+
+    private void writeRequest(JsonGenerator json, List<Span> spans) throws IOException {
+        json.writeStartObject();
+        json.writeArrayFieldStart("resourceSpans");
+        json.writeStartObject();
+        json.writeObjectFieldStart("resource");
+        json.writeArrayFieldStart("attributes");
+        writeAttribute(json, "service.name", serviceName);
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeArrayFieldStart("scopeSpans");
+        json.writeStartObject();
+        json.writeObjectFieldStart("scope");
+        json.writeStringField("name", "com.gila.notification");
+        json.writeEndObject();
+        json.writeArrayFieldStart("spans");
+        for (Span span : spans) {
+            writeSpan(json, span);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private void writeSpan(JsonGenerator json, Span span) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("traceId", HEX.toHexDigits(span.getTraceIdHigh()) + HEX.toHexDigits(span.getTraceIdLow()));
+        json.writeStringField("spanId", HEX.toHexDigits(span.getSpanId()));
+        if (span.getParentSpanId() != 0) {
+            json.writeStringField("parentSpanId", HEX.toHexDigits(span.getParentSpanId()));
+        }
+        json.writeStringField("name", span.getName());
+        json.writeNumberField("kind", span.getKind().otlpCode());
+        // OTLP JSON encodes 64-bit integers as strings
+        json.writeStringField("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        json.writeStringField("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        json.writeArrayFieldStart("attributes");
+        if (span.getMessageId() != null) {
+            writeAttribute(json, Span.MESSAGE_ID, span.getMessageId());
+        }
+        for (Span.Attribute attribute : span.getAttributes()) {
+            writeAttribute(json, attribute.key(), attribute.value());
+        }
+        json.writeEndArray();
+        if (span.getErrorMessage() != null) {
+            json.writeObjectFieldStart("status");
+            json.writeStringField("message", span.getErrorMessage());
+            json.writeNumberField("code", 2);
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeAttribute(JsonGenerator json, String key, Object value) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("key", key);
+        json.writeObjectFieldStart("value");
+        if (value instanceof Long number) {
+            json.writeStringField("intValue", number.toString());
+        } else {
+            json.writeStringField("stringValue", String.valueOf(value));
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+}
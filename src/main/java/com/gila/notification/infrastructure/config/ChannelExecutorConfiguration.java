@@ -0,0 +1,64 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuration for the bounded executors that run notification deliveries.
+ * Replaces the shared ForkJoinPool so channels are isolated from each other.
+ */
+@Configuration
+@Slf4j
+public class ChannelExecutorConfiguration {
+
+    @Bean
+    public ChannelExecutorRegistry channelExecutorRegistry(ChannelExecutorProperties properties) {
+        Map<NotificationChannel, Executor> executors = new EnumMap<>(NotificationChannel.class);
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            ChannelExecutorProperties.Pool pool = properties.forChannel(channel);
+            executors.put(channel, switch (properties.getMode()) {
+                case PLATFORM -> createPlatformExecutor(channel, pool);
+                case VIRTUAL -> createVirtualExecutor(channel, pool);
+            });
+        }
+        return new ChannelExecutorRegistry(executors);
+    }
+
+    private Executor createVirtualExecutor(NotificationChannel channel, ChannelExecutorProperties.Pool pool) {
+        log.info("Initialized {} virtual-thread delivery executor with max concurrency {}",
+                channel, pool.getMaxConcurrency());
+        return new VirtualThreadChannelExecutor(threadNamePrefix(channel), pool.getMaxConcurrency());
+    }
+
+    private ThreadPoolTaskExecutor createPlatformExecutor(NotificationChannel channel, ChannelExecutorProperties.Pool pool) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getPoolSize());
+        executor.setMaxPoolSize(pool.getPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix(channel));
+        executor.setRejectedExecutionHandler(switch (pool.getRejectionPolicy()) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("Initialized {} delivery executor with {} threads, queue capacity {}, rejection policy {}",
+                channel, pool.getPoolSize(), pool.getQueueCapacity(), pool.getRejectionPolicy());
+        return executor;
+    }
+
+    private String threadNamePrefix(NotificationChannel channel) {
+        return channel.name().toLowerCase(Locale.ROOT) + "-sender-";
+    }
+}
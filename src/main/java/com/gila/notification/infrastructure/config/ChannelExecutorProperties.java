@@ -0,0 +1,81 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sizing of the per-channel delivery executors.
+ * Channels without an explicit entry fall back to {@link #defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.executor")
+public class ChannelExecutorProperties {
+
+    /**
+     * How deliveries are executed: bounded platform thread pools or virtual threads.
+     */
+    private ExecutionMode mode = ExecutionMode.PLATFORM;
+
+    private Pool defaults = new Pool();
+
+    private Map<NotificationChannel, Pool> channels = new EnumMap<>(NotificationChannel.class);
+
+    /**
+     * Resolves the effective pool settings for a channel.
+     *
+     * @param channel the notification channel
+     * @return the channel override, or the defaults
+     */
+    public Pool forChannel(NotificationChannel channel) {
+        return channels.getOrDefault(channel, defaults);
+    }
+
+    @Data
+    public static class Pool {
+
+        /**
+         * Number of concurrent deliveries on the channel.
+         */
+        private int poolSize = 16;
+
+        /**
+         * Deliveries waiting for a worker before the rejection policy applies.
+         */
+        private int queueCapacity = 10000;
+
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        /**
+         * Deliveries allowed in flight at once when running on virtual threads.
+         */
+        private int maxConcurrency = 500;
+    }
+
+    public enum ExecutionMode {
+        /**
+         * Fixed-size platform thread pool per channel, sized by {@code pool-size}.
+         */
+        PLATFORM,
+
+        /**
+         * One virtual thread per delivery, capped per channel by {@code max-concurrency}.
+         */
+        VIRTUAL
+    }
+
+    public enum RejectionPolicy {
+        /**
+         * The dispatching thread runs the delivery itself, throttling fan-out.
+         */
+        CALLER_RUNS,
+
+        /**
+         * The delivery is refused and logged as failed.
+         */
+        ABORT
+    }
+}
@@ -0,0 +1,77 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Holds one isolated executor per notification channel so a slow gateway
+ * can only exhaust its own workers.
+ */
+@Slf4j
+public class ChannelExecutorRegistry implements DisposableBean {
+
+    private final Map<NotificationChannel, Executor> executors;
+
+    public ChannelExecutorRegistry(Map<NotificationChannel, ? extends Executor> executors) {
+        this.executors = new EnumMap<>(executors);
+    }
+
+    /**
+     * Retrieves the executor dedicated to a channel.
+     *
+     * @param channel the notification channel
+     * @return the channel executor
+     * @throws IllegalArgumentException if no executor is configured for the channel
+     */
+    public Executor executorFor(NotificationChannel channel) {
+        return Optional.ofNullable(executors.get(channel))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "No executor configured for channel: " + channel
+                ));
+    }
+
+    /**
+     * Gets the number of deliveries waiting for a worker on a channel.
+     *
+     * @param channel the notification channel
+     * @return queued deliveries, or 0 for executors that do not queue
+     */
+    public int queueDepth(NotificationChannel channel) {
+        return switch (executors.get(channel)) {
+            case ThreadPoolTaskExecutor pool -> pool.getQueueSize();
+            case VirtualThreadChannelExecutor virtual -> virtual.getQueueLength();
+            case null, default -> 0;
+        };
+    }
+
+    /**
+     * Gets the number of deliveries currently running on a channel.
+     *
+     * @param channel the notification channel
+     * @return running deliveries, or 0 for executors that do not report them
+     */
+    public int activeCount(NotificationChannel channel) {
+        return switch (executors.get(channel)) {
+            case ThreadPoolTaskExecutor pool -> pool.getActiveCount();
+            case VirtualThreadChannelExecutor virtual -> virtual.getActiveCount();
+            case null, default -> 0;
+        };
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Map.Entry<NotificationChannel, Executor> entry : executors.entrySet()) {
+            if (entry.getValue() instanceof DisposableBean disposable) {
+                log.debug("Shutting down {} delivery executor", entry.getKey());
+                disposable.destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Thresholds of the per-channel circuit breakers.
+ * Channels without an explicit entry fall back to {@link #defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    private Thresholds defaults = new Thresholds();
+
+    private Map<NotificationChannel, Thresholds> channels = new EnumMap<>(NotificationChannel.class);
+
+    /**
+     * Resolves the effective thresholds for a channel.
+     *
+     * @param channel the notification channel
+     * @return the channel override, or the defaults
+     */
+    public Thresholds forChannel(NotificationChannel channel) {
+        return channels.getOrDefault(channel, defaults);
+    }
+
+    public enum WindowType {
+        /**
+         * The window covers the most recent {@code windowSize} calls.
+         */
+        COUNT_BASED,
+
+        /**
+         * The window covers the calls of the last {@code windowDurationMs}.
+         */
+        TIME_BASED
+    }
+
+    @Data
+    public static class Thresholds {
+
+        private WindowType windowType = WindowType.TIME_BASED;
+
+        /**
+         * Calls kept in a count-based window.
+         */
+        private int windowSize = 100;
+
+        /**
+         * Time covered by a time-based window.
+         */
+        private long windowDurationMs = 10_000;
+
+        /**
+         * Buckets the window is divided into; old outcomes expire one bucket at a time.
+         */
+        private int bucketCount = 10;
+
+        /**
+         * Calls the window must hold before rates are evaluated.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * Failure percentage that opens the circuit.
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * Calls taking longer than this count as slow, whether they succeed or not.
+         */
+        private long slowCallDurationMs = 2_000;
+
+        /**
+         * Slow-call percentage that opens the circuit.
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * Time the circuit stays open before trial requests are let through.
+         */
+        private long openDurationMs = 60_000;
+
+        /**
+         * Trial requests allowed while half-open; all must succeed without being slow to close the circuit.
+         */
+        private int halfOpenSuccessThreshold = 3;
+    }
+}
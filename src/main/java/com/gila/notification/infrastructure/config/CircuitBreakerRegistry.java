@@ -0,0 +1,55 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Holds one circuit breaker per notification channel so an outage on one gateway
+ * only short-circuits deliveries on that channel.
+ */
+public class CircuitBreakerRegistry {
+
+    private final Map<NotificationChannel, NotificationCircuitBreaker> breakers;
+
+    public CircuitBreakerRegistry(Map<NotificationChannel, NotificationCircuitBreaker> breakers) {
+        this.breakers = new EnumMap<>(breakers);
+    }
+
+    /**
+     * Retrieves the breaker guarding a channel.
+     *
+     * @param channel the notification channel
+     * @return the channel breaker
+     * @throws IllegalArgumentException if no breaker is configured for the channel
+     */
+    public NotificationCircuitBreaker breakerFor(NotificationChannel channel) {
+        return Optional.ofNullable(breakers.get(channel))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "No circuit breaker configured for channel: " + channel
+                ));
+    }
+
+    /**
+     * Registers a callback for state transitions of every channel breaker.
+     *
+     * @param listener the callback
+     */
+    public void onStateTransition(Consumer<NotificationCircuitBreaker.StateTransition> listener) {
+        breakers.values().forEach(breaker -> breaker.onStateTransition(listener));
+    }
+
+    /**
+     * Gets the current metrics of every channel breaker.
+     *
+     * @return the metrics by channel
+     */
+    public Map<NotificationChannel, NotificationCircuitBreaker.Metrics> metrics() {
+        Map<NotificationChannel, NotificationCircuitBreaker.Metrics> metrics = new EnumMap<>(NotificationChannel.class);
+        breakers.forEach((channel, breaker) -> metrics.put(channel, breaker.getMetrics()));
+        return metrics;
+    }
+}
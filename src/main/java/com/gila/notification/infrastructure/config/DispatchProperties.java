@@ -0,0 +1,95 @@
+package com.gila.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for message fan-out and the dispatch job workers.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.dispatch")
+public class DispatchProperties {
+
+    /**
+     * How the workers split the delivery of one message.
+     */
+    private Mode mode = Mode.LOCAL;
+
+    /**
+     * Worker threads on this node that claim dispatch jobs, each fanning out one message at a time.
+     * Zero leaves the outbox to other nodes.
+     */
+    private int poolSize = 4;
+
+    /**
+     * Due jobs a worker claims in one transaction.
+     */
+    private int claimBatchSize = 5;
+
+    /**
+     * Pause of an idle worker before it looks for due jobs again.
+     */
+    private long pollIntervalMs = 500;
+
+    /**
+     * Time a claimed job stays hidden from other workers without a heartbeat. A job whose worker
+     * died becomes due again after this.
+     */
+    private long leaseMs = 600_000;
+
+    /**
+     * Delay before a job whose dispatch failed is claimed again.
+     */
+    private long retryDelayMs = 30_000;
+
+    /**
+     * Subscribers per partition in PARTITIONED mode.
+     */
+    private int recipientsPerPartition = 10_000;
+
+    /**
+     * Time a claimed partition stays leased without a heartbeat. A partition whose node died is
+     * claimed again after this.
+     */
+    private long partitionLeaseMs = 30_000;
+
+    /**
+     * Interval at which held job and partition leases are renewed. Must be well below both leases.
+     */
+    private long heartbeatIntervalMs = 10_000;
+
+    /**
+     * Recipients loaded per keyset page while fanning out one message.
+     */
+    private int recipientPageSize = 1000;
+
+    /**
+     * Recipients of one channel sent to the provider in a single batch call.
+     * Providers split larger batches into requests they accept.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Deliveries of one message submitted but not yet finished. Loading further recipients
+     * blocks while the window is full, which bounds memory for any audience size.
+     */
+    private int maxInFlightDeliveries = 10_000;
+
+    /**
+     * Delivery keys this node remembers, so recipients it has just served are skipped on a
+     * second dispatch without reading the delivery key table.
+     */
+    private int deliveryKeyCacheSize = 100_000;
+
+    public enum Mode {
+        /**
+         * The worker that claims a message's job fans the whole message out.
+         */
+        LOCAL,
+
+        /**
+         * The audience is split into user id ranges that workers on every node claim and deliver in parallel.
+         */
+        PARTITIONED
+    }
+}
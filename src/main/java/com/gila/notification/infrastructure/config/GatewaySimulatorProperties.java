@@ -0,0 +1,69 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Behavior of the simulated provider gateways behind the senders, used to reproduce production
+ * latency and failure patterns locally. Channels without an explicit entry fall back to {@link #defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.gateway")
+public class GatewaySimulatorProperties {
+
+    private Profile defaults = new Profile();
+
+    private Map<NotificationChannel, Profile> channels = new EnumMap<>(NotificationChannel.class);
+
+    /**
+     * Resolves the effective profile for a channel.
+     *
+     * @param channel the notification channel
+     * @return the channel override, or the defaults
+     */
+    public Profile forChannel(NotificationChannel channel) {
+        return channels.getOrDefault(channel, defaults);
+    }
+
+    /**
+     * Latency, failure, throttling and outage behavior of one gateway.
+     */
+    @Data
+    public static class Profile {
+
+        /**
+         * Median latency of a gateway request. Zero disables latency injection.
+         */
+        private long medianLatencyMs = 0;
+
+        /**
+         * 99th percentile latency. Latencies follow a log-normal distribution through the median
+         * and this value, so a large ratio gives a long tail.
+         */
+        private long p99LatencyMs = 0;
+
+        /**
+         * Share of requests, between 0 and 1, that fail with a retryable error.
+         */
+        private double failureRate = 0.1;
+
+        /**
+         * Requests accepted per second before the gateway answers 429. Zero means unlimited.
+         */
+        private int maxRequestsPerSecond = 0;
+
+        /**
+         * Length of the outage cycle. Zero disables outages.
+         */
+        private long outagePeriodMs = 0;
+
+        /**
+         * How long the gateway is down at the end of every outage cycle.
+         */
+        private long outageDurationMs = 0;
+    }
+}
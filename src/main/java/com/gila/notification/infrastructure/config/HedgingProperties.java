@@ -0,0 +1,46 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Settings of hedged sends, which start a second attempt when the first one is slow.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.hedging")
+public class HedgingProperties {
+
+    /**
+     * Channels whose sends are hedged. Only channels where a duplicate delivery is harmless belong here.
+     */
+    private Set<NotificationChannel> channels = EnumSet.of(NotificationChannel.PUSH_NOTIFICATION);
+
+    /**
+     * Latency percentile after which the hedge is sent.
+     */
+    private double percentile = 95;
+
+    /**
+     * Hedge delay used until enough latencies have been sampled.
+     */
+    private long initialDelayMs = 100;
+
+    /**
+     * Lower bound of the hedge delay, so very fast gateways are not hedged on noise.
+     */
+    private long minDelayMs = 10;
+
+    /**
+     * Recent latencies the percentile is computed over.
+     */
+    private int sampleSize = 1024;
+
+    /**
+     * Samples recorded between two recomputations of the hedge delay.
+     */
+    private int recomputeInterval = 128;
+}
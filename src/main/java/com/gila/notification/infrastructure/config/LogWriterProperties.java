@@ -0,0 +1,52 @@
+package com.gila.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the write-behind notification log sink.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.log-writer")
+public class LogWriterProperties {
+
+    /**
+     * Buffered logs that trigger an immediate batch insert.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time a buffered log waits before being flushed.
+     */
+    private long flushIntervalMs = 200;
+
+    /**
+     * Slots in the in-memory ring buffer. Must be a power of two.
+     */
+    private int ringCapacity = 65536;
+
+    /**
+     * Ring fill ratio above which batches go to the spill file instead of the database.
+     */
+    private double highWatermark = 0.75;
+
+    /**
+     * Location of the memory-mapped spill file replayed on startup.
+     */
+    private String spillFile = "data/notification-log-spill.bin";
+
+    /**
+     * Bytes mapped for the spill file up front. The mapping doubles when full.
+     */
+    private int spillInitialSizeBytes = 16 * 1024 * 1024;
+
+    /**
+     * Delay between attempts to reach the database after an insert failure.
+     */
+    private long retryIntervalMs = 5000;
+
+    /**
+     * Maximum time {@code flush()} waits for buffered logs to be stored or spilled.
+     */
+    private long flushTimeoutMs = 5000;
+}
@@ -0,0 +1,181 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.CircuitState;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.service.NotificationStrategy;
+import com.gila.notification.infrastructure.adapter.out.notification.HedgingNotificationSender;
+import com.gila.notification.infrastructure.adapter.out.persistence.WriteBehindNotificationLogWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Configuration for the pipeline meters exported on the Prometheus endpoint.
+ * Recorded meters live in {@link NotificationMetrics}. The binders here register gauges that
+ * read the state of breakers, budgets, rate limiters, executors and the log writer when scraped.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public NotificationMetrics notificationMetrics(MeterRegistry registry) {
+        return new NotificationMetrics(registry);
+    }
+
+    @Bean
+    public MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return registry -> {
+            for (NotificationChannel channel : NotificationChannel.values()) {
+                NotificationCircuitBreaker breaker = circuitBreakerRegistry.breakerFor(channel);
+                String tag = tagOf(channel);
+                for (CircuitState state : CircuitState.values()) {
+                    Gauge.builder("notification.circuit.state", breaker, b -> b.getState() == state ? 1 : 0)
+                            .description("1 for the current state of the channel's circuit breaker")
+                            .tags("channel", tag, "state", state.name().toLowerCase(Locale.ROOT))
+                            .register(registry);
+                }
+                Gauge.builder("notification.circuit.failure.rate", breaker, b -> b.getMetrics().failureRate())
+                        .description("Failure percentage in the breaker's sliding window")
+                        .baseUnit("percent")
+                        .tag("channel", tag)
+                        .register(registry);
+                Gauge.builder("notification.circuit.slow.call.rate", breaker, b -> b.getMetrics().slowCallRate())
+                        .description("Slow-call percentage in the breaker's sliding window")
+                        .baseUnit("percent")
+                        .tag("channel", tag)
+                        .register(registry);
+                FunctionCounter.builder("notification.circuit.not.permitted", breaker,
+                                b -> b.getMetrics().notPermittedCalls())
+                        .description("Calls refused while the circuit was open")
+                        .tag("channel", tag)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder retryMetrics(RetryScheduler retryScheduler,
+                                    NotificationStrategy notificationStrategy,
+                                    HedgingProperties hedgingProperties) {
+        return registry -> {
+            Gauge.builder("notification.retry.pending", retryScheduler, RetryScheduler::getPendingCount)
+                    .description("Retries waiting on the timer wheel")
+                    .register(registry);
+            for (NotificationChannel channel : NotificationChannel.values()) {
+                RetryBudget budget = retryScheduler.budgetFor(channel);
+                String tag = tagOf(channel);
+                Gauge.builder("notification.retry.budget.tokens", budget, b -> b.getMetrics().availableTokens())
+                        .description("Extra attempts the channel may still make")
+                        .tag("channel", tag)
+                        .register(registry);
+                FunctionCounter.builder("notification.retry.budget.decisions", budget, b -> b.getMetrics().permitted())
+                        .description("Retries and hedges by budget decision")
+                        .tags("channel", tag, "decision", "permitted")
+                        .register(registry);
+                FunctionCounter.builder("notification.retry.budget.decisions", budget, b -> b.getMetrics().denied())
+                        .description("Retries and hedges by budget decision")
+                        .tags("channel", tag, "decision", "denied")
+                        .register(registry);
+            }
+            for (NotificationChannel channel : hedgingProperties.getChannels()) {
+                String tag = tagOf(channel);
+                Gauge.builder("notification.hedging.delay", notificationStrategy,
+                                hedging(channel, metrics -> metrics.hedgeDelayMs()))
+                        .description("Delay before a hedged request is sent")
+                        .baseUnit("milliseconds")
+                        .tag("channel", tag)
+                        .register(registry);
+                FunctionCounter.builder("notification.hedging.requests", notificationStrategy,
+                                hedging(channel, metrics -> metrics.hedgesSent()))
+                        .description("Hedged requests by result")
+                        .tags("channel", tag, "result", "sent")
+                        .register(registry);
+                FunctionCounter.builder("notification.hedging.requests", notificationStrategy,
+                                hedging(channel, metrics -> metrics.hedgeWins()))
+                        .description("Hedged requests by result")
+                        .tags("channel", tag, "result", "won")
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder rateLimitMetrics(RateLimiterRegistry rateLimiterRegistry) {
+        return registry -> {
+            for (NotificationChannel channel : NotificationChannel.values()) {
+                RateLimiter limiter = rateLimiterRegistry.limiterFor(channel);
+                String tag = tagOf(channel);
+                Gauge.builder("notification.ratelimit.permits.per.second", limiter, l -> l.getMetrics().permitsPerSecond())
+                        .description("Configured send rate of the channel, zero when unlimited")
+                        .tag("channel", tag)
+                        .register(registry);
+                Gauge.builder("notification.ratelimit.tokens", limiter, l -> l.getMetrics().availableTokens())
+                        .description("Recipients the channel may send to now without waiting")
+                        .tag("channel", tag)
+                        .register(registry);
+                FunctionCounter.builder("notification.ratelimit.permits", limiter, l -> l.getMetrics().granted())
+                        .description("Recipients admitted by the channel's rate limiter; its rate is the current send rate")
+                        .tag("channel", tag)
+                        .register(registry);
+                FunctionCounter.builder("notification.ratelimit.wait", limiter, l -> l.getMetrics().waitedSeconds())
+                        .description("Time senders spent waiting for permits")
+                        .baseUnit("seconds")
+                        .tag("channel", tag)
+                        .register(registry);
+                FunctionCounter.builder("notification.ratelimit.user.rejected", rateLimiterRegistry,
+                                r -> r.getUserRejections(channel))
+                        .description("Deliveries refused because the user reached the per-user cap")
+                        .tag("channel", tag)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder executorMetrics(ChannelExecutorRegistry channelExecutorRegistry) {
+        return registry -> {
+            for (NotificationChannel channel : NotificationChannel.values()) {
+                String tag = tagOf(channel);
+                Gauge.builder("notification.executor.queued", channelExecutorRegistry, r -> r.queueDepth(channel))
+                        .description("Deliveries waiting for a worker")
+                        .tag("channel", tag)
+                        .register(registry);
+                Gauge.builder("notification.executor.active", channelExecutorRegistry, r -> r.activeCount(channel))
+                        .description("Deliveries running on a worker")
+                        .tag("channel", tag)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder logWriterMetrics(WriteBehindNotificationLogWriter logWriter) {
+        return registry -> {
+            Gauge.builder("notification.log.buffered", logWriter, WriteBehindNotificationLogWriter::getBufferedCount)
+                    .description("Logs waiting in the write-behind ring")
+                    .register(registry);
+            Gauge.builder("notification.log.spilled", logWriter, WriteBehindNotificationLogWriter::getSpilledBytes)
+                    .description("Logs waiting in the spill file")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    private static ToDoubleFunction<NotificationStrategy> hedging(
+            NotificationChannel channel, ToDoubleFunction<HedgingNotificationSender.Metrics> value) {
+        return strategy -> strategy.isChannelSupported(channel)
+                && strategy.getSender(channel) instanceof HedgingNotificationSender hedging
+                ? value.applyAsDouble(hedging.getMetrics())
+                : 0;
+    }
+
+    private static String tagOf(NotificationChannel channel) {
+        return channel.name().toLowerCase(Locale.ROOT);
+    }
+}
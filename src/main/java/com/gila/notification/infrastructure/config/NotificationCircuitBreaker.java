@@ -0,0 +1,252 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.CircuitState;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for one notification channel.
+ * <p>
+ * While closed, call outcomes go into a {@link SlidingWindow}. The circuit opens once the window
+ * holds enough calls and the failure rate or the slow-call rate reaches its threshold, so a
+ * gateway that fails a steady 10% of the time no longer trips on an unlucky streak.
+ * The state lives in one immutable snapshot swapped by compare-and-set, so every transition
+ * is atomic without locks: exactly one caller opens the circuit, and no more than the configured
+ * number of trial requests pass while half-open.
+ */
+@Slf4j
+public class NotificationCircuitBreaker {
+
+    private final String name;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final long slowCallDurationNanos;
+    private final float slowCallRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenSuccessThreshold;
+    private final LongSupplier nanoClock;
+    private final SlidingWindow window;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.CLOSED);
+    private final AtomicLong notPermittedCalls = new AtomicLong();
+    private final List<Consumer<StateTransition>> listeners = new CopyOnWriteArrayList<>();
+
+    public NotificationCircuitBreaker(String name, CircuitBreakerProperties.Thresholds thresholds) {
+        this(name, thresholds, System::nanoTime);
+    }
+
+    NotificationCircuitBreaker(String name, CircuitBreakerProperties.Thresholds thresholds, LongSupplier nanoClock) {
+        this.name = name;
+        this.minimumCalls = thresholds.getMinimumCalls();
+        this.failureRateThreshold = thresholds.getFailureRateThreshold();
+        this.slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(thresholds.getSlowCallDurationMs());
+        this.slowCallRateThreshold = thresholds.getSlowCallRateThreshold();
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(thresholds.getOpenDurationMs());
+        this.halfOpenSuccessThreshold = thresholds.getHalfOpenSuccessThreshold();
+        this.nanoClock = nanoClock;
+        this.window = switch (thresholds.getWindowType()) {
+            case COUNT_BASED -> SlidingWindow.countBased(thresholds.getWindowSize(), thresholds.getBucketCount());
+            case TIME_BASED -> SlidingWindow.timeBased(
+                    TimeUnit.MILLISECONDS.toNanos(thresholds.getWindowDurationMs()), thresholds.getBucketCount());
+        };
+    }
+
+    /**
+     * Checks if the circuit allows the request to proceed.
+     * Moves an expired open circuit to half-open and counts the request as one of its trials.
+     */
+    public boolean allowRequest() {
+        while (true) {
+            Snapshot current = snapshot.get();
+            Snapshot next;
+            switch (current.state()) {
+                case CLOSED -> {
+                    return true;
+                }
+                case OPEN -> {
+                    if (nanoClock.getAsLong() - current.openedAtNanos() < openDurationNanos) {
+                        notPermittedCalls.incrementAndGet();
+                        return false;
+                    }
+                    next = new Snapshot(CircuitState.HALF_OPEN, 1, 0, current.openedAtNanos());
+                }
+                default -> {
+                    if (current.trials() >= halfOpenSuccessThreshold) {
+                        notPermittedCalls.incrementAndGet();
+                        return false;
+                    }
+                    next = new Snapshot(CircuitState.HALF_OPEN, current.trials() + 1,
+                            current.successes(), current.openedAtNanos());
+                }
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                if (current.state() == CircuitState.OPEN) {
+                    transitioned(CircuitState.OPEN, CircuitState.HALF_OPEN);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks, without taking a trial slot, whether requests are currently being refused.
+     */
+    public boolean isRejecting() {
+        Snapshot current = snapshot.get();
+        return switch (current.state()) {
+            case CLOSED -> false;
+            case OPEN -> nanoClock.getAsLong() - current.openedAtNanos() < openDurationNanos;
+            case HALF_OPEN -> current.trials() >= halfOpenSuccessThreshold;
+        };
+    }
+
+    /**
+     * Records a successful operation. A success slower than the slow-call duration still counts
+     * towards the slow-call rate, and fails a half-open trial.
+     *
+     * @param durationNanos how long the call took
+     */
+    public void recordSuccess(long durationNanos) {
+        record(false, durationNanos >= slowCallDurationNanos);
+    }
+
+    /**
+     * Records a failed operation.
+     *
+     * @param durationNanos how long the call took before failing
+     */
+    public void recordFailure(long durationNanos) {
+        record(true, durationNanos >= slowCallDurationNanos);
+    }
+
+    /**
+     * Resets the circuit breaker to closed with an empty window.
+     */
+    public void reset() {
+        Snapshot previous = snapshot.getAndSet(Snapshot.CLOSED);
+        window.reset();
+        if (previous.state() != CircuitState.CLOSED) {
+            transitioned(previous.state(), CircuitState.CLOSED);
+        }
+    }
+
+    /**
+     * Registers a callback for every state transition. Callbacks run on the thread that caused
+     * the transition, so they must be quick and must not throw.
+     *
+     * @param listener the callback
+     */
+    public void onStateTransition(Consumer<StateTransition> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Gets the current state together with the counts of the sliding window.
+     */
+    public Metrics getMetrics() {
+        SlidingWindow.Counts counts = window.counts(nanoClock.getAsLong());
+        return new Metrics(getState(), counts.calls(), counts.failures(), counts.slowCalls(),
+                counts.failureRate(), counts.slowCallRate(), notPermittedCalls.get());
+    }
+
+    public CircuitState getState() {
+        return snapshot.get().state();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            Snapshot next;
+            switch (current.state()) {
+                case CLOSED -> {
+                    long now = nanoClock.getAsLong();
+                    window.record(now, failed, slow);
+                    if ((!failed && !slow) || !exceedsThresholds(window.counts(now))) {
+                        return;
+                    }
+                    next = new Snapshot(CircuitState.OPEN, 0, 0, now);
+                }
+                case HALF_OPEN -> {
+                    if (failed || slow) {
+                        next = new Snapshot(CircuitState.OPEN, 0, 0, nanoClock.getAsLong());
+                    } else {
+                        int successes = current.successes() + 1;
+                        next = successes >= halfOpenSuccessThreshold
+                                ? Snapshot.CLOSED
+                                : new Snapshot(CircuitState.HALF_OPEN, current.trials(), successes,
+                                        current.openedAtNanos());
+                    }
+                }
+                default -> {
+                    // Late result of a request started before the circuit opened
+                    return;
+                }
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                if (next.state() != current.state()) {
+                    if (current.state() == CircuitState.CLOSED) {
+                        log.warn("Circuit breaker {} is OPEN: {}", name, getMetrics());
+                    }
+                    window.reset();
+                    transitioned(current.state(), next.state());
+                }
+                return;
+            }
+            if (current.state() == CircuitState.CLOSED) {
+                // Outcome is already in the window; another caller changed the state meanwhile
+                return;
+            }
+        }
+    }
+
+    private boolean exceedsThresholds(SlidingWindow.Counts counts) {
+        return counts.calls() >= minimumCalls
+                && (counts.failureRate() >= failureRateThreshold || counts.slowCallRate() >= slowCallRateThreshold);
+    }
+
+    private void transitioned(CircuitState from, CircuitState to) {
+        log.info("Circuit breaker {} moved from {} to {}", name, from, to);
+        StateTransition transition = new StateTransition(name, from, to, Instant.now());
+        for (Consumer<StateTransition> listener : listeners) {
+            try {
+                listener.accept(transition);
+            } catch (RuntimeException e) {
+                log.warn("Circuit breaker {} listener failed", name, e);
+            }
+        }
+    }
+
+    /**
+     * A change of circuit state.
+     */
+    public record StateTransition(String breakerName, CircuitState from, CircuitState to, Instant at) {}
+
+    /**
+     * State and sliding-window counts of a breaker at one point in time.
+     * Rates are percentages of the calls in the window.
+     */
+    public record Metrics(
+            CircuitState state,
+            int calls,
+            int failedCalls,
+            int slowCalls,
+            float failureRate,
+            float slowCallRate,
+            long notPermittedCalls
+    ) {}
+
+    private record Snapshot(CircuitState state, int trials, int successes, long openedAtNanos) {
+        static final Snapshot CLOSED = new Snapshot(CircuitState.CLOSED, 0, 0, 0);
+    }
+}
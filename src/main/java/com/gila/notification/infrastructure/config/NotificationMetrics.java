@@ -0,0 +1,149 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Meters recorded along the send pipeline.
+ * <p>
+ * Every tagged meter is registered up front and kept in arrays indexed by channel ordinal, so
+ * recording a value is an array read and an atomic update, with no tag lookup and no allocation.
+ */
+public class NotificationMetrics {
+
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+
+    private final Timer[] sendSuccess = new Timer[CHANNELS.length];
+    private final Timer[] sendFailure = new Timer[CHANNELS.length];
+    private final Counter[] delivered = new Counter[CHANNELS.length];
+    private final Counter[] failed = new Counter[CHANNELS.length];
+    private final Counter[] retried = new Counter[CHANNELS.length];
+    private final Counter[] deduplicated = new Counter[CHANNELS.length];
+    private final AtomicInteger[] activeSends = new AtomicInteger[CHANNELS.length];
+    private final DistributionSummary fanOut;
+    private final Timer logWrite;
+
+    public NotificationMetrics(MeterRegistry registry) {
+        for (NotificationChannel channel : CHANNELS) {
+            int i = channel.ordinal();
+            String tag = channel.name().toLowerCase(Locale.ROOT);
+            sendSuccess[i] = sendTimer(registry, tag, "success");
+            sendFailure[i] = sendTimer(registry, tag, "failure");
+            delivered[i] = deliveryCounter(registry, tag, "success");
+            failed[i] = deliveryCounter(registry, tag, "failure");
+            retried[i] = Counter.builder("notification.retries")
+                    .description("Recipients scheduled for another attempt")
+                    .tag("channel", tag)
+                    .register(registry);
+            deduplicated[i] = Counter.builder("notification.deliveries.deduplicated")
+                    .description("Recipients skipped because they already received the message")
+                    .tag("channel", tag)
+                    .register(registry);
+            activeSends[i] = new AtomicInteger();
+            Gauge.builder("notification.sends.active", activeSends[i], AtomicInteger::get)
+                    .description("Provider requests in progress")
+                    .tag("channel", tag)
+                    .register(registry);
+        }
+        fanOut = DistributionSummary.builder("notification.fanout.recipients")
+                .description("Subscribers a message was dispatched to")
+                .baseUnit("recipients")
+                .publishPercentileHistogram()
+                .register(registry);
+        logWrite = Timer.builder("notification.log.write")
+                .description("Time to insert one batch of notification logs")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+
+    /**
+     * Creates metrics that are recorded but not exported, for use outside a Spring context.
+     */
+    public static NotificationMetrics noop() {
+        return new NotificationMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Marks the start of a provider request.
+     */
+    public void sendStarted(NotificationChannel channel) {
+        activeSends[channel.ordinal()].incrementAndGet();
+    }
+
+    /**
+     * Records the end of a provider request.
+     *
+     * @param channel the notification channel
+     * @param success whether the provider accepted the request
+     * @param durationNanos how long the request took
+     */
+    public void sendFinished(NotificationChannel channel, boolean success, long durationNanos) {
+        int i = channel.ordinal();
+        activeSends[i].decrementAndGet();
+        (success ? sendSuccess[i] : sendFailure[i]).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the final outcome of one delivery.
+     */
+    public void deliveryCompleted(NotificationChannel channel, boolean success) {
+        (success ? delivered : failed)[channel.ordinal()].increment();
+    }
+
+    /**
+     * Records recipients that will be attempted again.
+     */
+    public void deliveriesRetried(NotificationChannel channel, int recipients) {
+        retried[channel.ordinal()].increment(recipients);
+    }
+
+    /**
+     * Records recipients skipped because the message already reached them.
+     */
+    public void deliveriesDeduplicated(NotificationChannel channel, int recipients) {
+        deduplicated[channel.ordinal()].increment(recipients);
+    }
+
+    /**
+     * Records how many subscribers one message reached.
+     */
+    public void messageDispatched(int recipients) {
+        fanOut.record(recipients);
+    }
+
+    /**
+     * Records the insert time of one batch of logs.
+     */
+    public void logBatchWritten(long durationNanos) {
+        logWrite.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer sendTimer(MeterRegistry registry, String channel, String outcome) {
+        return Timer.builder("notification.send")
+                .description("Provider request latency")
+                .tags("channel", channel, "outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+    }
+
+    private static Counter deliveryCounter(MeterRegistry registry, String channel, String outcome) {
+        return Counter.builder("notification.deliveries")
+                .description("Deliveries by final outcome")
+                .tags("channel", channel, "outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.domain.service.NotificationStrategy;
+import com.gila.notification.infrastructure.adapter.out.notification.HedgingNotificationSender;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration of the senders the notification strategy picks from.
+ * Senders of the configured hedging channels are wrapped in a {@link HedgingNotificationSender}.
+ */
+@Configuration
+public class NotificationSenderConfiguration {
+
+    private final ExecutorService hedgingExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Creates the notification strategy over the provider senders, hedging the configured channels.
+     */
+    @Bean
+    public NotificationStrategy notificationStrategy(List<NotificationSender> senders,
+                                                     HedgingProperties hedgingProperties,
+                                                     RetryScheduler retryScheduler) {
+        List<NotificationSender> decorated = senders.stream()
+                .map(sender -> hedgingProperties.getChannels().contains(sender.getChannel())
+                        ? new HedgingNotificationSender(sender, retryScheduler.budgetFor(sender.getChannel()),
+                                hedgingProperties, hedgingExecutor)
+                        : sender)
+                .toList();
+        return new NotificationStrategy(decorated);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgingExecutor.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package com.gila.notification.infrastructure.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts sampled traces of message deliveries.
+ * <p>
+ * The sampling decision is made once per message at the root span. An unsampled message gets
+ * {@link Span#NOOP} and records nothing further, so with a sample rate of 0 tracing costs one
+ * comparison per message and a null check per instrumented call.
+ */
+public class NotificationTracer {
+
+    private static final NotificationTracer DISABLED = new NotificationTracer(0, 0, span -> { });
+
+    private final double sampleRate;
+    private final int maxSpansPerTrace;
+    private final SpanExporter exporter;
+    private final long epochOffsetNanos;
+
+    public NotificationTracer(TracingProperties properties, SpanExporter exporter) {
+        this(properties.getSampleRate(), properties.getMaxSpansPerTrace(), exporter);
+    }
+
+    private NotificationTracer(double sampleRate, int maxSpansPerTrace, SpanExporter exporter) {
+        this.sampleRate = sampleRate;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.exporter = exporter;
+        this.epochOffsetNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - System.nanoTime();
+    }
+
+    /**
+     * Creates a tracer that samples nothing, for use outside a Spring context.
+     */
+    public static NotificationTracer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Starts the root span of a new trace, subject to sampling.
+     *
+     * @param name the operation name
+     * @return the root span, or {@link Span#NOOP} if the trace is not sampled
+     */
+    public Span startTrace(String name) {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return Span.NOOP;
+        }
+        return Span.root(this, name);
+    }
+
+    int maxSpansPerTrace() {
+        return maxSpansPerTrace;
+    }
+
+    long epochNanos() {
+        return epochOffsetNanos + System.nanoTime();
+    }
+
+    void export(Span span) {
+        exporter.export(span);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gila.notification.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the send rate limits that keep each channel within what its provider accepts.
+ */
+@Configuration
+public class RateLimitConfiguration {
+
+    /**
+     * Creates a rate limiter and per-user caps for every notification channel.
+     */
+    @Bean
+    public RateLimiterRegistry rateLimiterRegistry(RateLimitProperties properties) {
+        return new RateLimiterRegistry(properties);
+    }
+}
@@ -0,0 +1,64 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Send rates allowed per channel and per recipient, matched to what each provider accepts.
+ * Channels without an explicit entry fall back to {@link #defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.rate-limit")
+public class RateLimitProperties {
+
+    private Limit defaults = new Limit();
+
+    private Map<NotificationChannel, Limit> channels = new EnumMap<>(NotificationChannel.class);
+
+    /**
+     * Resolves the effective limit for a channel.
+     *
+     * @param channel the notification channel
+     * @return the channel override, or the defaults
+     */
+    public Limit forChannel(NotificationChannel channel) {
+        return channels.getOrDefault(channel, defaults);
+    }
+
+    @Data
+    public static class Limit {
+
+        /**
+         * Recipients sent to per second on this node. Senders wait for a permit instead of exceeding
+         * it. Zero means unlimited.
+         */
+        private double permitsPerSecond = 0;
+
+        /**
+         * Recipients that may be sent to at once after an idle period. Batches are split into
+         * provider calls of at most this many recipients.
+         */
+        private int burst = 100;
+
+        /**
+         * Messages one user may receive on this channel per minute. A delivery over the cap fails
+         * without a retry. Zero disables the cap.
+         */
+        private double userPermitsPerMinute = 0;
+
+        /**
+         * Messages one user may receive in a row before the per-minute cap applies.
+         */
+        private int userBurst = 5;
+
+        /**
+         * Users whose recent sends are tracked for the cap. Once exceeded, users whose allowance
+         * has fully refilled are forgotten.
+         */
+        private int maxTrackedUsers = 100_000;
+    }
+}
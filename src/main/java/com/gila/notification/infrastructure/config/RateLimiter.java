@@ -0,0 +1,144 @@
+package com.gila.notification.infrastructure.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that paces the sends of one channel to a fixed rate.
+ * <p>
+ * The bucket is kept as a single theoretical arrival time: the moment at which all permits handed
+ * out so far would have been earned at the configured rate. A caller moves that time forward by
+ * its permits with compare-and-set and sleeps until its own permits are earned, less the burst
+ * allowance. So concurrent senders queue up in time rather than on a lock, and none of them is
+ * refused.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final LongSupplier nanoClock;
+    private final AtomicLong arrivalNanos;
+    private final LongAdder granted = new LongAdder();
+    private final LongAdder waitedNanos = new LongAdder();
+
+    public RateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    RateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.intervalNanos = permitsPerSecond > 0 ? Math.max(1, Math.round(1e9 / permitsPerSecond)) : 0;
+        this.toleranceNanos = intervalNanos * Math.max(0, burst - 1);
+        this.nanoClock = nanoClock;
+        this.arrivalNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * @return true if the limiter hands out permits without waiting
+     */
+    public boolean isUnlimited() {
+        return intervalNanos == 0;
+    }
+
+    /**
+     * @return the permits that can be taken at once after an idle period
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Takes permits, blocking the calling thread until they are earned.
+     *
+     * @param permits the permits to take
+     * @throws InterruptedException if the thread is interrupted while waiting; the permits stay taken
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        long deadline = nanoClock.getAsLong() + waitNanos;
+        for (long remaining = waitNanos; remaining > 0; remaining = deadline - nanoClock.getAsLong()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while waiting for a send permit");
+            }
+        }
+    }
+
+    /**
+     * Takes permits without waiting for them.
+     *
+     * @param permits the permits to take
+     * @return how long the caller must wait before using them, in nanoseconds
+     */
+    long reserve(int permits) {
+        granted.add(permits);
+        if (isUnlimited()) {
+            return 0;
+        }
+        long cost = intervalNanos * permits;
+        long now;
+        long current;
+        long next;
+        do {
+            now = nanoClock.getAsLong();
+            current = arrivalNanos.get();
+            next = Math.max(current, now) + cost;
+        } while (!arrivalNanos.compareAndSet(current, next));
+        // The last permit is earned at next - interval; the burst allowance lets it go that much earlier
+        long waitNanos = Math.max(0, next - intervalNanos - toleranceNanos - now);
+        waitedNanos.add(waitNanos);
+        return waitNanos;
+    }
+
+    /**
+     * Takes one permit only if it is available now.
+     *
+     * @return true if the permit was taken
+     */
+    public boolean tryAcquire() {
+        if (isUnlimited()) {
+            granted.increment();
+            return true;
+        }
+        long now;
+        long current;
+        long next;
+        do {
+            now = nanoClock.getAsLong();
+            current = arrivalNanos.get();
+            next = Math.max(current, now) + intervalNanos;
+            if (next - intervalNanos - toleranceNanos > now) {
+                return false;
+            }
+        } while (!arrivalNanos.compareAndSet(current, next));
+        granted.increment();
+        return true;
+    }
+
+    /**
+     * Whether the bucket is full, so forgetting it would change nothing.
+     */
+    boolean isIdle() {
+        return arrivalNanos.get() <= nanoClock.getAsLong();
+    }
+
+    public Metrics getMetrics() {
+        double availableTokens = isUnlimited() ? Double.POSITIVE_INFINITY
+                : Math.max(0, (double) (nanoClock.getAsLong() + toleranceNanos + intervalNanos
+                        - Math.max(arrivalNanos.get(), nanoClock.getAsLong())) / intervalNanos);
+        return new Metrics(permitsPerSecond, availableTokens, granted.sum(),
+                (double) waitedNanos.sum() / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Configured rate, permits that could be taken right now without waiting, permits handed out so
+     * far and the total time callers were asked to wait for them.
+     */
+    public record Metrics(double permitsPerSecond, double availableTokens, long granted, double waitedSeconds) {}
+}
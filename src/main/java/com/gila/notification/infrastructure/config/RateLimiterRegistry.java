@@ -0,0 +1,108 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the send rate limiter of every notification channel and the per-user caps on it.
+ * <p>
+ * A user gets a bucket of their own on the first send to them. Once more users are tracked than
+ * the channel allows, buckets that have refilled completely are dropped, at most once per second,
+ * since a fresh bucket behaves the same.
+ */
+public class RateLimiterRegistry {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<NotificationChannel, RateLimiter> limiters = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, UserCaps> userCaps = new EnumMap<>(NotificationChannel.class);
+
+    public RateLimiterRegistry(RateLimitProperties properties) {
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            RateLimitProperties.Limit limit = properties.forChannel(channel);
+            limiters.put(channel, new RateLimiter(limit.getPermitsPerSecond(), limit.getBurst()));
+            userCaps.put(channel, new UserCaps(limit));
+        }
+    }
+
+    /**
+     * Retrieves the limiter pacing a channel.
+     *
+     * @param channel the notification channel
+     * @return the channel limiter
+     */
+    public RateLimiter limiterFor(NotificationChannel channel) {
+        return limiters.get(channel);
+    }
+
+    /**
+     * Takes one send to a user from their allowance on a channel.
+     *
+     * @param channel the notification channel
+     * @param userId the recipient
+     * @return false if the user has reached the cap
+     */
+    public boolean tryAcquireForUser(NotificationChannel channel, Long userId) {
+        return userCaps.get(channel).tryAcquire(userId);
+    }
+
+    /**
+     * @return whether sends on the channel are capped per user
+     */
+    public boolean hasUserCap(NotificationChannel channel) {
+        return userCaps.get(channel).enabled;
+    }
+
+    /**
+     * Gets the sends refused so far because a user reached the cap on a channel.
+     */
+    public long getUserRejections(NotificationChannel channel) {
+        return userCaps.get(channel).rejected.sum();
+    }
+
+    private static final class UserCaps {
+
+        private final boolean enabled;
+        private final double permitsPerSecond;
+        private final int burst;
+        private final int maxTrackedUsers;
+        private final Map<Long, RateLimiter> buckets = new ConcurrentHashMap<>();
+        private final LongAdder rejected = new LongAdder();
+        private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+
+        private UserCaps(RateLimitProperties.Limit limit) {
+            this.enabled = limit.getUserPermitsPerMinute() > 0;
+            this.permitsPerSecond = limit.getUserPermitsPerMinute() / 60;
+            this.burst = limit.getUserBurst();
+            this.maxTrackedUsers = limit.getMaxTrackedUsers();
+        }
+
+        private boolean tryAcquire(Long userId) {
+            if (!enabled) {
+                return true;
+            }
+            if (buckets.size() > maxTrackedUsers) {
+                sweep();
+            }
+            if (buckets.computeIfAbsent(userId, ignored -> new RateLimiter(permitsPerSecond, burst)).tryAcquire()) {
+                return true;
+            }
+            rejected.increment();
+            return false;
+        }
+
+        private void sweep() {
+            long now = System.nanoTime();
+            long last = lastSweepNanos.get();
+            if (now - last >= SWEEP_INTERVAL_NANOS && lastSweepNanos.compareAndSet(last, now)) {
+                buckets.values().removeIf(RateLimiter::isIdle);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.gila.notification.infrastructure.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket that caps the extra attempts of one channel to a share of its first attempts.
+ * <p>
+ * Every first attempt deposits {@code percent / 100} of a token, up to a fixed capacity, and every
+ * retry or hedge withdraws a whole token. During a gateway brownout the bucket drains after a
+ * short burst, and extra attempts stay at the configured share of normal traffic instead of
+ * multiplying it. Balances are kept in thousandths of a token and updated by compare-and-set.
+ */
+public class RetryBudget {
+
+    private static final long MILLI_TOKENS_PER_TOKEN = 1000;
+
+    private final long depositMilliTokens;
+    private final long capacityMilliTokens;
+    private final AtomicLong balance;
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    public RetryBudget(double percent, int maxTokens) {
+        this.depositMilliTokens = Math.round(percent * MILLI_TOKENS_PER_TOKEN / 100);
+        this.capacityMilliTokens = maxTokens * MILLI_TOKENS_PER_TOKEN;
+        this.balance = new AtomicLong(capacityMilliTokens);
+    }
+
+    /**
+     * Credits the bucket for a first attempt.
+     */
+    public void recordRequest() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacityMilliTokens) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacityMilliTokens, current + depositMilliTokens)));
+    }
+
+    /**
+     * Takes a token for a retry or hedge.
+     *
+     * @return true if the extra attempt fits the budget
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < MILLI_TOKENS_PER_TOKEN) {
+                denied.increment();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - MILLI_TOKENS_PER_TOKEN));
+        permitted.increment();
+        return true;
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics((double) balance.get() / MILLI_TOKENS_PER_TOKEN, permitted.sum(), denied.sum());
+    }
+
+    /**
+     * Current balance and the extra attempts granted and refused so far.
+     */
+    public record Metrics(double availableTokens, long permitted, long denied) {}
+}
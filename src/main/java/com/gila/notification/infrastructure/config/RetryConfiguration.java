@@ -1,14 +1,17 @@
 package com.gila.notification.infrastructure.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.retry.annotation.Backoff;
 
 /**
  * Configuration for retry mechanism to handle transient failures.
- * Enables fault tolerance for notification sending operations.
+ * Failed deliveries are re-enqueued from a timer wheel instead of sleeping on a worker thread.
  */
 @Configuration
-@EnableRetry
-public class RetryConfiguration { }
\ No newline at end of file
+public class RetryConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public RetryScheduler retryScheduler(RetryProperties properties) {
+        return new RetryScheduler(properties);
+    }
+}
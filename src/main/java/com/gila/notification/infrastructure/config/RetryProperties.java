@@ -0,0 +1,57 @@
+package com.gila.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Backoff policy and timer wheel settings of the delivery retry scheduler.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.retry")
+public class RetryProperties {
+
+    /**
+     * Attempts per delivery, including the first one.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Backoff before the first retry.
+     */
+    private long initialDelayMs = 1000;
+
+    /**
+     * Factor applied to the backoff after every retry.
+     */
+    private double multiplier = 2.0;
+
+    /**
+     * Upper bound of a single backoff.
+     */
+    private long maxDelayMs = 30_000;
+
+    /**
+     * Fraction of the backoff that is randomized, so retries of a burst of failures spread out.
+     */
+    private double jitter = 0.5;
+
+    /**
+     * Retries and hedges allowed per channel, as a percentage of its first attempts.
+     */
+    private double budgetPercent = 20;
+
+    /**
+     * Tokens a channel budget holds at most, which bounds the burst of retries after a quiet period.
+     */
+    private int budgetMaxTokens = 100;
+
+    /**
+     * Resolution of the timer wheel.
+     */
+    private long tickMs = 10;
+
+    /**
+     * Slots of the timer wheel; rounded up to a power of two.
+     */
+    private int wheelSize = 512;
+}
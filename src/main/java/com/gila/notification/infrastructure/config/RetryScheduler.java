@@ -0,0 +1,241 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timer wheel that runs delayed tasks, used to re-enqueue failed deliveries.
+ * <p>
+ * Callers add timeouts to a lock-free queue and return at once. A single wheel thread moves them
+ * into slots and, on every tick, starts the ones that are due. Only that thread touches the slots,
+ * so the wheel needs no locks. No thread waits for a backoff to elapse. Due tasks start on their
+ * own virtual thread, so a task that blocks (for example on a caller-runs executor) cannot stall
+ * the wheel. Each channel also has a {@link RetryBudget}, so retries cannot multiply the load
+ * on a gateway that is already struggling.
+ */
+@Slf4j
+public class RetryScheduler {
+
+    private final RetryProperties properties;
+    private final long tickNanos;
+    private final int mask;
+    private final List<Timeout>[] wheel;
+    private final ConcurrentLinkedQueue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ThreadFactory taskThreadFactory = Thread.ofVirtual().name("retry-", 1).factory();
+    private final Map<NotificationChannel, RetryBudget> budgets = new EnumMap<>(NotificationChannel.class);
+    private Thread wheelThread;
+    private volatile boolean running;
+    private long startNanos;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public RetryScheduler(RetryProperties properties) {
+        this.properties = properties;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getTickMs()));
+        int slots = Integer.highestOneBit(Math.max(1, properties.getWheelSize() - 1)) << 1;
+        this.mask = slots - 1;
+        this.wheel = new List[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            budgets.put(channel, new RetryBudget(properties.getBudgetPercent(), properties.getBudgetMaxTokens()));
+        }
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        running = true;
+        wheelThread = Thread.ofPlatform()
+                .name("retry-wheel")
+                .daemon(true)
+                .start(this::runWheel);
+    }
+
+    /**
+     * Stops the wheel. Timeouts still pending run immediately, so nothing waiting on them hangs.
+     */
+    public void stop() throws InterruptedException {
+        running = false;
+        if (wheelThread != null) {
+            LockSupport.unpark(wheelThread);
+            wheelThread.join();
+        }
+    }
+
+    /**
+     * Credits the channel budget for a first delivery attempt.
+     *
+     * @param channel the notification channel
+     */
+    public void recordFirstAttempt(NotificationChannel channel) {
+        budgets.get(channel).recordRequest();
+    }
+
+    /**
+     * Checks whether a delivery that has failed {@code attempts} times may be tried again,
+     * taking a token from the channel budget if so.
+     *
+     * @param channel the notification channel
+     * @param attempts the attempts made so far
+     * @return true if another attempt is allowed
+     */
+    public boolean tryAcquireRetry(NotificationChannel channel, int attempts) {
+        return attempts < properties.getMaxAttempts() && budgets.get(channel).tryAcquire();
+    }
+
+    /**
+     * Gets the retry budget of a channel, which hedged sends draw from as well.
+     *
+     * @param channel the notification channel
+     * @return the channel budget
+     */
+    public RetryBudget budgetFor(NotificationChannel channel) {
+        return budgets.get(channel);
+    }
+
+    /**
+     * Gets the budget metrics of every channel.
+     *
+     * @return the metrics by channel
+     */
+    public Map<NotificationChannel, RetryBudget.Metrics> budgetMetrics() {
+        Map<NotificationChannel, RetryBudget.Metrics> metrics = new EnumMap<>(NotificationChannel.class);
+        budgets.forEach((channel, budget) -> metrics.put(channel, budget.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Runs a retry after the backoff for a delivery that has failed {@code attempts} times.
+     *
+     * @param attempts the attempts made so far
+     * @param task the task that re-enqueues the delivery
+     */
+    public void scheduleRetry(int attempts, Runnable task) {
+        schedule(backoffMillis(attempts), TimeUnit.MILLISECONDS, task);
+    }
+
+    /**
+     * Runs a task once the delay has elapsed, rounded up to the next tick.
+     *
+     * @param delay the delay
+     * @param unit the delay unit
+     * @param task the task to run
+     */
+    public void schedule(long delay, TimeUnit unit, Runnable task) {
+        pendingCount.incrementAndGet();
+        incoming.add(new Timeout(System.nanoTime() + unit.toNanos(delay), task));
+        if (!running) {
+            // The wheel is not turning; run on the caller so the task is not lost
+            drainIncoming();
+        }
+    }
+
+    /**
+     * Computes the jittered exponential backoff after {@code attempts} failed attempts.
+     * The result lies between {@code (1 - jitter)} and 1 times the capped exponential delay.
+     *
+     * @param attempts the attempts made so far
+     * @return the backoff in milliseconds
+     */
+    public long backoffMillis(int attempts) {
+        double exponential = properties.getInitialDelayMs() * Math.pow(properties.getMultiplier(), attempts - 1);
+        double capped = Math.min(exponential, properties.getMaxDelayMs());
+        double jitter = properties.getJitter() * ThreadLocalRandom.current().nextDouble();
+        return (long) (capped * (1 - jitter));
+    }
+
+    /**
+     * Gets the number of scheduled tasks that have not run yet.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private void runWheel() {
+        while (running) {
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long sleep = deadline - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(sleep);
+                continue;
+            }
+            transferIncoming();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+        drainAfterStop();
+    }
+
+    private void transferIncoming() {
+        Timeout timeout;
+        while ((timeout = incoming.poll()) != null) {
+            long dueTick = Math.max(tick, (timeout.deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+            timeout.remainingRounds = (dueTick - tick) / wheel.length;
+            wheel[(int) (dueTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> slot) {
+        Iterator<Timeout> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            iterator.remove();
+            run(timeout);
+        }
+    }
+
+    private void drainAfterStop() {
+        for (List<Timeout> slot : wheel) {
+            slot.forEach(this::run);
+            slot.clear();
+        }
+        drainIncoming();
+    }
+
+    private void drainIncoming() {
+        Timeout timeout;
+        while ((timeout = incoming.poll()) != null) {
+            run(timeout);
+        }
+    }
+
+    private void run(Timeout timeout) {
+        pendingCount.decrementAndGet();
+        taskThreadFactory.newThread(() -> {
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                log.error("Scheduled retry task failed", e);
+            }
+        }).start();
+    }
+
+    private static final class Timeout {
+        final long deadlineNanos;
+        final Runnable task;
+        long remainingRounds;
+
+        Timeout(long deadlineNanos, Runnable task) {
+            this.deadlineNanos = deadlineNanos;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.gila.notification.infrastructure.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free ring of outcome buckets backing a circuit breaker.
+ * <p>
+ * Each slot holds the counts for one bucket epoch. In time-based windows the epoch is derived
+ * from the clock. In count-based windows it is derived from a running call sequence, so both
+ * kinds share the same ring. A writer that finds a stale bucket in its slot replaces it with a
+ * fresh one by compare-and-set. Counts a racing writer adds to a bucket that is just being
+ * retired are dropped, which is acceptable for a failure-rate estimate.
+ */
+final class SlidingWindow {
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final int bucketCount;
+    private final long bucketSpan;
+    private final boolean timeBased;
+    private final AtomicLong callSequence = new AtomicLong();
+
+    private SlidingWindow(int bucketCount, long bucketSpan, boolean timeBased) {
+        this.bucketCount = bucketCount;
+        this.bucketSpan = bucketSpan;
+        this.timeBased = timeBased;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        reset();
+    }
+
+    /**
+     * Creates a window over roughly the last {@code windowSize} calls.
+     */
+    static SlidingWindow countBased(int windowSize, int bucketCount) {
+        int buckets = Math.min(bucketCount, windowSize);
+        return new SlidingWindow(buckets, Math.max(1, windowSize / buckets), false);
+    }
+
+    /**
+     * Creates a window over the last {@code windowNanos} of calls.
+     */
+    static SlidingWindow timeBased(long windowNanos, int bucketCount) {
+        return new SlidingWindow(bucketCount, Math.max(1, windowNanos / bucketCount), true);
+    }
+
+    /**
+     * Adds one call outcome.
+     *
+     * @param nowNanos the current clock reading, used by time-based windows
+     * @param failed whether the call failed
+     * @param slow whether the call exceeded the slow-call duration
+     */
+    void record(long nowNanos, boolean failed, boolean slow) {
+        // System.nanoTime() may be negative, so floor rather than truncate towards zero
+        long epoch = timeBased ? Math.floorDiv(nowNanos, bucketSpan) : callSequence.getAndIncrement() / bucketSpan;
+        Bucket bucket = bucketFor(epoch);
+        bucket.calls.incrementAndGet();
+        if (failed) {
+            bucket.failures.incrementAndGet();
+        }
+        if (slow) {
+            bucket.slowCalls.incrementAndGet();
+        }
+    }
+
+    /**
+     * Sums the buckets that still belong to the window.
+     *
+     * @param nowNanos the current clock reading, used by time-based windows
+     * @return the window totals
+     */
+    Counts counts(long nowNanos) {
+        long currentEpoch = timeBased ? Math.floorDiv(nowNanos, bucketSpan) : callSequence.get() / bucketSpan;
+        int calls = 0;
+        int failures = 0;
+        int slowCalls = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket.epoch > currentEpoch - bucketCount && bucket.epoch <= currentEpoch) {
+                calls += bucket.calls.get();
+                failures += bucket.failures.get();
+                slowCalls += bucket.slowCalls.get();
+            }
+        }
+        return new Counts(calls, failures, slowCalls);
+    }
+
+    /**
+     * Forgets every recorded outcome.
+     */
+    void reset() {
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.set(i, Bucket.EMPTY);
+        }
+    }
+
+    private Bucket bucketFor(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) bucketCount);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket.epoch == epoch) {
+                return bucket;
+            }
+            if (bucket.epoch > epoch) {
+                // A faster writer already moved this slot on; count towards its bucket
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        static final Bucket EMPTY = new Bucket(Long.MIN_VALUE);
+
+        final long epoch;
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicInteger slowCalls = new AtomicInteger();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    record Counts(int calls, int failures, int slowCalls) {
+
+        float failureRate() {
+            return calls == 0 ? 0f : failures * 100f / calls;
+        }
+
+        float slowCallRate() {
+            return calls == 0 ? 0f : slowCalls * 100f / calls;
+        }
+    }
+}
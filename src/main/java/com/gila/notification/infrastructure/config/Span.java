@@ -0,0 +1,223 @@
+package com.gila.notification.infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A timed operation within a traced message delivery.
+ * <p>
+ * Unsampled work gets {@link #NOOP}, whose methods return immediately and whose children are
+ * {@code NOOP} as well, so instrumented code costs a few predictable branches when tracing is off.
+ * A span is handed between threads through executors and is not meant to be updated concurrently.
+ */
+public final class Span implements AutoCloseable {
+
+    public static final Span NOOP = new Span(null, null, 0, 0, Kind.INTERNAL);
+
+    public static final String MESSAGE_ID = "notification.message.id";
+
+    private final Trace trace;
+    private final String name;
+    private final long spanId;
+    private final long parentSpanId;
+    private final Kind kind;
+    private final long startEpochNanos;
+    private final List<Attribute> attributes;
+    private long endEpochNanos;
+    private String errorMessage;
+
+    private Span(Trace trace, String name, long spanId, long parentSpanId, Kind kind) {
+        this.trace = trace;
+        this.name = name;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.kind = kind;
+        this.startEpochNanos = trace == null ? 0 : trace.tracer.epochNanos();
+        this.attributes = trace == null ? Collections.emptyList() : new ArrayList<>(4);
+    }
+
+    static Span root(NotificationTracer tracer, String name) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Trace trace = new Trace(tracer, random.nextLong(), random.nextLong());
+        trace.spanCount.incrementAndGet();
+        return new Span(trace, name, nextSpanId(), 0, Kind.INTERNAL);
+    }
+
+    /**
+     * Starts a child span of the same trace.
+     */
+    public Span child(String name) {
+        return child(name, Kind.INTERNAL);
+    }
+
+    /**
+     * Starts a child span of the same trace. Returns {@link #NOOP} once the trace holds its maximum number of spans.
+     */
+    public Span child(String name, Kind kind) {
+        if (trace == null) {
+            return NOOP;
+        }
+        if (trace.spanCount.incrementAndGet() > trace.tracer.maxSpansPerTrace()) {
+            trace.droppedSpans.incrementAndGet();
+            return NOOP;
+        }
+        return new Span(trace, name, nextSpanId(), spanId, kind);
+    }
+
+    /**
+     * Sets the message the whole trace belongs to. Every span of the trace is exported with it.
+     */
+    public Span messageId(Long messageId) {
+        if (trace != null) {
+            trace.messageId = messageId;
+        }
+        return this;
+    }
+
+    public Span attribute(String key, String value) {
+        if (trace != null) {
+            attributes.add(new Attribute(key, value));
+        }
+        return this;
+    }
+
+    public Span attribute(String key, long value) {
+        if (trace != null) {
+            attributes.add(new Attribute(key, value));
+        }
+        return this;
+    }
+
+    /**
+     * Marks the span as failed.
+     */
+    public Span error(String message) {
+        if (trace != null) {
+            errorMessage = message == null ? "" : message;
+        }
+        return this;
+    }
+
+    /**
+     * Ends the span and hands it to the exporter. Later calls have no effect.
+     */
+    public void end() {
+        if (trace == null || endEpochNanos != 0) {
+            return;
+        }
+        endEpochNanos = trace.tracer.epochNanos();
+        if (parentSpanId == 0 && trace.droppedSpans.get() > 0) {
+            attributes.add(new Attribute("tracing.dropped_spans", (long) trace.droppedSpans.get()));
+        }
+        trace.tracer.export(this);
+    }
+
+    @Override
+    public void close() {
+        end();
+    }
+
+    public boolean isSampled() {
+        return trace != null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTraceIdHigh() {
+        return trace.traceIdHigh;
+    }
+
+    public long getTraceIdLow() {
+        return trace.traceIdLow;
+    }
+
+    public long getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * @return the parent span ID, or 0 for the root span
+     */
+    public long getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Long getMessageId() {
+        return trace == null ? null : trace.messageId;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public List<Attribute> getAttributes() {
+        return Collections.unmodifiableList(attributes);
+    }
+
+    /**
+     * @return the failure description, or null if the span succeeded
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    private static long nextSpanId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    /**
+     * OpenTelemetry span kinds used by the pipeline.
+     */
+    public enum Kind {
+        INTERNAL(1),
+        CLIENT(3);
+
+        private final int otlpCode;
+
+        Kind(int otlpCode) {
+            this.otlpCode = otlpCode;
+        }
+
+        public int otlpCode() {
+            return otlpCode;
+        }
+    }
+
+    /**
+     * A span attribute whose value is a {@link String} or a {@link Long}.
+     */
+    public record Attribute(String key, Object value) {}
+
+    private static final class Trace {
+
+        private final NotificationTracer tracer;
+        private final long traceIdHigh;
+        private final long traceIdLow;
+        private final AtomicInteger spanCount = new AtomicInteger();
+        private final AtomicInteger droppedSpans = new AtomicInteger();
+        private volatile Long messageId;
+
+        private Trace(NotificationTracer tracer, long traceIdHigh, long traceIdLow) {
+            this.tracer = tracer;
+            this.traceIdHigh = traceIdHigh;
+            this.traceIdLow = traceIdLow;
+        }
+    }
+}
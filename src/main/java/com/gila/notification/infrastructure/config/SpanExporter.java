@@ -0,0 +1,10 @@
+package com.gila.notification.infrastructure.config;
+
+/**
+ * Receives finished spans from the {@link NotificationTracer}.
+ * Called on the thread that ended the span, so implementations must not block.
+ */
+public interface SpanExporter {
+
+    void export(Span span);
+}
@@ -0,0 +1,35 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.infrastructure.adapter.out.tracing.InMemorySpanExporter;
+import com.gila.notification.infrastructure.adapter.out.tracing.OtlpJsonFileSpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for sampled delivery tracing. Spans go to an OTLP JSON lines file by default,
+ * or to memory with {@code notification.tracing.exporter=memory}.
+ */
+@Configuration
+public class TracingConfiguration {
+
+    @Bean
+    public NotificationTracer notificationTracer(TracingProperties properties, SpanExporter spanExporter) {
+        return new NotificationTracer(properties, spanExporter);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "notification.tracing", name = "exporter", havingValue = "file", matchIfMissing = true)
+    public OtlpJsonFileSpanExporter otlpJsonFileSpanExporter(TracingProperties properties) {
+        return new OtlpJsonFileSpanExporter(Path.of(properties.getFile()), properties.getServiceName(),
+                properties.getQueueCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.tracing", name = "exporter", havingValue = "memory")
+    public InMemorySpanExporter inMemorySpanExporter(TracingProperties properties) {
+        return new InMemorySpanExporter(properties.getMemoryCapacity());
+    }
+}
@@ -0,0 +1,52 @@
+package com.gila.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of per-message delivery tracing.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.tracing")
+public class TracingProperties {
+
+    /**
+     * Fraction of messages traced, from 0 (off) to 1 (every message).
+     */
+    private double sampleRate = 0.0;
+
+    /**
+     * Where finished spans go: FILE appends OTLP JSON lines, MEMORY keeps the most recent spans.
+     */
+    private Exporter exporter = Exporter.FILE;
+
+    /**
+     * OTLP JSON lines file, readable by the OpenTelemetry Collector's otlpjsonfile receiver.
+     */
+    private String file = "data/traces.jsonl";
+
+    /**
+     * Spans recorded per trace. Further spans of a very large broadcast are dropped and counted on the root span.
+     */
+    private int maxSpansPerTrace = 1000;
+
+    /**
+     * Finished spans waiting for export. Spans are dropped when the exporter falls behind.
+     */
+    private int queueCapacity = 8192;
+
+    /**
+     * Spans kept by the MEMORY exporter.
+     */
+    private int memoryCapacity = 10000;
+
+    /**
+     * Value of the {@code service.name} resource attribute.
+     */
+    private String serviceName = "notification";
+
+    public enum Exporter {
+        FILE,
+        MEMORY
+    }
+}
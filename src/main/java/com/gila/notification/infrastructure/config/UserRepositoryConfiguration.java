@@ -0,0 +1,26 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.port.out.UserRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.CachingUserRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.JdbcUserRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for the database-backed user store, enabled with {@code notification.users.store=jdbc}.
+ * The in-memory store registers itself otherwise.
+ */
+@Configuration
+public class UserRepositoryConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.users", name = "store", havingValue = "jdbc")
+    public UserRepository jdbcUserRepository(JdbcTemplate jdbcTemplate,
+                                             TransactionTemplate transactionTemplate,
+                                             UserStoreProperties properties) {
+        return new CachingUserRepository(new JdbcUserRepository(jdbcTemplate, transactionTemplate), properties.getCache());
+    }
+}
@@ -0,0 +1,46 @@
+package com.gila.notification.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings selecting and tuning the user store.
+ */
+@Data
+@ConfigurationProperties(prefix = "notification.users")
+public class UserStoreProperties {
+
+    /**
+     * Where users live: MEMORY keeps the built-in sample users, JDBC reads the users tables.
+     */
+    private StoreType store = StoreType.MEMORY;
+
+    private Cache cache = new Cache();
+
+    public enum StoreType {
+        MEMORY,
+        JDBC
+    }
+
+    /**
+     * Read-through cache in front of the JDBC store.
+     */
+    @Data
+    public static class Cache {
+
+        /**
+         * Users kept by id before the least recently used are evicted.
+         */
+        private int maxUsers = 100_000;
+
+        /**
+         * Recipient lists larger than this are not cached, so one huge category cannot fill the heap.
+         */
+        private int maxCachedRecipients = 1_000_000;
+
+        /**
+         * Lifetime of cached entries, bounding staleness when another node changes users.
+         */
+        private long ttlMs = 60_000;
+    }
+}
@@ -0,0 +1,71 @@
+package com.gila.notification.infrastructure.config;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every delivery on its own virtual thread while a semaphore caps how many
+ * deliveries of the channel may be in flight. Waiting for a permit parks only the
+ * virtual thread, so blocking gateway calls and retry backoff never tie up carriers.
+ * <p>
+ * A submitted task always runs. Callers such as the dispatcher release their own resources only
+ * when the task finishes, so an interrupt while waiting for a permit is kept on the thread and
+ * the task meets it through its own error handling instead of being dropped.
+ */
+public class VirtualThreadChannelExecutor implements Executor, DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final ExecutorService delegate;
+
+    public VirtualThreadChannelExecutor(String threadNamePrefix, int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        ThreadFactory factory = Thread.ofVirtual().name(threadNamePrefix, 1).factory();
+        this.delegate = Executors.newThreadPerTaskExecutor(factory);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Gets the number of deliveries currently holding a permit.
+     *
+     * @return active deliveries on this channel
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Gets the number of virtual threads parked waiting for a permit.
+     *
+     * @return queued deliveries on this channel
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        delegate.shutdown();
+        delegate.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
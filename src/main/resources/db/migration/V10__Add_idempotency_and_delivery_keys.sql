@@ -0,0 +1,12 @@
+-- Client-supplied key of a send request; a retried request with the same key gets the first message back
+ALTER TABLE messages ADD COLUMN idempotency_key VARCHAR(100);
+CREATE UNIQUE INDEX uk_message_idempotency_key ON messages(idempotency_key);
+
+-- One row per delivery that reached its provider, so a message dispatched again skips those recipients
+CREATE TABLE delivery_keys (
+    message_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    channel VARCHAR(20) NOT NULL,
+    PRIMARY KEY (message_id, user_id, channel),
+    CONSTRAINT fk_delivery_key_message FOREIGN KEY (message_id) REFERENCES messages(id) ON DELETE CASCADE
+);
@@ -0,0 +1,10 @@
+-- Create id_generators table backing pooled hi/lo id allocation for batched inserts
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+-- The pooled optimizer hands out the block of 500 ids ending at the stored value,
+-- so start one allocation above the ids already assigned by AUTO_INCREMENT
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'notification_logs', COALESCE(MAX(id), 0) + 500 FROM notification_logs;
@@ -0,0 +1,2 @@
+-- Composite index matching the (sent_at, id) keyset ordering used by log pagination
+CREATE INDEX idx_notification_sent_at_id ON notification_logs(sent_at DESC, id DESC);
@@ -0,0 +1,62 @@
+-- Create users and their notification preferences
+CREATE TABLE users (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    phone_number VARCHAR(20)
+);
+
+CREATE TABLE user_subscriptions (
+    user_id BIGINT NOT NULL,
+    category VARCHAR(20) NOT NULL,
+    PRIMARY KEY (user_id, category),
+    CONSTRAINT fk_subscription_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_subscription_category CHECK (category IN ('SPORTS', 'FINANCE', 'MOVIES'))
+);
+
+CREATE TABLE user_channels (
+    user_id BIGINT NOT NULL,
+    channel VARCHAR(20) NOT NULL,
+    PRIMARY KEY (user_id, channel),
+    CONSTRAINT fk_channel_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_user_channel CHECK (channel IN ('SMS', 'EMAIL', 'PUSH_NOTIFICATION'))
+);
+
+-- Recipient lookup walks subscribers of one category in user id order
+CREATE INDEX idx_subscription_category_user ON user_subscriptions(category, user_id);
+
+-- Same sample users as the in-memory store
+INSERT INTO users (id, name, email, phone_number) VALUES
+    (1, 'John Doe', 'john.doe@example.com', '+1234567890'),
+    (2, 'Jane Smith', 'jane.smith@example.com', '+1234567891'),
+    (3, 'Bob Johnson', 'bob.johnson@example.com', '+1234567892'),
+    (4, 'Alice Brown', 'alice.brown@example.com', '+1234567893'),
+    (5, 'Charlie Wilson', 'charlie.wilson@example.com', '+1234567894'),
+    (6, 'Diana Martinez', 'diana.martinez@example.com', '+1234567895'),
+    (7, 'Edward Davis', 'edward.davis@example.com', '+1234567896'),
+    (8, 'Fiona Garcia', 'fiona.garcia@example.com', ''),
+    (9, 'George Lee', '', '+1234567897'),
+    (10, 'Helen White', 'helen.white@example.com', '+1234567898');
+
+INSERT INTO user_subscriptions (user_id, category) VALUES
+    (1, 'SPORTS'), (1, 'FINANCE'),
+    (2, 'MOVIES'),
+    (3, 'SPORTS'), (3, 'MOVIES'),
+    (4, 'FINANCE'),
+    (5, 'SPORTS'), (5, 'FINANCE'), (5, 'MOVIES'),
+    (6, 'MOVIES'), (6, 'FINANCE'),
+    (7, 'SPORTS'),
+    (8, 'FINANCE'), (8, 'MOVIES'),
+    (9, 'SPORTS');
+
+INSERT INTO user_channels (user_id, channel) VALUES
+    (1, 'SMS'), (1, 'EMAIL'),
+    (2, 'EMAIL'),
+    (3, 'SMS'), (3, 'PUSH_NOTIFICATION'),
+    (4, 'PUSH_NOTIFICATION'),
+    (5, 'SMS'), (5, 'EMAIL'), (5, 'PUSH_NOTIFICATION'),
+    (6, 'EMAIL'), (6, 'PUSH_NOTIFICATION'),
+    (7, 'SMS'),
+    (8, 'EMAIL'),
+    (9, 'SMS'), (9, 'PUSH_NOTIFICATION'),
+    (10, 'EMAIL');
@@ -0,0 +1,2 @@
+-- Number of delivery attempts behind each log row, including the final one
+ALTER TABLE notification_logs ADD COLUMN attempts INT NOT NULL DEFAULT 1;
@@ -0,0 +1,13 @@
+-- Outbox of accepted messages waiting to be fanned out. The row is inserted in the same
+-- transaction as the message and deleted once the message has been dispatched
+CREATE TABLE dispatch_jobs (
+    message_id BIGINT NOT NULL PRIMARY KEY,
+    available_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    claimed_by VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_dispatch_job_message FOREIGN KEY (message_id) REFERENCES messages(id) ON DELETE CASCADE
+);
+
+-- Workers claim due jobs oldest first; a claimed job is hidden until its lease runs out
+CREATE INDEX idx_dispatch_job_available ON dispatch_jobs(available_at, message_id);
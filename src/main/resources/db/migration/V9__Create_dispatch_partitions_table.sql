@@ -0,0 +1,16 @@
+-- User id ranges of a message's audience, claimed by dispatch workers on any node. A row is
+-- deleted by the lease holder once its range is delivered; an expired lease can be claimed again
+CREATE TABLE dispatch_partitions (
+    message_id BIGINT NOT NULL,
+    partition_no INT NOT NULL,
+    after_user_id BIGINT,
+    last_user_id BIGINT NOT NULL,
+    lease_owner VARCHAR(100),
+    lease_version BIGINT NOT NULL DEFAULT 0,
+    lease_expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (message_id, partition_no),
+    CONSTRAINT fk_dispatch_partition_message FOREIGN KEY (message_id) REFERENCES messages(id) ON DELETE CASCADE
+);
+
+-- Workers look for partitions whose lease has run out
+CREATE INDEX idx_dispatch_partition_lease ON dispatch_partitions(lease_expires_at);
@@ -0,0 +1,158 @@
+package com.gila.notification.application.service;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.port.out.DispatchJobRepository;
+import com.gila.notification.domain.port.out.DispatchPartitionRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.entity.MessageEntity;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.MessageRepository;
+import com.gila.notification.infrastructure.config.DispatchProperties;
+import com.gila.notification.infrastructure.config.NotificationTracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchJobWorkerTest {
+
+    private static final String OWNER = "worker";
+
+    @Mock
+    private DispatchJobRepository dispatchJobRepository;
+
+    @Mock
+    private DispatchPartitionRepository dispatchPartitionRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    private final DispatchProperties properties = new DispatchProperties();
+    private DispatchJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMode(DispatchProperties.Mode.PARTITIONED);
+        properties.setRecipientsPerPartition(100);
+        worker = new DispatchJobWorker(dispatchJobRepository, dispatchPartitionRepository, messageRepository,
+                notificationDispatcher, NotificationTracer.disabled(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+
+        MessageEntity message = new MessageEntity();
+        message.setId(5L);
+        message.setCategory(Category.FINANCE);
+        message.setContent("Rates are up");
+        when(messageRepository.findById(5L)).thenReturn(Optional.of(message));
+    }
+
+    @Test
+    @DisplayName("Should replace a claimed job with partitions of the audience")
+    void process_WhenPartitioned_SplitsMessageIntoRanges() {
+        when(notificationDispatcher.partitionBounds(Category.FINANCE, 100)).thenReturn(List.of(100L, 200L, 250L));
+        DispatchJobRepository.Job job = new DispatchJobRepository.Job(5L, 1);
+        when(dispatchJobRepository.complete(job)).thenReturn(true);
+
+        worker.process(job);
+
+        verify(dispatchPartitionRepository).createAll(5L, List.of(100L, 200L, 250L), false);
+        verify(notificationDispatcher, never()).dispatch(any(Message.class));
+    }
+
+    @Test
+    @DisplayName("Should make the partitions of a redelivered job redeliveries too")
+    void process_WhenRedeliveredJobIsPartitioned_CreatesRedeliveryPartitions() {
+        when(notificationDispatcher.partitionBounds(Category.FINANCE, 100)).thenReturn(List.of(100L));
+        DispatchJobRepository.Job job = new DispatchJobRepository.Job(5L, 2);
+        when(dispatchJobRepository.complete(job)).thenReturn(true);
+
+        worker.process(job);
+
+        verify(dispatchPartitionRepository).createAll(5L, List.of(100L), true);
+    }
+
+    @Test
+    @DisplayName("Should not split a message twice when another worker got there first")
+    void process_WhenJobAlreadySplit_CreatesNoPartitions() {
+        when(notificationDispatcher.partitionBounds(Category.FINANCE, 100)).thenReturn(List.of(100L));
+        DispatchJobRepository.Job job = new DispatchJobRepository.Job(5L, 1);
+        when(dispatchJobRepository.complete(job)).thenReturn(false);
+
+        worker.process(job);
+
+        verify(dispatchPartitionRepository, never()).createAll(any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should deliver exactly the partition's range and then remove it")
+    void deliver_DispatchesRangeAndCompletes() {
+        DispatchPartitionRepository.Partition partition = new DispatchPartitionRepository.Partition(5L, 1, 100L, 200L, 1);
+        when(dispatchPartitionRepository.complete(eq(partition), any())).thenReturn(true);
+
+        worker.deliver(partition);
+
+        verify(notificationDispatcher).dispatchRange(any(Message.class), eq(100L), eq(200L), eq(false), any(), any());
+        verify(dispatchPartitionRepository).complete(eq(partition), any());
+    }
+
+    @Test
+    @DisplayName("Should stop loading recipients and leave the partition alone once its lease is lost")
+    void deliver_WhenLeaseLost_StopsAndDoesNotComplete() {
+        DispatchPartitionRepository.Partition partition = new DispatchPartitionRepository.Partition(5L, 0, null, 100L, 2);
+        when(dispatchPartitionRepository.renew(eq(partition), any(), any())).thenReturn(false);
+        when(notificationDispatcher.dispatchRange(any(Message.class), eq(null), anyLong(), eq(true), any(), any()))
+                .thenAnswer(invocation -> {
+                    // A heartbeat during delivery finds the lease taken over
+                    worker.renewLeases();
+                    BooleanSupplier keepGoing = invocation.getArgument(4);
+                    assertFalse(keepGoing.getAsBoolean());
+                    return new NotificationDispatcher.DispatchResult(100, 100, 0);
+                });
+
+        worker.deliver(partition);
+
+        verify(dispatchPartitionRepository, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should stop a local dispatch and leave the job alone once its lease is lost")
+    void process_WhenJobLeaseLost_StopsAndDoesNotComplete() {
+        properties.setMode(DispatchProperties.Mode.LOCAL);
+        DispatchJobRepository.Job job = new DispatchJobRepository.Job(5L, 1);
+        when(dispatchJobRepository.renew(job, Duration.ofMillis(properties.getLeaseMs()))).thenReturn(false);
+        when(notificationDispatcher.dispatch(any(Message.class), eq(false), any()))
+                .thenAnswer(invocation -> {
+                    // The fan-out outlived the lease and another worker claimed the job
+                    worker.renewLeases();
+                    BooleanSupplier keepGoing = invocation.getArgument(2);
+                    assertFalse(keepGoing.getAsBoolean());
+                    return new NotificationDispatcher.DispatchResult(100, 100, 0);
+                });
+
+        worker.process(job);
+
+        verify(dispatchJobRepository, never()).complete(any());
+        verify(dispatchJobRepository, never()).retryLater(any(), any());
+    }
+}
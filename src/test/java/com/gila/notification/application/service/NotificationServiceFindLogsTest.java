@@ -0,0 +1,146 @@
+package com.gila.notification.application.service;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.NotificationStatus;
+import com.gila.notification.domain.port.in.GetNotificationLogsUseCase.LogFilter;
+import com.gila.notification.domain.port.in.GetNotificationLogsUseCase.LogPage;
+import com.gila.notification.domain.port.in.GetNotificationLogsUseCase.LogQuery;
+import com.gila.notification.domain.port.out.DispatchJobRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.MessageRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogExportRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogRepository;
+import com.gila.notification.infrastructure.config.DispatchProperties;
+import com.gila.notification.infrastructure.config.NotificationTracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Walks {@link NotificationService#findLogs} pages over logs stored in H2.
+ */
+@DataJpaTest
+class NotificationServiceFindLogsTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 1, 15, 12, 0);
+    private static final LogFilter NO_FILTER = new LogFilter(null, null, null, null);
+
+    @Autowired
+    private NotificationLogRepository notificationLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NotificationService(mock(MessageRepository.class), notificationLogRepository,
+                mock(NotificationLogExportRepository.class), mock(NotificationDispatcher.class),
+                NotificationTracer.disabled(), mock(DispatchJobRepository.class), mock(DispatchJobWorker.class),
+                new DispatchProperties(), mock(TransactionTemplate.class));
+
+        jdbcTemplate.update("DELETE FROM notification_logs");
+        // Logs 2, 3 and 4 share their sent time, so only the id orders them
+        insertLog(1L, 1L, NotificationStatus.SUCCESS, NotificationChannel.EMAIL, Category.SPORTS, NOON);
+        insertLog(2L, 1L, NotificationStatus.FAILED, NotificationChannel.SMS, Category.FINANCE, NOON.plusMinutes(1));
+        insertLog(3L, 2L, NotificationStatus.SUCCESS, NotificationChannel.EMAIL, Category.FINANCE, NOON.plusMinutes(1));
+        insertLog(4L, 2L, NotificationStatus.PENDING, NotificationChannel.PUSH_NOTIFICATION, Category.MOVIES,
+                NOON.plusMinutes(1));
+        insertLog(5L, 3L, NotificationStatus.SUCCESS, NotificationChannel.SMS, Category.SPORTS, NOON.plusMinutes(2));
+    }
+
+    @Test
+    @DisplayName("Should walk every log newest first through the cursors, ordering equal sent times by id")
+    void findLogs_WithCursor_WalksKeysetOrder() {
+        LogPage first = service.findLogs(new LogQuery(NO_FILTER, null, 0, 2));
+        assertEquals(List.of(5L, 4L), idsOf(first));
+        assertNotNull(first.nextCursor());
+
+        // The cursor points into the run of equal sent times
+        LogPage second = service.findLogs(new LogQuery(NO_FILTER, first.nextCursor(), 0, 2));
+        assertEquals(List.of(3L, 2L), idsOf(second));
+
+        LogPage last = service.findLogs(new LogQuery(NO_FILTER, second.nextCursor(), 0, 2));
+        assertEquals(List.of(1L), idsOf(last));
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should continue from an offset page with its cursor without skipping or repeating logs")
+    void findLogs_WithOffsetThenCursor_ContinuesAfterOffsetPage() {
+        LogPage offsetPage = service.findLogs(new LogQuery(NO_FILTER, null, 1, 2));
+        assertEquals(List.of(3L, 2L), idsOf(offsetPage));
+
+        // The cursor wins over the page number
+        LogPage next = service.findLogs(new LogQuery(NO_FILTER, offsetPage.nextCursor(), 5, 2));
+        assertEquals(List.of(1L), idsOf(next));
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor it did not issue")
+    void findLogs_WithMalformedCursor_ThrowsIllegalArgument() {
+        for (String cursor : List.of("not-base64!", "bm8tc2VwYXJhdG9y", "eWVzdGVyZGF5fDE", "MjAyNi0wMS0xNVQxMjowMHxhYmM")) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.findLogs(new LogQuery(NO_FILTER, cursor, 0, 2)), cursor);
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply each filter alone and all of them together")
+    void findLogs_WithFilters_MatchesOnlySetFields() {
+        assertEquals(List.of(2L, 1L), idsOf(findAll(new LogFilter(1L, null, null, null))));
+        assertEquals(List.of(5L, 3L, 1L), idsOf(findAll(new LogFilter(null, NotificationStatus.SUCCESS, null, null))));
+        assertEquals(List.of(5L, 2L), idsOf(findAll(new LogFilter(null, null, NotificationChannel.SMS, null))));
+        assertEquals(List.of(3L, 2L), idsOf(findAll(new LogFilter(null, null, null, Category.FINANCE))));
+        assertEquals(List.of(3L), idsOf(findAll(new LogFilter(2L, NotificationStatus.SUCCESS,
+                NotificationChannel.EMAIL, Category.FINANCE))));
+        assertEquals(List.of(), idsOf(findAll(new LogFilter(3L, NotificationStatus.FAILED, null, null))));
+    }
+
+    @Test
+    @DisplayName("Should page filtered logs with cursors that keep the filter's order")
+    void findLogs_WithFilterAndCursor_PagesMatchingLogsOnly() {
+        LogFilter success = new LogFilter(null, NotificationStatus.SUCCESS, null, null);
+
+        LogPage first = service.findLogs(new LogQuery(success, null, 0, 2));
+        LogPage second = service.findLogs(new LogQuery(success, first.nextCursor(), 0, 2));
+
+        assertEquals(List.of(5L, 3L), idsOf(first));
+        assertEquals(List.of(1L), idsOf(second));
+        assertNull(second.nextCursor());
+    }
+
+    private LogPage findAll(LogFilter filter) {
+        return service.findLogs(new LogQuery(filter, null, 0, 10));
+    }
+
+    private static List<Long> idsOf(LogPage page) {
+        return page.logs().stream().map(NotificationLog::getId).toList();
+    }
+
+    private void insertLog(Long id, Long userId, NotificationStatus status, NotificationChannel channel,
+                           Category category, LocalDateTime sentAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO notification_logs (id, message_id, message_content, message_category, user_id,
+                            user_name, channel, status, sent_at)
+                        VALUES (?, 1, 'Update', ?, ?, 'User', ?, ?, ?)""",
+                id, category.name(), userId, channel.name(), status.name(), Timestamp.valueOf(sentAt));
+    }
+}
@@ -6,37 +6,83 @@ import com.gila.notification.domain.model.NotificationChannel;
 import com.gila.notification.domain.model.NotificationLog;
 import com.gila.notification.domain.model.NotificationStatus;
 import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.in.GetMessageStatusUseCase;
 import com.gila.notification.domain.port.in.SendMessageUseCase;
+import com.gila.notification.domain.port.out.DeliveryKeyRepository;
+import com.gila.notification.domain.port.out.DispatchJobRepository;
+import com.gila.notification.domain.port.out.DispatchPartitionRepository;
+import com.gila.notification.domain.port.out.NotificationLogWriter;
 import com.gila.notification.domain.port.out.NotificationSender;
 import com.gila.notification.domain.port.out.UserRepository;
 import com.gila.notification.domain.service.NotificationStrategy;
+import com.gila.notification.domain.service.ResilientNotificationService;
 import com.gila.notification.infrastructure.adapter.out.persistence.entity.MessageEntity;
 import com.gila.notification.infrastructure.adapter.out.persistence.entity.NotificationLogEntity;
 import com.gila.notification.infrastructure.adapter.out.persistence.repository.MessageRepository;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogExportRepository;
 import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogRepository;
+import com.gila.notification.infrastructure.adapter.out.tracing.InMemorySpanExporter;
+import com.gila.notification.infrastructure.config.ChannelExecutorRegistry;
+import com.gila.notification.infrastructure.config.CircuitBreakerProperties;
+import com.gila.notification.infrastructure.config.CircuitBreakerRegistry;
+import com.gila.notification.infrastructure.config.DispatchProperties;
+import com.gila.notification.infrastructure.config.NotificationCircuitBreaker;
+import com.gila.notification.infrastructure.config.NotificationMetrics;
+import com.gila.notification.infrastructure.config.NotificationTracer;
+import com.gila.notification.infrastructure.config.RateLimitProperties;
+import com.gila.notification.infrastructure.config.RateLimiterRegistry;
+import com.gila.notification.infrastructure.config.RetryProperties;
+import com.gila.notification.infrastructure.config.RetryScheduler;
+import com.gila.notification.infrastructure.config.Span;
+import com.gila.notification.infrastructure.config.TracingProperties;
+import com.gila.notification.infrastructure.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
 import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
 
+    private static final int RECIPIENT_PAGE_SIZE = 1000;
+
     @Mock
     private UserRepository userRepository;
 
@@ -46,24 +92,70 @@ class NotificationServiceTest {
     @Mock
     private NotificationLogRepository notificationLogRepository;
 
+    @Mock
+    private NotificationLogExportRepository notificationLogExportRepository;
+
+    @Mock
+    private NotificationLogWriter notificationLogWriter;
+
     @Mock
     private NotificationStrategy notificationStrategy;
 
     @Mock
-    private NotificationSender emailSender;
+    private DispatchJobRepository dispatchJobRepository;
 
     @Mock
+    private DeliveryKeyRepository deliveryKeyRepository;
+
+    // Real default sendBatch, so batches fall back to the stubbed single sends
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private NotificationSender emailSender;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private NotificationSender smsSender;
 
+    private final DispatchProperties dispatchProperties = new DispatchProperties();
+    private final Map<NotificationChannel, Executor> asyncExecutors = new EnumMap<>(NotificationChannel.class);
+    private final CircuitBreakerProperties.Thresholds breakerThresholds = new CircuitBreakerProperties.Thresholds();
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private RetryScheduler retryScheduler;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationMetrics notificationMetrics = new NotificationMetrics(meterRegistry);
+    private final InMemorySpanExporter spanExporter = new InMemorySpanExporter(1000);
+
+    private NotificationTracer tracer;
+    private NotificationDispatcher dispatcher;
     private NotificationService service;
 
     @BeforeEach
     void setUp() {
+        TracingProperties tracingProperties = new TracingProperties();
+        tracingProperties.setSampleRate(1.0);
+        tracer = new NotificationTracer(tracingProperties, spanExporter);
+
+        RetryProperties retryProperties = new RetryProperties();
+        retryProperties.setInitialDelayMs(1);
+        retryProperties.setTickMs(1);
+        retryScheduler = new RetryScheduler(retryProperties);
+        retryScheduler.start();
+
+        Map<NotificationChannel, NotificationCircuitBreaker> breakers = new EnumMap<>(NotificationChannel.class);
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            breakers.put(channel, new NotificationCircuitBreaker(channel.name(), breakerThresholds));
+        }
+        circuitBreakerRegistry = new CircuitBreakerRegistry(breakers);
+
+        dispatcher = newDispatcher();
         service = new NotificationService(
-                userRepository,
                 messageRepository,
                 notificationLogRepository,
-                notificationStrategy
+                notificationLogExportRepository,
+                dispatcher,
+                tracer,
+                dispatchJobRepository,
+                dispatchJobWorker(),
+                dispatchProperties,
+                new TransactionTemplate(mock(PlatformTransactionManager.class))
         );
     }
 
@@ -98,7 +190,7 @@ class NotificationServiceTest {
                 .build();
 
         when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
-        when(userRepository.findBySubscribedCategory(Category.SPORTS))
+        when(userRepository.findSubscribersAfter(Category.SPORTS, null, RECIPIENT_PAGE_SIZE))
                 .thenReturn(List.of(user1, user2));
         when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
         when(notificationStrategy.getSender(NotificationChannel.SMS)).thenReturn(smsSender);
@@ -113,7 +205,107 @@ class NotificationServiceTest {
 
         verify(emailSender, times(2)).send(any(Message.class), any(User.class));
         verify(smsSender, times(1)).send(any(Message.class), any(User.class));
-        verify(notificationLogRepository, times(3)).save(any(NotificationLogEntity.class));
+        verify(notificationLogWriter, times(3)).write(any(NotificationLog.class));
+        verify(notificationLogWriter).flush();
+        verify(dispatchJobRepository).enqueueHeld(1L, Duration.ofMillis(dispatchProperties.getLeaseMs()));
+        verify(dispatchJobRepository).complete(DispatchJobRepository.Job.held(1L));
+        // A first dispatch stores delivery keys but never reads them
+        verify(deliveryKeyRepository).saveAll(1L, NotificationChannel.EMAIL, List.of(1L, 2L));
+        verify(deliveryKeyRepository, never()).findDelivered(any(), any(), any());
+
+        assertEquals(2, meterRegistry.get("notification.deliveries")
+                .tags("channel", "email", "outcome", "success").counter().count());
+        assertEquals(1, meterRegistry.get("notification.deliveries")
+                .tags("channel", "sms", "outcome", "success").counter().count());
+        assertEquals(2, meterRegistry.get("notification.fanout.recipients").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should trace every stage of a sampled message under one trace")
+    void sendMessage_WhenSampled_RecordsSpanTree() throws Exception {
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.FINANCE,
+                "Market update"
+        );
+
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(7L);
+        savedMessage.setCategory(Category.FINANCE);
+        savedMessage.setContent("Market update");
+
+        User user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@example.com")
+                .subscribedCategories(Set.of(Category.FINANCE))
+                .channels(Set.of(NotificationChannel.EMAIL))
+                .build();
+
+        when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
+        when(userRepository.findSubscribersAfter(Category.FINANCE, null, RECIPIENT_PAGE_SIZE))
+                .thenReturn(List.of(user));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+
+        service.sendMessage(command);
+
+        List<Span> spans = spanExporter.getSpans();
+        Map<String, Span> byName = new HashMap<>();
+        spans.forEach(span -> byName.put(span.getName(), span));
+        assertEquals(Set.of("sendMessage", "message.persist", "dispatch", "recipients.lookup",
+                "channel.batch", "sender.send", "log.flush"), byName.keySet());
+
+        Span root = byName.get("sendMessage");
+        assertEquals(0, root.getParentSpanId());
+        assertEquals(root.getSpanId(), byName.get("dispatch").getParentSpanId());
+        assertEquals(byName.get("dispatch").getSpanId(), byName.get("channel.batch").getParentSpanId());
+        assertEquals(byName.get("channel.batch").getSpanId(), byName.get("sender.send").getParentSpanId());
+        assertEquals(Span.Kind.CLIENT, byName.get("sender.send").getKind());
+        for (Span span : spans) {
+            assertEquals(root.getTraceIdLow(), span.getTraceIdLow());
+            assertEquals(7L, span.getMessageId());
+            assertTrue(span.getEndEpochNanos() >= span.getStartEpochNanos());
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        retryScheduler.stop();
+    }
+
+    private Executor executorFor(NotificationChannel channel) {
+        return asyncExecutors.getOrDefault(channel, Runnable::run);
+    }
+
+    /**
+     * Creates a dispatcher over the test's mocks, with a deduplicator that has not seen any delivery.
+     */
+    private NotificationDispatcher newDispatcher() {
+        Map<NotificationChannel, Executor> channelExecutors = new EnumMap<>(NotificationChannel.class);
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            channelExecutors.put(channel, task -> executorFor(channel).execute(task));
+        }
+        return new NotificationDispatcher(
+                userRepository,
+                notificationLogWriter,
+                new ResilientNotificationService(notificationStrategy, circuitBreakerRegistry,
+                        notificationMetrics, new RateLimiterRegistry(new RateLimitProperties())),
+                new ChannelExecutorRegistry(channelExecutors),
+                retryScheduler,
+                dispatchProperties,
+                notificationMetrics,
+                tracer,
+                new DeliveryDeduplicator(deliveryKeyRepository, dispatchProperties, notificationMetrics)
+        );
+    }
+
+    private DispatchJobWorker dispatchJobWorker() {
+        return dispatchJobWorker(dispatcher);
+    }
+
+    private DispatchJobWorker dispatchJobWorker(NotificationDispatcher jobDispatcher) {
+        return new DispatchJobWorker(dispatchJobRepository, mock(DispatchPartitionRepository.class), messageRepository,
+                jobDispatcher, NotificationTracer.disabled(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), dispatchProperties);
     }
 
     @Test
@@ -138,7 +330,7 @@ class NotificationServiceTest {
                 .build();
 
         when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
-        when(userRepository.findBySubscribedCategory(Category.FINANCE))
+        when(userRepository.findSubscribersAfter(Category.FINANCE, null, RECIPIENT_PAGE_SIZE))
                 .thenReturn(List.of(user));
         when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
         doThrow(new NotificationSender.NotificationException("Email service down"))
@@ -149,12 +341,242 @@ class NotificationServiceTest {
         assertEquals(0, result.successfulNotifications());
         assertEquals(1, result.failedNotifications());
 
-        ArgumentCaptor<NotificationLogEntity> captor = ArgumentCaptor.forClass(NotificationLogEntity.class);
-        verify(notificationLogRepository).save(captor.capture());
+        ArgumentCaptor<NotificationLog> captor = ArgumentCaptor.forClass(NotificationLog.class);
+        verify(notificationLogWriter).write(captor.capture());
 
-        NotificationLogEntity logEntity = captor.getValue();
+        NotificationLog logEntity = captor.getValue();
         assertEquals(NotificationStatus.FAILED, logEntity.getStatus());
         assertEquals("Email service down", logEntity.getErrorMessage());
+        assertEquals(3, logEntity.getAttempts());
+        verify(emailSender, times(3)).send(any(Message.class), any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should retry transient failures and record the attempt count on success")
+    void sendMessage_WhenFirstAttemptFails_RetriesAndSucceeds() throws Exception {
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.FINANCE,
+                "Market update"
+        );
+
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(1L);
+        savedMessage.setCategory(Category.FINANCE);
+        savedMessage.setContent("Market update");
+
+        User user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@example.com")
+                .subscribedCategories(Set.of(Category.FINANCE))
+                .channels(Set.of(NotificationChannel.EMAIL))
+                .build();
+
+        when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
+        when(userRepository.findSubscribersAfter(Category.FINANCE, null, RECIPIENT_PAGE_SIZE))
+                .thenReturn(List.of(user));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+        doThrow(new NotificationSender.NotificationException("Email service down"))
+                .doNothing()
+                .when(emailSender).send(any(Message.class), any(User.class));
+
+        SendMessageUseCase.SendMessageResult result = service.sendMessage(command);
+
+        assertEquals(1, result.successfulNotifications());
+        assertEquals(0, result.failedNotifications());
+
+        ArgumentCaptor<NotificationLog> captor = ArgumentCaptor.forClass(NotificationLog.class);
+        verify(notificationLogWriter).write(captor.capture());
+        assertEquals(NotificationStatus.SUCCESS, captor.getValue().getStatus());
+        assertEquals(2, captor.getValue().getAttempts());
+    }
+
+    @Test
+    @DisplayName("Should not retry failures that cannot succeed on another attempt")
+    void sendMessage_WhenFailureNotRetryable_FailsAfterOneAttempt() throws Exception {
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.FINANCE,
+                "Market update"
+        );
+
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(1L);
+        savedMessage.setCategory(Category.FINANCE);
+        savedMessage.setContent("Market update");
+
+        User user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("not-an-email")
+                .subscribedCategories(Set.of(Category.FINANCE))
+                .channels(Set.of(NotificationChannel.EMAIL))
+                .build();
+
+        when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
+        when(userRepository.findSubscribersAfter(Category.FINANCE, null, RECIPIENT_PAGE_SIZE))
+                .thenReturn(List.of(user));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+        doThrow(new NotificationSender.NotificationException("Invalid email format: not-an-email", false))
+                .when(emailSender).send(any(Message.class), any(User.class));
+
+        SendMessageUseCase.SendMessageResult result = service.sendMessage(command);
+
+        assertEquals(1, result.failedNotifications());
+        verify(emailSender, times(1)).send(any(Message.class), any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should walk recipients page by page within the in-flight window")
+    void sendMessage_WhenAudienceSpansPages_DeliversToEveryPage() throws Exception {
+        dispatchProperties.setRecipientPageSize(2);
+        dispatchProperties.setMaxInFlightDeliveries(1);
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.SPORTS,
+                "Sports news update"
+        );
+
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(1L);
+        savedMessage.setCategory(Category.SPORTS);
+        savedMessage.setContent("Sports news update");
+
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            users.add(User.builder()
+                    .id(id)
+                    .name("User " + id)
+                    .email("user" + id + "@example.com")
+                    .subscribedCategories(Set.of(Category.SPORTS))
+                    .channels(Set.of(NotificationChannel.EMAIL))
+                    .build());
+        }
+
+        when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
+        when(userRepository.findSubscribersAfter(Category.SPORTS, null, 2)).thenReturn(users.subList(0, 2));
+        when(userRepository.findSubscribersAfter(Category.SPORTS, 2L, 2)).thenReturn(users.subList(2, 3));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+
+        SendMessageUseCase.SendMessageResult result = service.sendMessage(command);
+
+        assertEquals(3, result.totalUsers());
+        assertEquals(3, result.successfulNotifications());
+        verify(emailSender, times(3)).send(any(Message.class), any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should wait for submitted deliveries before rethrowing a failed recipient lookup")
+    void dispatch_WhenLookupFailsMidway_WaitsForInFlightDeliveries() throws Exception {
+        dispatchProperties.setRecipientPageSize(2);
+        dispatchProperties.setBatchSize(1);
+        asyncExecutors.put(NotificationChannel.EMAIL, task -> Thread.ofVirtual().start(task));
+        Message message = Message.builder().id(1L).category(Category.SPORTS).content("Sports news update").build();
+
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 2; id++) {
+            users.add(User.builder()
+                    .id(id)
+                    .name("User " + id)
+                    .email("user" + id + "@example.com")
+                    .subscribedCategories(Set.of(Category.SPORTS))
+                    .channels(Set.of(NotificationChannel.EMAIL))
+                    .build());
+        }
+
+        AtomicInteger delivered = new AtomicInteger();
+        when(userRepository.findSubscribersAfter(Category.SPORTS, null, 2)).thenReturn(users);
+        when(userRepository.findSubscribersAfter(Category.SPORTS, 2L, 2))
+                .thenThrow(new DataAccessResourceFailureException("Database down"));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            delivered.incrementAndGet();
+            return null;
+        }).when(emailSender).send(any(Message.class), any(User.class));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> dispatcher.dispatch(message, false, () -> true));
+
+        assertEquals(2, delivered.get());
+        assertEquals(2, spanExporter.getSpans().stream()
+                .filter(span -> span.getName().equals("recipients.lookup"))
+                .count());
+    }
+
+    @Test
+    @DisplayName("Should group recipients of a channel into batches across recipient pages")
+    void sendMessage_GroupsRecipientsIntoChannelBatches() throws Exception {
+        dispatchProperties.setRecipientPageSize(2);
+        dispatchProperties.setBatchSize(2);
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.SPORTS,
+                "Sports news update"
+        );
+
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(1L);
+        savedMessage.setCategory(Category.SPORTS);
+        savedMessage.setContent("Sports news update");
+
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            users.add(User.builder()
+                    .id(id)
+                    .name("User " + id)
+                    .email("user" + id + "@example.com")
+                    .subscribedCategories(Set.of(Category.SPORTS))
+                    .channels(Set.of(NotificationChannel.EMAIL))
+                    .build());
+        }
+
+        when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
+        when(userRepository.findSubscribersAfter(Category.SPORTS, null, 2)).thenReturn(users.subList(0, 2));
+        when(userRepository.findSubscribersAfter(Category.SPORTS, 2L, 2)).thenReturn(users.subList(2, 3));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+
+        SendMessageUseCase.SendMessageResult result = service.sendMessage(command);
+
+        assertEquals(3, result.successfulNotifications());
+        verify(emailSender).sendBatch(any(Message.class), eq(users.subList(0, 2)));
+        verify(emailSender).sendBatch(any(Message.class), eq(users.subList(2, 3)));
+    }
+
+    @Test
+    @DisplayName("Should fail fast on a channel with an open circuit while other channels keep sending")
+    void sendMessage_WhenSmsCircuitOpen_SkipsSmsAndDeliversEmail() throws Exception {
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.SPORTS,
+                "Sports news update"
+        );
+
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(1L);
+        savedMessage.setCategory(Category.SPORTS);
+        savedMessage.setContent("Sports news update");
+
+        User user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@example.com")
+                .phoneNumber("+1234567890")
+                .subscribedCategories(Set.of(Category.SPORTS))
+                .channels(Set.of(NotificationChannel.EMAIL, NotificationChannel.SMS))
+                .build();
+
+        NotificationCircuitBreaker smsBreaker = circuitBreakerRegistry.breakerFor(NotificationChannel.SMS);
+        for (int i = 0; i < breakerThresholds.getMinimumCalls(); i++) {
+            smsBreaker.recordFailure(0);
+        }
+
+        when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
+        when(userRepository.findSubscribersAfter(Category.SPORTS, null, RECIPIENT_PAGE_SIZE))
+                .thenReturn(List.of(user));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+
+        SendMessageUseCase.SendMessageResult result = service.sendMessage(command);
+
+        assertEquals(1, result.successfulNotifications());
+        assertEquals(1, result.failedNotifications());
+        verify(emailSender).send(any(Message.class), any(User.class));
+        verify(smsSender, never()).send(any(Message.class), any(User.class));
     }
 
     @Test
@@ -183,7 +605,7 @@ class NotificationServiceTest {
         savedMessage.setContent("New movie release");
 
         when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
-        when(userRepository.findBySubscribedCategory(Category.MOVIES))
+        when(userRepository.findSubscribersAfter(Category.MOVIES, null, RECIPIENT_PAGE_SIZE))
                 .thenReturn(List.of());
 
         SendMessageUseCase.SendMessageResult result = service.sendMessage(command);
@@ -194,6 +616,229 @@ class NotificationServiceTest {
         verify(notificationStrategy, never()).getSender(any());
     }
 
+    @Test
+    @DisplayName("Should commit the message with a due dispatch job and leave delivery to the workers")
+    void submitMessage_EnqueuesJobForDispatchWorkers() throws Exception {
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.SPORTS,
+                "Sports news update"
+        );
+
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(7L);
+        savedMessage.setCategory(Category.SPORTS);
+        savedMessage.setContent("Sports news update");
+
+        User user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@example.com")
+                .subscribedCategories(Set.of(Category.SPORTS))
+                .channels(Set.of(NotificationChannel.EMAIL))
+                .build();
+
+        when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
+
+        SendMessageUseCase.SubmitMessageResult result = service.submitMessage(command);
+
+        assertEquals(7L, result.messageId());
+        verify(dispatchJobRepository).enqueue(7L, Duration.ZERO);
+        verify(userRepository, never()).findSubscribersAfter(any(), any(), anyInt());
+
+        when(messageRepository.findById(7L)).thenReturn(Optional.of(savedMessage));
+        when(notificationLogRepository.countByStatusForMessage(7L)).thenReturn(List.of());
+        when(dispatchJobRepository.isPending(7L)).thenReturn(true);
+        assertTrue(service.getMessageStatus(7L).inProgress());
+
+        when(userRepository.findSubscribersAfter(Category.SPORTS, null, RECIPIENT_PAGE_SIZE)).thenReturn(List.of(user));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+        dispatchJobWorker().process(new DispatchJobRepository.Job(7L, 1));
+
+        verify(emailSender).send(any(Message.class), any(User.class));
+        verify(dispatchJobRepository).complete(new DispatchJobRepository.Job(7L, 1));
+    }
+
+    @Test
+    @DisplayName("Should make a job due again when its dispatch fails")
+    void dispatchJobWorker_WhenDispatchFails_RetriesLater() {
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(8L);
+        savedMessage.setCategory(Category.MOVIES);
+        savedMessage.setContent("Premiere tonight");
+
+        when(messageRepository.findById(8L)).thenReturn(Optional.of(savedMessage));
+        when(userRepository.findSubscribersAfter(Category.MOVIES, null, RECIPIENT_PAGE_SIZE))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        dispatchJobWorker().process(new DispatchJobRepository.Job(8L, 1));
+
+        verify(dispatchJobRepository).retryLater(new DispatchJobRepository.Job(8L, 1),
+                Duration.ofMillis(dispatchProperties.getRetryDelayMs()));
+        verify(dispatchJobRepository, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("Should skip recipients an earlier claim of the job already notified")
+    void dispatchJobWorker_OnRedelivery_SkipsRecipientsAlreadyNotified() throws Exception {
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(9L);
+        savedMessage.setCategory(Category.FINANCE);
+        savedMessage.setContent("Release notes");
+
+        List<User> users = List.of(
+                User.builder().id(1L).name("John Doe").subscribedCategories(Set.of(Category.FINANCE))
+                        .channels(Set.of(NotificationChannel.EMAIL)).build(),
+                User.builder().id(2L).name("Jane Smith").subscribedCategories(Set.of(Category.FINANCE))
+                        .channels(Set.of(NotificationChannel.EMAIL)).build());
+
+        when(messageRepository.findById(9L)).thenReturn(Optional.of(savedMessage));
+        when(userRepository.findSubscribersAfter(Category.FINANCE, null, RECIPIENT_PAGE_SIZE)).thenReturn(users);
+        when(deliveryKeyRepository.findDelivered(9L, NotificationChannel.EMAIL, List.of(1L, 2L))).thenReturn(Set.of(1L));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+
+        dispatchJobWorker().process(new DispatchJobRepository.Job(9L, 2));
+
+        verify(emailSender).send(any(Message.class), eq(users.get(1)));
+        verify(emailSender, never()).send(any(Message.class), eq(users.get(0)));
+        verify(deliveryKeyRepository).saveAll(9L, NotificationChannel.EMAIL, List.of(2L));
+        assertEquals(1, meterRegistry.get("notification.deliveries.deduplicated")
+                .tag("channel", "email").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should not notify anyone twice when a worker takes over a message whose direct send failed midway")
+    void dispatchJobWorker_AfterSendMessageFailsMidway_SkipsRecipientsAlreadyNotified() throws Exception {
+        dispatchProperties.setRecipientPageSize(1);
+        dispatchProperties.setBatchSize(1);
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.SPORTS,
+                "Sports news update"
+        );
+
+        MessageEntity savedMessage = new MessageEntity();
+        savedMessage.setId(1L);
+        savedMessage.setCategory(Category.SPORTS);
+        savedMessage.setContent("Sports news update");
+
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 2; id++) {
+            users.add(User.builder()
+                    .id(id)
+                    .name("User " + id)
+                    .email("user" + id + "@example.com")
+                    .subscribedCategories(Set.of(Category.SPORTS))
+                    .channels(Set.of(NotificationChannel.EMAIL))
+                    .build());
+        }
+
+        Set<Long> deliveryKeys = new HashSet<>();
+        doAnswer(invocation -> deliveryKeys.addAll(invocation.getArgument(2)))
+                .when(deliveryKeyRepository).saveAll(eq(1L), eq(NotificationChannel.EMAIL), any());
+        when(deliveryKeyRepository.findDelivered(eq(1L), eq(NotificationChannel.EMAIL), any()))
+                .thenAnswer(invocation -> {
+                    Set<Long> delivered = new HashSet<>(invocation.<List<Long>>getArgument(2));
+                    delivered.retainAll(deliveryKeys);
+                    return delivered;
+                });
+        when(messageRepository.save(any(MessageEntity.class))).thenReturn(savedMessage);
+        when(messageRepository.findById(1L)).thenReturn(Optional.of(savedMessage));
+        when(userRepository.findSubscribersAfter(Category.SPORTS, null, 1)).thenReturn(List.of(users.get(0)));
+        when(userRepository.findSubscribersAfter(Category.SPORTS, 1L, 1))
+                .thenThrow(new DataAccessResourceFailureException("Database down"))
+                .thenReturn(List.of(users.get(1)));
+        when(notificationStrategy.getSender(NotificationChannel.EMAIL)).thenReturn(emailSender);
+
+        assertThrows(DataAccessResourceFailureException.class, () -> service.sendMessage(command));
+        verify(dispatchJobRepository, never()).complete(any());
+
+        // Another node claims the job once the intake's lease runs out, bumping the attempts the
+        // intake stored; its deduplicator has seen nothing
+        verify(dispatchJobRepository).enqueueHeld(1L, Duration.ofMillis(dispatchProperties.getLeaseMs()));
+        DispatchJobRepository.Job held = DispatchJobRepository.Job.held(1L);
+        DispatchJobRepository.Job claimed = new DispatchJobRepository.Job(1L, held.attempts() + 1);
+        dispatchJobWorker(newDispatcher()).process(claimed);
+
+        verify(emailSender, times(1)).send(any(Message.class), eq(users.get(0)));
+        verify(emailSender, times(1)).send(any(Message.class), eq(users.get(1)));
+        verify(dispatchJobRepository).complete(claimed);
+    }
+
+    @Test
+    @DisplayName("Should return the first message for a retried request instead of sending again")
+    void sendMessage_WithKnownIdempotencyKey_ReturnsFirstResult() {
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.SPORTS, "Sports news update", "request-1");
+
+        MessageEntity firstMessage = new MessageEntity();
+        firstMessage.setId(4L);
+        firstMessage.setCategory(Category.SPORTS);
+        firstMessage.setIdempotencyKey("request-1");
+
+        when(messageRepository.findByIdempotencyKey("request-1")).thenReturn(Optional.of(firstMessage));
+        when(notificationLogRepository.countByStatusForMessage(4L)).thenReturn(List.of(
+                statusCount(NotificationStatus.SUCCESS, 3),
+                statusCount(NotificationStatus.FAILED, 1)));
+        when(notificationLogRepository.countRecipientsForMessage(4L)).thenReturn(2L);
+
+        SendMessageUseCase.SendMessageResult result = service.sendMessage(command);
+
+        assertEquals(new SendMessageUseCase.SendMessageResult(4L, 2, 3, 1), result);
+        verify(messageRepository, never()).save(any());
+        verify(dispatchJobRepository, never()).enqueue(any(), any());
+        verify(userRepository, never()).findSubscribersAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return the winner's message when a concurrent request inserts the same key first")
+    void submitMessage_WhenKeyInsertedConcurrently_ReturnsExistingMessage() {
+        SendMessageUseCase.SendMessageCommand command = new SendMessageUseCase.SendMessageCommand(
+                Category.MOVIES, "Premiere tonight", "request-2");
+
+        MessageEntity winner = new MessageEntity();
+        winner.setId(6L);
+        winner.setCategory(Category.MOVIES);
+        winner.setIdempotencyKey("request-2");
+
+        when(messageRepository.findByIdempotencyKey("request-2"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(messageRepository.save(any(MessageEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_message_idempotency_key"));
+
+        assertEquals(6L, service.submitMessage(command).messageId());
+        verify(dispatchJobRepository, never()).enqueue(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should aggregate delivery counts for a message")
+    void getMessageStatus_ReturnsCountsPerStatus() {
+        MessageEntity message = new MessageEntity();
+        message.setId(3L);
+        message.setCategory(Category.FINANCE);
+
+        when(messageRepository.findById(3L)).thenReturn(Optional.of(message));
+        when(notificationLogRepository.countByStatusForMessage(3L)).thenReturn(List.of(
+                statusCount(NotificationStatus.SUCCESS, 4),
+                statusCount(NotificationStatus.FAILED, 1)
+        ));
+
+        GetMessageStatusUseCase.MessageStatus status = service.getMessageStatus(3L);
+
+        assertEquals(Category.FINANCE, status.category());
+        assertEquals(4, status.successfulNotifications());
+        assertEquals(1, status.failedNotifications());
+        assertEquals(0, status.pendingNotifications());
+        assertFalse(status.inProgress());
+    }
+
+    @Test
+    @DisplayName("Should throw when status is requested for an unknown message")
+    void getMessageStatus_WhenMessageMissing_ThrowsNotFound() {
+        when(messageRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getMessageStatus(99L));
+    }
+
     @Test
     @DisplayName("Should retrieve all notification logs")
     void getAllLogs_ReturnsAllLogs() {
@@ -254,4 +899,18 @@ class NotificationServiceTest {
         assertEquals(1, logs.size());
         assertEquals(messageId, logs.getFirst().getMessageId());
     }
+
+    private static NotificationLogRepository.StatusCount statusCount(NotificationStatus status, long total) {
+        return new NotificationLogRepository.StatusCount() {
+            @Override
+            public NotificationStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
 }
\ No newline at end of file
@@ -102,4 +102,51 @@ class UserTest {
 
         assertFalse(user.shouldReceiveNotification(Category.SPORTS));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should keep preferences as masks and decode them back to sets")
+    void preferences_AreStoredAsMasks() {
+        User user = User.builder()
+                .id(1L)
+                .subscribedCategories(Set.of(Category.MOVIES))
+                .channels(Set.of(NotificationChannel.SMS, NotificationChannel.PUSH_NOTIFICATION))
+                .build();
+
+        assertEquals(1 << Category.MOVIES.ordinal(), user.getCategoryMask());
+        assertEquals(Set.of(Category.MOVIES), user.getSubscribedCategories());
+        assertEquals(Set.of(NotificationChannel.SMS, NotificationChannel.PUSH_NOTIFICATION), user.getChannels());
+        assertFalse(user.hasChannel(NotificationChannel.EMAIL));
+    }
+
+    @Test
+    @DisplayName("Should validate contact details when built and when changed")
+    void hasValidContactFor_TracksContactDetails() {
+        User user = User.builder()
+                .id(1L)
+                .email("user@example.com")
+                .phoneNumber("invalid-phone")
+                .build();
+
+        assertTrue(user.hasValidContactFor(NotificationChannel.EMAIL));
+        assertFalse(user.hasValidContactFor(NotificationChannel.SMS));
+        assertTrue(user.hasValidContactFor(NotificationChannel.PUSH_NOTIFICATION));
+
+        user.setEmail("not-an-email");
+        user.setPhoneNumber("+14155550123");
+
+        assertFalse(user.hasValidContactFor(NotificationChannel.EMAIL));
+        assertTrue(user.hasValidContactFor(NotificationChannel.SMS));
+    }
+
+    @Test
+    @DisplayName("Should derive masks and reachable channels in the set-based constructor")
+    void constructor_WithSets_DerivesMasks() {
+        User user = new User(1L, "Jane", "jane@example.com", null,
+                Set.of(Category.SPORTS), Set.of(NotificationChannel.EMAIL, NotificationChannel.SMS));
+
+        assertTrue(user.isSubscribedTo(Category.SPORTS));
+        assertEquals(Set.of(NotificationChannel.EMAIL, NotificationChannel.SMS), user.getChannels());
+        assertTrue(user.hasValidContactFor(NotificationChannel.EMAIL));
+        assertFalse(user.hasValidContactFor(NotificationChannel.SMS));
+    }
+}
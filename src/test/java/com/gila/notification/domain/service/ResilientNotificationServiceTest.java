@@ -0,0 +1,125 @@
+package com.gila.notification.domain.service;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.infrastructure.config.CircuitBreakerConfiguration;
+import com.gila.notification.infrastructure.config.CircuitBreakerProperties;
+import com.gila.notification.infrastructure.config.NotificationMetrics;
+import com.gila.notification.infrastructure.config.RateLimitProperties;
+import com.gila.notification.infrastructure.config.RateLimiterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResilientNotificationServiceTest {
+
+    private final Message message = Message.builder()
+            .id(1L)
+            .category(Category.SPORTS)
+            .content("Final score")
+            .build();
+    private final List<Integer> providerCalls = new ArrayList<>();
+    private final RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+    private ResilientNotificationService service;
+    private RateLimiterRegistry rateLimiterRegistry;
+
+    @Test
+    @DisplayName("Should split a batch into provider calls of at most the burst and pace them to the rate")
+    void sendBatch_WhenRateLimited_PacesCallsOfBurstSize() {
+        limit.setPermitsPerSecond(200);
+        limit.setBurst(4);
+        CircuitBreakerProperties breakers = new CircuitBreakerProperties();
+        // Any wait counted as call time would make every call slow
+        breakers.getDefaults().setSlowCallDurationMs(1);
+        service = createService(breakers);
+
+        long start = System.nanoTime();
+        List<NotificationSender.SendResult> results = service.sendBatchWithCircuitBreaker(
+                message, users(10), NotificationChannel.SMS);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(List.of(4, 4, 2), providerCalls);
+        assertTrue(results.stream().allMatch(NotificationSender.SendResult::isSuccess));
+        // 10 permits at 200/s with a burst of 4 take at least 6 intervals of 5 ms
+        assertTrue(elapsedMs >= 25, "elapsed " + elapsedMs + " ms");
+        assertEquals(0, service.getCircuitMetrics(NotificationChannel.SMS).slowCalls());
+        assertEquals(10, rateLimiterRegistry.limiterFor(NotificationChannel.SMS).getMetrics().granted());
+    }
+
+    @Test
+    @DisplayName("Should fail a user over the per-user cap without a retry or a provider call")
+    void sendBatch_WhenUserCapped_FailsOnlyThatUser() throws Exception {
+        limit.setUserPermitsPerMinute(1);
+        limit.setUserBurst(1);
+        service = createService(new CircuitBreakerProperties());
+        List<User> users = users(2);
+
+        service.sendWithCircuitBreaker(message, users.get(0), NotificationChannel.SMS);
+        List<NotificationSender.SendResult> results = service.sendBatchWithCircuitBreaker(
+                message, users, NotificationChannel.SMS);
+
+        assertFalse(results.get(0).isSuccess());
+        assertFalse(results.get(0).failure().isRetryable());
+        assertTrue(results.get(1).isSuccess());
+        // The single send, then the batch without the capped user
+        assertEquals(List.of(1, 1), providerCalls);
+        assertEquals(1, rateLimiterRegistry.getUserRejections(NotificationChannel.SMS));
+        assertThrows(NotificationSender.NotificationException.class,
+                () -> service.sendWithCircuitBreaker(message, users.get(1), NotificationChannel.SMS));
+    }
+
+    private ResilientNotificationService createService(CircuitBreakerProperties breakers) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getChannels().put(NotificationChannel.SMS, limit);
+        rateLimiterRegistry = new RateLimiterRegistry(properties);
+        NotificationStrategy strategy = new NotificationStrategy(List.of(recordingSender()));
+        strategy.init();
+        return new ResilientNotificationService(strategy,
+                new CircuitBreakerConfiguration().circuitBreakerRegistry(breakers),
+                NotificationMetrics.noop(), rateLimiterRegistry);
+    }
+
+    private NotificationSender recordingSender() {
+        return new NotificationSender() {
+            @Override
+            public void send(Message message, User user) {
+                providerCalls.add(1);
+            }
+
+            @Override
+            public List<SendResult> sendBatch(Message message, List<User> users) {
+                providerCalls.add(users.size());
+                return users.stream().map(SendResult::success).toList();
+            }
+
+            @Override
+            public NotificationChannel getChannel() {
+                return NotificationChannel.SMS;
+            }
+        };
+    }
+
+    private static List<User> users(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> User.builder()
+                        .id(id)
+                        .name("User " + id)
+                        .phoneNumber("+1555000" + id)
+                        .subscribedCategories(Set.of(Category.SPORTS))
+                        .channels(Set.of(NotificationChannel.SMS))
+                        .build())
+                .toList();
+    }
+}
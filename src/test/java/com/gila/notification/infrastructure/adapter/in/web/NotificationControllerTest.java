@@ -1,26 +1,42 @@
 package com.gila.notification.infrastructure.adapter.in.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gila.notification.application.dto.NotificationLogDto;
 import com.gila.notification.application.dto.SendMessageRequest;
 import com.gila.notification.application.mapper.NotificationMapper;
 import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.NotificationStatus;
+import com.gila.notification.domain.port.in.ExportNotificationLogsUseCase;
+import com.gila.notification.domain.port.in.GetMessageStatusUseCase;
 import com.gila.notification.domain.port.in.GetNotificationLogsUseCase;
 import com.gila.notification.domain.port.in.SendMessageUseCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @WebMvcTest(NotificationController.class)
 class NotificationControllerTest {
@@ -37,6 +53,12 @@ class NotificationControllerTest {
     @MockBean
     private GetNotificationLogsUseCase getNotificationLogsUseCase;
 
+    @MockBean
+    private GetMessageStatusUseCase getMessageStatusUseCase;
+
+    @MockBean
+    private ExportNotificationLogsUseCase exportNotificationLogsUseCase;
+
     @MockBean
     private NotificationMapper mapper;
 
@@ -64,6 +86,38 @@ class NotificationControllerTest {
                 .andExpect(jsonPath("$.failedNotifications").value(1));
     }
 
+    @Test
+    @DisplayName("Should accept message for asynchronous delivery")
+    void submitMessage_WithValidRequest_ReturnsAccepted() throws Exception {
+        SendMessageRequest request = new SendMessageRequest();
+        request.setCategory(Category.SPORTS);
+        request.setMessage("Test message");
+
+        when(sendMessageUseCase.submitMessage(any()))
+                .thenReturn(new SendMessageUseCase.SubmitMessageResult(42L));
+
+        mockMvc.perform(post("/api/notifications/send/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/notifications/messages/42/status"))
+                .andExpect(jsonPath("$.status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.messageId").value(42));
+    }
+
+    @Test
+    @DisplayName("Should report delivery progress of a message")
+    void getMessageStatus_ReturnsProgress() throws Exception {
+        when(getMessageStatusUseCase.getMessageStatus(42L)).thenReturn(
+                new GetMessageStatusUseCase.MessageStatus(42L, Category.SPORTS, null, true, 3, 1, 0));
+
+        mockMvc.perform(get("/api/notifications/messages/{messageId}/status", 42L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.successfulNotifications").value(3))
+                .andExpect(jsonPath("$.failedNotifications").value(1));
+    }
+
     @Test
     @DisplayName("Should return bad request for empty message")
     void sendMessage_WithEmptyMessage_ReturnsBadRequest() throws Exception {
@@ -93,11 +147,58 @@ class NotificationControllerTest {
     @Test
     @DisplayName("Should get all notification logs")
     void getNotificationLogs_ReturnsAllLogs() throws Exception {
-        when(getNotificationLogsUseCase.getAllLogs()).thenReturn(List.of());
+        when(getNotificationLogsUseCase.findLogs(any()))
+                .thenReturn(new GetNotificationLogsUseCase.LogPage(List.of(), null));
 
         mockMvc.perform(get("/api/notifications/logs"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("Should pass filters to the query and return the next page cursor")
+    void getNotificationLogs_WithFilters_ReturnsNextCursor() throws Exception {
+        when(getNotificationLogsUseCase.findLogs(new GetNotificationLogsUseCase.LogQuery(
+                new GetNotificationLogsUseCase.LogFilter(7L, NotificationStatus.FAILED, NotificationChannel.SMS, null),
+                "abc", 0, 50)))
+                .thenReturn(new GetNotificationLogsUseCase.LogPage(List.of(), "next"));
+
+        mockMvc.perform(get("/api/notifications/logs")
+                        .param("userId", "7")
+                        .param("status", "FAILED")
+                        .param("channel", "SMS")
+                        .param("cursor", "abc")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"));
+    }
+
+    @Test
+    @DisplayName("Should stream matching logs as newline-delimited JSON")
+    void exportNotificationLogs_StreamsNdjson() throws Exception {
+        GetNotificationLogsUseCase.LogFilter filter =
+                new GetNotificationLogsUseCase.LogFilter(null, NotificationStatus.FAILED, null, null);
+        doAnswer(invocation -> {
+            Consumer<NotificationLog> consumer = invocation.getArgument(1);
+            consumer.accept(NotificationLog.builder().id(1L).build());
+            consumer.accept(NotificationLog.builder().id(2L).build());
+            return 2L;
+        }).when(exportNotificationLogsUseCase).exportLogs(eq(filter), any());
+        when(mapper.toDto(any())).thenAnswer(invocation -> NotificationLogDto.builder()
+                .id(invocation.getArgument(0, NotificationLog.class).getId())
+                .build());
+
+        MvcResult result = mockMvc.perform(get("/api/notifications/logs/export").param("status", "FAILED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(-1, result.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string(matchesPattern(
+                        "\\{\"id\":1,[^\\n]*}\n\\{\"id\":2,[^\\n]*}\n")));
     }
 
     @Test
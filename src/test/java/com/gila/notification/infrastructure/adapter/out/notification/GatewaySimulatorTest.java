@@ -0,0 +1,93 @@
+package com.gila.notification.infrastructure.adapter.out.notification;
+
+import com.gila.notification.domain.port.out.NotificationSender.NotificationException;
+import com.gila.notification.infrastructure.config.GatewaySimulatorProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GatewaySimulatorTest {
+
+    private static final String UNAVAILABLE = "Test gateway temporarily unavailable";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should answer 429 once the per-second limit is used up, and accept again in the next second")
+    void call_AboveRateLimit_IsThrottled() throws Exception {
+        GatewaySimulatorProperties.Profile profile = reliableProfile();
+        profile.setMaxRequestsPerSecond(2);
+        GatewaySimulator gateway = new GatewaySimulator("Test gateway", UNAVAILABLE, profile, clock::get);
+
+        gateway.call();
+        gateway.call();
+        NotificationException throttled = assertThrows(NotificationException.class, gateway::call);
+
+        assertTrue(throttled.getMessage().contains("429"));
+        assertTrue(throttled.isRetryable());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertDoesNotThrow(gateway::call);
+    }
+
+    @Test
+    @DisplayName("Should be down for the outage duration at the end of every cycle")
+    void call_DuringOutageWindow_Fails() {
+        GatewaySimulatorProperties.Profile profile = reliableProfile();
+        profile.setOutagePeriodMs(1000);
+        profile.setOutageDurationMs(200);
+        GatewaySimulator gateway = new GatewaySimulator("Test gateway", UNAVAILABLE, profile, clock::get);
+
+        assertDoesNotThrow(gateway::call);
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(850));
+        NotificationException outage = assertThrows(NotificationException.class, gateway::call);
+        assertTrue(outage.getMessage().contains("outage"));
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(1050));
+        assertDoesNotThrow(gateway::call);
+    }
+
+    @Test
+    @DisplayName("Should fail every request at a failure rate of one")
+    void call_WithFullFailureRate_Fails() {
+        GatewaySimulatorProperties.Profile profile = reliableProfile();
+        profile.setFailureRate(1.0);
+        GatewaySimulator gateway = new GatewaySimulator("Test gateway", UNAVAILABLE, profile, clock::get);
+
+        NotificationException failure = assertThrows(NotificationException.class, gateway::call);
+
+        assertEquals(UNAVAILABLE, failure.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should draw latencies around the configured median and p99")
+    void sampleLatencyNanos_FollowsConfiguredDistribution() {
+        GatewaySimulatorProperties.Profile profile = reliableProfile();
+        profile.setMedianLatencyMs(100);
+        profile.setP99LatencyMs(1000);
+        GatewaySimulator gateway = new GatewaySimulator("Test gateway", UNAVAILABLE, profile, clock::get);
+
+        long[] samples = new long[20_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = gateway.sampleLatencyNanos();
+        }
+        Arrays.sort(samples);
+
+        double medianMs = samples[samples.length / 2] / 1e6;
+        double p99Ms = samples[(int) (samples.length * 0.99)] / 1e6;
+        assertEquals(100, medianMs, 10);
+        assertEquals(1000, p99Ms, 200);
+    }
+
+    private static GatewaySimulatorProperties.Profile reliableProfile() {
+        GatewaySimulatorProperties.Profile profile = new GatewaySimulatorProperties.Profile();
+        profile.setFailureRate(0);
+        return profile;
+    }
+}
@@ -0,0 +1,159 @@
+package com.gila.notification.infrastructure.adapter.out.notification;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.infrastructure.config.HedgingProperties;
+import com.gila.notification.infrastructure.config.RetryBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HedgingNotificationSenderTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch releaseFirst = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final User user = User.builder()
+            .id(1L)
+            .name("John Doe")
+            .subscribedCategories(Set.of(Category.MOVIES))
+            .channels(Set.of(NotificationChannel.PUSH_NOTIFICATION))
+            .build();
+    private final Message message = Message.builder()
+            .id(1L)
+            .category(Category.MOVIES)
+            .content("New release")
+            .build();
+
+    private HedgingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HedgingProperties();
+        properties.setInitialDelayMs(20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirst.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should complete through the hedge when the first attempt is stuck")
+    void send_WhenFirstAttemptSlow_HedgeWins() throws Exception {
+        HedgingNotificationSender sender = new HedgingNotificationSender(
+                firstCallBlocks(), new RetryBudget(20, 10), properties, executor);
+
+        sender.send(message, user);
+
+        assertEquals(2, calls.get());
+        HedgingNotificationSender.Metrics metrics = sender.getMetrics();
+        assertEquals(1, metrics.hedgesSent());
+        assertEquals(1, metrics.hedgeWins());
+    }
+
+    @Test
+    @DisplayName("Should wait for the first attempt instead of hedging when the budget is spent")
+    void send_WhenBudgetSpent_DoesNotHedge() throws Exception {
+        RetryBudget budget = new RetryBudget(20, 1);
+        budget.tryAcquire();
+        HedgingNotificationSender sender = new HedgingNotificationSender(
+                firstCallBlocks(), budget, properties, executor);
+        executor.execute(() -> {
+            sleep(100);
+            releaseFirst.countDown();
+        });
+
+        sender.send(message, user);
+
+        assertEquals(1, calls.get());
+        assertEquals(0, sender.getMetrics().hedgesSent());
+        assertEquals(1, budget.getMetrics().denied());
+    }
+
+    @Test
+    @DisplayName("Should surface a fast failure of the first attempt without hedging")
+    void send_WhenFirstAttemptFailsFast_ThrowsWithoutHedge() {
+        NotificationSender failing = new StubSender() {
+            @Override
+            public void send(Message message, User user) throws NotificationException {
+                calls.incrementAndGet();
+                throw new NotificationException("Push notification service temporarily unavailable");
+            }
+        };
+        HedgingNotificationSender sender = new HedgingNotificationSender(
+                failing, new RetryBudget(20, 10), properties, executor);
+
+        NotificationSender.NotificationException exception = assertThrows(
+                NotificationSender.NotificationException.class, () -> sender.send(message, user));
+
+        assertEquals("Push notification service temporarily unavailable", exception.getMessage());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should move the hedge delay to the configured latency percentile")
+    void send_AfterEnoughSamples_UsesLatencyPercentile() throws Exception {
+        properties.setSampleSize(20);
+        properties.setRecomputeInterval(20);
+        properties.setMinDelayMs(1);
+        properties.setInitialDelayMs(1000);
+        HedgingNotificationSender sender = new HedgingNotificationSender(
+                new StubSender(), new RetryBudget(20, 10), properties, executor);
+
+        for (int i = 0; i < 20; i++) {
+            sender.send(message, user);
+        }
+
+        assertEquals(1, sender.getMetrics().hedgeDelayMs());
+    }
+
+    private NotificationSender firstCallBlocks() {
+        return new StubSender() {
+            @Override
+            public void send(Message message, User user) {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        releaseFirst.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class StubSender implements NotificationSender {
+        @Override
+        public void send(Message message, User user) throws NotificationException {
+        }
+
+        @Override
+        public NotificationChannel getChannel() {
+            return NotificationChannel.PUSH_NOTIFICATION;
+        }
+    }
+}
@@ -5,10 +5,12 @@ import com.gila.notification.domain.model.Message;
 import com.gila.notification.domain.model.NotificationChannel;
 import com.gila.notification.domain.model.User;
 import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.infrastructure.config.GatewaySimulatorProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,7 +21,7 @@ class SmsNotificationSenderTest {
 
     @BeforeEach
     void setUp() {
-        sender = new SmsNotificationSender();
+        sender = new SmsNotificationSender(new GatewaySimulatorProperties());
     }
 
     @Test
@@ -98,4 +100,33 @@ class SmsNotificationSenderTest {
 
         assertTrue(exception.getMessage().contains("Invalid phone number format"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reject invalid numbers individually and give valid numbers one shared gateway outcome")
+    void sendBatch_WithMixedRecipients_ReturnsOutcomePerRecipient() {
+        List<User> users = List.of(
+                User.builder().id(1L).name("John Doe").phoneNumber("+1234567890").build(),
+                User.builder().id(2L).name("Jane Smith").phoneNumber("invalid-phone").build(),
+                User.builder().id(3L).name("Bob Johnson").build(),
+                User.builder().id(4L).name("Alice Brown").phoneNumber("+1987654321").build()
+        );
+
+        Message message = Message.builder()
+                .id(1L)
+                .category(Category.SPORTS)
+                .content("Test message")
+                .build();
+
+        List<NotificationSender.SendResult> results = sender.sendBatch(message, users);
+
+        assertEquals(4, results.size());
+        assertEquals(users, results.stream().map(NotificationSender.SendResult::user).toList());
+        assertFalse(results.get(1).failure().isRetryable());
+        assertTrue(results.get(1).failure().getMessage().contains("Invalid phone number format"));
+        assertEquals("User does not have a phone number", results.get(2).failure().getMessage());
+        assertEquals(results.get(0).isSuccess(), results.get(3).isSuccess());
+        if (!results.get(0).isSuccess()) {
+            assertTrue(results.get(0).failure().isRetryable());
+        }
+    }
+}
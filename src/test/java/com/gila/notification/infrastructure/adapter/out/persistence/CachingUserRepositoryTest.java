@@ -0,0 +1,78 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.UserRepository;
+import com.gila.notification.infrastructure.config.UserStoreProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private CachingUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        UserStoreProperties.Cache settings = new UserStoreProperties.Cache();
+        settings.setMaxUsers(2);
+        repository = new CachingUserRepository(delegate, settings);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated recipient lookups from the cache until a write invalidates them")
+    void findBySubscribedCategory_CachesUntilInvalidated() {
+        List<User> subscribers = List.of(user(1L), user(2L));
+        when(delegate.findBySubscribedCategory(Category.SPORTS)).thenReturn(subscribers);
+
+        repository.findBySubscribedCategory(Category.SPORTS);
+        assertEquals(subscribers, repository.findBySubscribedCategory(Category.SPORTS));
+        verify(delegate, times(1)).findBySubscribedCategory(Category.SPORTS);
+
+        repository.save(user(2L));
+        repository.findBySubscribedCategory(Category.SPORTS);
+        verify(delegate, times(2)).findBySubscribedCategory(Category.SPORTS);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used user when the cache is full")
+    void findById_EvictsLeastRecentlyUsed() {
+        for (long id = 1; id <= 3; id++) {
+            when(delegate.findById(id)).thenReturn(Optional.of(user(id)));
+        }
+
+        repository.findById(1L);
+        repository.findById(2L);
+        repository.findById(1L);
+        repository.findById(3L);
+        repository.findById(1L);
+        repository.findById(2L);
+
+        verify(delegate, times(1)).findById(1L);
+        verify(delegate, times(2)).findById(2L);
+    }
+
+    private User user(Long id) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .subscribedCategories(Set.of(Category.SPORTS))
+                .build();
+    }
+}
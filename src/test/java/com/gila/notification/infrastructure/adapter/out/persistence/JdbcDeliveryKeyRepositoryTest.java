@@ -0,0 +1,60 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcDeliveryKeyRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcDeliveryKeyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcDeliveryKeyRepository(jdbcTemplate);
+        jdbcTemplate.update("DELETE FROM delivery_keys");
+        jdbcTemplate.update("DELETE FROM dispatch_partitions");
+        jdbcTemplate.update("DELETE FROM dispatch_jobs");
+        jdbcTemplate.update("DELETE FROM messages");
+        jdbcTemplate.update("INSERT INTO messages (id, category, content) VALUES (1, 'SPORTS', 'Score update')");
+    }
+
+    @Test
+    @DisplayName("Should find only the users the message reached on that channel")
+    void findDelivered_ReturnsStoredKeysPerChannel() {
+        repository.saveAll(1L, NotificationChannel.EMAIL, List.of(10L, 11L));
+        repository.saveAll(1L, NotificationChannel.SMS, List.of(12L));
+
+        assertEquals(Set.of(10L), repository.findDelivered(1L, NotificationChannel.EMAIL, List.of(10L, 12L, 13L)));
+        assertEquals(Set.of(12L), repository.findDelivered(1L, NotificationChannel.SMS, List.of(10L, 12L)));
+    }
+
+    @Test
+    @DisplayName("Should keep one key per delivery when a batch repeats stored keys")
+    void saveAll_SkipsExistingKeys() {
+        repository.saveAll(1L, NotificationChannel.EMAIL, List.of(10L));
+
+        repository.saveAll(1L, NotificationChannel.EMAIL, List.of(10L, 11L));
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM delivery_keys", Integer.class));
+        assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update(
+                "INSERT INTO delivery_keys (message_id, user_id, channel) VALUES (1, 10, 'EMAIL')"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.port.out.DispatchJobRepository.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcDispatchJobRepositoryTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcDispatchJobRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcDispatchJobRepository(jdbcTemplate, new TransactionTemplate(transactionManager));
+        jdbcTemplate.update("DELETE FROM dispatch_jobs");
+        jdbcTemplate.update("DELETE FROM messages");
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO messages (id, category, content) VALUES (?, 'SPORTS', 'Score update')", id);
+        }
+    }
+
+    @Test
+    @DisplayName("Should hide claimed jobs from other workers until the lease runs out")
+    void claim_HidesClaimedJobsForTheLease() {
+        repository.enqueue(1L, Duration.ZERO);
+        repository.enqueue(2L, Duration.ZERO);
+        repository.enqueue(3L, LEASE);
+
+        assertEquals(List.of(new Job(1L, 1), new Job(2L, 1)), repository.claim("worker-a", 10, LEASE));
+        assertTrue(repository.claim("worker-b", 10, LEASE).isEmpty());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT attempts FROM dispatch_jobs WHERE message_id = 1", Integer.class));
+        assertEquals("worker-a", jdbcTemplate.queryForObject(
+                "SELECT claimed_by FROM dispatch_jobs WHERE message_id = 1", String.class));
+
+        repository.retryLater(new Job(2L, 1), Duration.ZERO);
+        Job retried = repository.claim("worker-b", 10, LEASE).getFirst();
+        assertEquals(new Job(2L, 2), retried);
+        assertTrue(retried.isRedelivery());
+    }
+
+    @Test
+    @DisplayName("Should remove the job once its message is dispatched")
+    void complete_RemovesJob() {
+        repository.enqueueHeld(1L, LEASE);
+        assertTrue(repository.isPending(1L));
+
+        assertTrue(repository.complete(Job.held(1L)));
+
+        assertFalse(repository.isPending(1L));
+    }
+
+    @Test
+    @DisplayName("Should treat the first worker claim of a job held by its intake as a redelivery")
+    void claim_AfterHeldLeaseRunsOut_IsRedelivery() {
+        repository.enqueueHeld(1L, Duration.ZERO);
+
+        Job claimed = repository.claim("worker-a", 1, LEASE).getFirst();
+
+        assertEquals(new Job(1L, 2), claimed);
+        assertTrue(claimed.isRedelivery());
+        assertFalse(repository.complete(Job.held(1L)));
+    }
+
+    @Test
+    @DisplayName("Should refuse renewals and completion from a worker whose lease was taken over")
+    void complete_AfterJobClaimedAgain_IsRejected() {
+        repository.enqueue(1L, Duration.ZERO);
+        Job first = repository.claim("worker-a", 1, Duration.ZERO).getFirst();
+        Job second = repository.claim("worker-b", 1, LEASE).getFirst();
+
+        assertFalse(repository.renew(first, LEASE));
+        assertFalse(repository.complete(first));
+        assertTrue(repository.isPending(1L));
+        assertTrue(repository.renew(second, LEASE));
+        assertTrue(repository.complete(second));
+        assertFalse(repository.isPending(1L));
+    }
+
+    @Test
+    @DisplayName("Should skip rows locked by a concurrent claim instead of waiting for them")
+    void claim_SkipsRowsLockedByAnotherTransaction() throws Exception {
+        repository.enqueue(1L, Duration.ZERO);
+        repository.enqueue(2L, Duration.ZERO);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    jdbcTemplate.queryForList(
+                            "SELECT message_id FROM dispatch_jobs WHERE message_id = 1 FOR UPDATE", Long.class);
+                    locked.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        try {
+            assertEquals(List.of(new Job(2L, 1)), repository.claim("worker-b", 10, LEASE));
+        } finally {
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.port.out.DispatchPartitionRepository.Partition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcDispatchPartitionRepositoryTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcDispatchPartitionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcDispatchPartitionRepository(jdbcTemplate, new TransactionTemplate(transactionManager));
+        jdbcTemplate.update("DELETE FROM dispatch_partitions");
+        jdbcTemplate.update("DELETE FROM dispatch_jobs");
+        jdbcTemplate.update("DELETE FROM messages");
+        jdbcTemplate.update("INSERT INTO messages (id, category, content) VALUES (1, 'SPORTS', 'Score update')");
+    }
+
+    @Test
+    @DisplayName("Should create consecutive ranges and lease each one to a single worker")
+    void claim_LeasesEachPartitionOnce() {
+        repository.createAll(1L, List.of(100L, 200L, 250L), false);
+
+        List<Partition> first = repository.claim("node-a", 2, LEASE);
+        List<Partition> second = repository.claim("node-b", 2, LEASE);
+
+        assertEquals(List.of(new Partition(1L, 0, null, 100L, 1), new Partition(1L, 1, 100L, 200L, 1)), first);
+        assertEquals(List.of(new Partition(1L, 2, 200L, 250L, 1)), second);
+        assertTrue(repository.claim("node-c", 2, LEASE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should hand an expired partition to a new holder and fence off the old one")
+    void claim_AfterLeaseExpires_FencesPreviousHolder() {
+        repository.createAll(1L, List.of(100L), false);
+        Partition stale = repository.claim("node-a", 1, Duration.ZERO).getFirst();
+
+        Partition current = repository.claim("node-b", 1, LEASE).getFirst();
+
+        assertEquals(2, current.leaseVersion());
+        assertFalse(repository.renew(stale, "node-a", LEASE));
+        assertFalse(repository.complete(stale, "node-a"));
+        assertTrue(repository.renew(current, "node-b", LEASE));
+        assertTrue(repository.complete(current, "node-b"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dispatch_partitions", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Should make even the first claim a redelivery when the message was partly delivered before the split")
+    void claim_WhenCreatedForRedelivery_IsRedelivery() {
+        repository.createAll(1L, List.of(100L), true);
+
+        Partition claimed = repository.claim("node-a", 1, LEASE).getFirst();
+
+        assertEquals(2, claimed.leaseVersion());
+        assertTrue(claimed.isRedelivery());
+    }
+}
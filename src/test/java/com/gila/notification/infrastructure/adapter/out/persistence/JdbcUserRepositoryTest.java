@@ -0,0 +1,103 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@JdbcTest
+class JdbcUserRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcUserRepository(jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Should resolve subscribers with their full preferences in one query")
+    void findBySubscribedCategory_ReturnsSubscribersWithPreferences() {
+        List<User> subscribers = repository.findBySubscribedCategory(Category.SPORTS);
+
+        assertEquals(List.of(1L, 3L, 5L, 7L, 9L), subscribers.stream().map(User::getId).toList());
+        User charlie = subscribers.get(2);
+        assertEquals("Charlie Wilson", charlie.getName());
+        assertEquals(Set.of(Category.values()), charlie.getSubscribedCategories());
+        assertEquals(Set.of(NotificationChannel.values()), charlie.getChannels());
+    }
+
+    @Test
+    @DisplayName("Should page subscribers by id without splitting a user's preference rows")
+    void findSubscribersAfter_ReturnsKeysetPages() {
+        List<User> first = repository.findSubscribersAfter(Category.FINANCE, null, 2);
+        List<User> second = repository.findSubscribersAfter(Category.FINANCE, first.getLast().getId(), 10);
+
+        assertEquals(List.of(1L, 4L), first.stream().map(User::getId).toList());
+        assertEquals(List.of(5L, 6L, 8L), second.stream().map(User::getId).toList());
+        assertEquals(Set.of(NotificationChannel.values()), second.getFirst().getChannels());
+    }
+
+    @Test
+    @DisplayName("Should return every nth subscriber id and the last one as range bounds")
+    void findSubscriberIdBounds_ReturnsRangeBounds() {
+        assertEquals(List.of(4L, 6L, 8L), repository.findSubscriberIdBounds(Category.FINANCE, 2));
+        assertEquals(List.of(8L), repository.findSubscriberIdBounds(Category.FINANCE, 5));
+        assertEquals(List.of(8L), repository.findSubscriberIdBounds(Category.FINANCE, 100));
+    }
+
+    @Test
+    @DisplayName("Should insert new users and replace preferences of existing ones")
+    void saveAll_InsertsAndUpdatesUsers() {
+        repository.saveAll(List.of(
+                User.builder()
+                        .id(7L)
+                        .name("Edward Davis")
+                        .subscribedCategories(Set.of(Category.MOVIES))
+                        .channels(Set.of(NotificationChannel.EMAIL))
+                        .build(),
+                User.builder()
+                        .id(11L)
+                        .name("Ivy Young")
+                        .subscribedCategories(Set.of(Category.SPORTS))
+                        .build()));
+
+        User edward = repository.findById(7L).orElseThrow();
+        assertEquals(Set.of(Category.MOVIES), edward.getSubscribedCategories());
+        assertEquals(Set.of(NotificationChannel.EMAIL), edward.getChannels());
+        List<Long> sports = repository.findBySubscribedCategory(Category.SPORTS).stream().map(User::getId).toList();
+        assertFalse(sports.contains(7L));
+        assertTrue(sports.contains(11L));
+        assertEquals(11, repository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should delete a user together with its preferences")
+    void deleteById_RemovesUser() {
+        repository.deleteById(5L);
+
+        assertTrue(repository.findById(5L).isEmpty());
+        assertFalse(repository.findBySubscribedCategory(Category.MOVIES).stream()
+                .anyMatch(user -> user.getId() == 5L));
+    }
+}
@@ -0,0 +1,95 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserRepositoryImplTest {
+
+    private UserRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new UserRepositoryImpl();
+        repository.initUsers();
+    }
+
+    @Test
+    @DisplayName("Should resolve subscribers from the index ordered by id")
+    void findBySubscribedCategory_ReturnsSubscribers() {
+        List<User> subscribers = repository.findBySubscribedCategory(Category.SPORTS);
+
+        assertEquals(List.of(1L, 3L, 5L, 7L, 9L), subscribers.stream().map(User::getId).toList());
+        assertThrows(UnsupportedOperationException.class, () -> subscribers.remove(0));
+    }
+
+    @Test
+    @DisplayName("Should page subscribers by id")
+    void findSubscribersAfter_ReturnsKeysetPages() {
+        assertEquals(List.of(1L, 3L), ids(repository.findSubscribersAfter(Category.SPORTS, null, 2)));
+        assertEquals(List.of(5L, 7L), ids(repository.findSubscribersAfter(Category.SPORTS, 3L, 2)));
+        assertEquals(List.of(9L), ids(repository.findSubscribersAfter(Category.SPORTS, 8L, 2)));
+        assertTrue(repository.findSubscribersAfter(Category.SPORTS, 9L, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return every nth subscriber id and the last one as range bounds")
+    void findSubscriberIdBounds_ReturnsRangeBounds() {
+        assertEquals(List.of(3L, 7L, 9L), repository.findSubscriberIdBounds(Category.SPORTS, 2));
+        assertEquals(List.of(9L), repository.findSubscriberIdBounds(Category.SPORTS, 5));
+    }
+
+    @Test
+    @DisplayName("Should move a user between category indexes when subscriptions change")
+    void save_WhenSubscriptionsChange_UpdatesIndex() {
+        List<User> sportsBefore = repository.findBySubscribedCategory(Category.SPORTS);
+
+        repository.save(User.builder()
+                .id(7L)
+                .name("Edward Davis")
+                .subscribedCategories(new HashSet<>(Set.of(Category.MOVIES)))
+                .channels(Set.of(NotificationChannel.SMS))
+                .build());
+
+        assertFalse(ids(Category.SPORTS).contains(7L));
+        assertTrue(ids(Category.MOVIES).contains(7L));
+        assertEquals(5, sportsBefore.size());
+    }
+
+    @Test
+    @DisplayName("Should add new users and drop deleted ones from the index")
+    void saveAndDelete_UpdateIndex() {
+        repository.save(User.builder()
+                .id(11L)
+                .name("Ivy Young")
+                .subscribedCategories(Set.of(Category.FINANCE))
+                .channels(Set.of(NotificationChannel.EMAIL))
+                .build());
+        repository.deleteById(1L);
+
+        assertTrue(ids(Category.FINANCE).contains(11L));
+        assertFalse(ids(Category.FINANCE).contains(1L));
+        assertFalse(ids(Category.SPORTS).contains(1L));
+        assertTrue(repository.findById(1L).isEmpty());
+    }
+
+    private List<Long> ids(Category category) {
+        return ids(repository.findBySubscribedCategory(category));
+    }
+
+    private List<Long> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+}
@@ -0,0 +1,187 @@
+package com.gila.notification.infrastructure.adapter.out.persistence;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.NotificationStatus;
+import com.gila.notification.infrastructure.adapter.out.persistence.entity.NotificationLogEntity;
+import com.gila.notification.infrastructure.adapter.out.persistence.repository.NotificationLogRepository;
+import com.gila.notification.infrastructure.config.LogWriterProperties;
+import com.gila.notification.infrastructure.config.NotificationMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindNotificationLogWriterTest {
+
+    @Mock
+    private NotificationLogRepository notificationLogRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private final List<NotificationLogEntity> stored = Collections.synchronizedList(new ArrayList<>());
+    private LogWriterProperties properties;
+    private WriteBehindNotificationLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LogWriterProperties();
+        properties.setBatchSize(50);
+        properties.setFlushIntervalMs(20);
+        properties.setRingCapacity(1024);
+        properties.setSpillInitialSizeBytes(4096);
+        properties.setSpillFile(tempDir.resolve("spill.bin").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should store every log published by concurrent producers, replaying any backlog spill")
+    void write_FromManyThreads_StoresAllLogs() throws Exception {
+        recordSaves();
+        writer = startWriter();
+
+        int producers = 4;
+        int logsPerProducer = 2000;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            long producerId = p;
+            Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < logsPerProducer; i++) {
+                    writer.write(log(producerId * logsPerProducer + i));
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        writer.flush();
+        awaitSpillReplayed();
+
+        assertEquals(producers * logsPerProducer, stored.size());
+        assertEquals(producers * logsPerProducer,
+                stored.stream().map(NotificationLogEntity::getUserId).distinct().count());
+    }
+
+    @Test
+    @DisplayName("Should spill logs while the database is down and replay them on restart")
+    void write_WhenDatabaseDown_SpillsAndReplaysOnStartup() throws Exception {
+        doThrow(new DataAccessResourceFailureException("Database down"))
+                .when(notificationLogRepository).saveAll(anyList());
+        writer = startWriter();
+
+        for (long i = 0; i < 120; i++) {
+            writer.write(log(i));
+        }
+        writer.flush();
+        assertTrue(writer.getSpilledBytes() > 0);
+        writer.stop();
+
+        recordSaves();
+        writer = startWriter();
+
+        assertEquals(120, stored.size());
+        NotificationLogEntity first = stored.getFirst();
+        assertEquals(0L, first.getUserId());
+        assertEquals("Market update", first.getMessageContent());
+        assertEquals(NotificationChannel.SMS, first.getChannel());
+        assertEquals(NotificationStatus.FAILED, first.getStatus());
+        assertEquals("Gateway timeout", first.getErrorMessage());
+        assertEquals(3, first.getAttempts());
+        assertEquals(LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_000_000), first.getSentAt());
+        assertEquals(0, writer.getSpilledBytes());
+    }
+
+    @Test
+    @DisplayName("Should return to the database after the retry interval even while the ring never empties")
+    void write_WhenDatabaseRecoversUnderLoad_StoresAndReplaysSpill() throws Exception {
+        properties.setFlushIntervalMs(60_000);
+        properties.setRetryIntervalMs(10);
+        doThrow(new DataAccessResourceFailureException("Database down"))
+                .when(notificationLogRepository).saveAll(anyList());
+        writer = startWriter();
+
+        for (long i = 0; i < 50; i++) {
+            writer.write(log(i));
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (writer.getSpilledBytes() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(writer.getSpilledBytes() > 0);
+
+        recordSaves();
+        Thread.sleep(20);
+        // Only full batches are drained, so at least ten logs stay in the ring and the writer never idles
+        for (long i = 50; i < 110; i++) {
+            writer.write(log(i));
+        }
+        awaitSpillReplayed();
+
+        assertEquals(0, writer.getSpilledBytes());
+        assertTrue(writer.getBufferedCount() > 0);
+        assertEquals(100, stored.size());
+    }
+
+    private void awaitSpillReplayed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (writer.getSpilledBytes() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private WriteBehindNotificationLogWriter startWriter() throws Exception {
+        WriteBehindNotificationLogWriter started = new WriteBehindNotificationLogWriter(notificationLogRepository, properties,
+                NotificationMetrics.noop());
+        started.start();
+        return started;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordSaves() {
+        doAnswer(invocation -> {
+            stored.addAll(invocation.getArgument(0, List.class));
+            return invocation.getArgument(0);
+        }).when(notificationLogRepository).saveAll(anyList());
+    }
+
+    private NotificationLog log(Long userId) {
+        return NotificationLog.builder()
+                .messageId(1L)
+                .messageContent("Market update")
+                .messageCategory(Category.FINANCE)
+                .userId(userId)
+                .userName("User " + userId)
+                .channel(NotificationChannel.SMS)
+                .status(NotificationStatus.FAILED)
+                .sentAt(LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_000_000))
+                .errorMessage("Gateway timeout")
+                .attempts(3)
+                .build();
+    }
+}
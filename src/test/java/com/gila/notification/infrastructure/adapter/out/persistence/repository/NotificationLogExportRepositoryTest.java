@@ -0,0 +1,130 @@
+package com.gila.notification.infrastructure.adapter.out.persistence.repository;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.NotificationLog;
+import com.gila.notification.domain.model.NotificationStatus;
+import com.gila.notification.domain.port.in.GetNotificationLogsUseCase.LogFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@JdbcTest
+class NotificationLogExportRepositoryTest {
+
+    private static final LocalDateTime SENT_AT = LocalDateTime.of(2026, 1, 15, 12, 0);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationLogExportRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new NotificationLogExportRepository(dataSource);
+        jdbcTemplate.update("DELETE FROM notification_logs");
+        // Inserted out of id order, so only the query's ORDER BY sorts them
+        insertLog(3L, 2L, NotificationStatus.FAILED, NotificationChannel.SMS, Category.FINANCE, "Gateway timeout");
+        insertLog(1L, 1L, NotificationStatus.SUCCESS, NotificationChannel.EMAIL, Category.SPORTS, null);
+        insertLog(2L, 1L, NotificationStatus.FAILED, NotificationChannel.EMAIL, Category.FINANCE, "Mailbox full");
+        insertLog(4L, 2L, NotificationStatus.PENDING, NotificationChannel.PUSH_NOTIFICATION, Category.MOVIES, null);
+    }
+
+    @Test
+    @DisplayName("Should stream every column of every log ordered by id")
+    void streamMatching_WithoutFilter_MapsAllRowsInIdOrder() {
+        jdbcTemplate.update("UPDATE notification_logs SET user_email = NULL, attempts = 3 WHERE id = 3");
+        List<NotificationLog> logs = new ArrayList<>();
+
+        long rows = repository.streamMatching(new LogFilter(null, null, null, null), logs::add);
+
+        assertEquals(4, rows);
+        assertEquals(List.of(1L, 2L, 3L, 4L), logs.stream().map(NotificationLog::getId).toList());
+        NotificationLog failed = logs.get(2);
+        assertEquals(NotificationLog.builder()
+                .id(3L)
+                .messageId(30L)
+                .messageContent("Rates are up")
+                .messageCategory(Category.FINANCE)
+                .userId(2L)
+                .userName("User 2")
+                .userEmail(null)
+                .userPhone("+1555000002")
+                .channel(NotificationChannel.SMS)
+                .status(NotificationStatus.FAILED)
+                .sentAt(SENT_AT)
+                .errorMessage("Gateway timeout")
+                .attempts(3)
+                .build(), failed);
+    }
+
+    @Test
+    @DisplayName("Should combine only the filters that are set")
+    void streamMatching_WithFilters_ReturnsMatchingLogs() {
+        assertEquals(List.of(1L, 2L), streamIds(new LogFilter(1L, null, null, null)));
+        assertEquals(List.of(2L, 3L), streamIds(new LogFilter(null, NotificationStatus.FAILED, null, null)));
+        assertEquals(List.of(1L, 2L), streamIds(new LogFilter(null, null, NotificationChannel.EMAIL, null)));
+        assertEquals(List.of(2L, 3L), streamIds(new LogFilter(null, null, null, Category.FINANCE)));
+        assertEquals(List.of(2L), streamIds(new LogFilter(1L, NotificationStatus.FAILED,
+                NotificationChannel.EMAIL, Category.FINANCE)));
+        assertEquals(List.of(), streamIds(new LogFilter(2L, NotificationStatus.SUCCESS, null, null)));
+    }
+
+    @Test
+    @DisplayName("Should stream MySQL rows one at a time unless the URL enables cursor fetches")
+    void fetchSizeFor_OnMySqlWithoutCursorFetch_StreamsRows() throws Exception {
+        assertEquals(Integer.MIN_VALUE, NotificationLogExportRepository.fetchSizeFor(
+                dataSourceFor("MySQL", "jdbc:mysql://db:3306/notification")));
+        assertEquals(1000, NotificationLogExportRepository.fetchSizeFor(
+                dataSourceFor("MySQL", "jdbc:mysql://db:3306/notification?useCursorFetch=true")));
+        assertEquals(1000, NotificationLogExportRepository.fetchSizeFor(
+                dataSourceFor("PostgreSQL", "jdbc:postgresql://db:5432/notification")));
+        assertEquals(1000, NotificationLogExportRepository.fetchSizeFor(dataSource));
+    }
+
+    private List<Long> streamIds(LogFilter filter) {
+        List<Long> ids = new ArrayList<>();
+        repository.streamMatching(filter, log -> ids.add(log.getId()));
+        return ids;
+    }
+
+    private static DataSource dataSourceFor(String productName, String url) throws Exception {
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(productName);
+        when(metaData.getURL()).thenReturn(url);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        DataSource mockDataSource = mock(DataSource.class);
+        when(mockDataSource.getConnection()).thenReturn(connection);
+        return mockDataSource;
+    }
+
+    private void insertLog(Long id, Long userId, NotificationStatus status, NotificationChannel channel,
+                           Category category, String errorMessage) {
+        jdbcTemplate.update("""
+                        INSERT INTO notification_logs (id, message_id, message_content, message_category, user_id,
+                            user_name, user_email, user_phone, channel, status, sent_at, error_message)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""",
+                id, id * 10, category == Category.FINANCE ? "Rates are up" : "Update", category.name(), userId,
+                "User " + userId, "user" + userId + "@example.com", "+155500000" + userId, channel.name(),
+                status.name(), Timestamp.valueOf(SENT_AT), errorMessage);
+    }
+}
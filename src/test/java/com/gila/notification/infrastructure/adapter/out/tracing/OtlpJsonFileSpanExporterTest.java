@@ -0,0 +1,108 @@
+package com.gila.notification.infrastructure.adapter.out.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gila.notification.infrastructure.config.NotificationTracer;
+import com.gila.notification.infrastructure.config.Span;
+import com.gila.notification.infrastructure.config.TracingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OtlpJsonFileSpanExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write finished spans as OTLP JSON lines")
+    void export_WritesOtlpJsonLines() throws Exception {
+        Path file = tempDir.resolve("traces.jsonl");
+        OtlpJsonFileSpanExporter exporter = new OtlpJsonFileSpanExporter(file, "notification", 100);
+        exporter.start();
+        NotificationTracer tracer = new NotificationTracer(sampleEverything(), exporter);
+
+        try (Span root = tracer.startTrace("dispatch").messageId(42L)) {
+            root.child("sender.send", Span.Kind.CLIENT)
+                    .attribute("channel", "SMS")
+                    .attribute("recipients", 3)
+                    .error("SMS gateway temporarily unavailable")
+                    .end();
+        }
+        exporter.stop();
+
+        // The writer may pick up the child before the root ends, so the spans can span several lines
+        ObjectMapper mapper = new ObjectMapper();
+        List<JsonNode> spans = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            JsonNode resourceSpans = mapper.readTree(line).get("resourceSpans").get(0);
+            assertEquals("notification",
+                    resourceSpans.at("/resource/attributes/0/value/stringValue").asText());
+            resourceSpans.at("/scopeSpans/0/spans").forEach(spans::add);
+        }
+
+        assertEquals(2, spans.size());
+        JsonNode send = spans.get(0);
+        JsonNode root = spans.get(1);
+        assertEquals("sender.send", send.get("name").asText());
+        assertEquals(32, send.get("traceId").asText().length());
+        assertEquals(root.get("traceId").asText(), send.get("traceId").asText());
+        assertEquals(root.get("spanId").asText(), send.get("parentSpanId").asText());
+        assertFalse(root.has("parentSpanId"));
+        assertEquals(3, send.get("kind").asInt());
+        assertEquals(2, send.at("/status/code").asInt());
+        assertEquals(Span.MESSAGE_ID, send.at("/attributes/0/key").asText());
+        assertEquals("42", send.at("/attributes/0/value/intValue").asText());
+        assertEquals("SMS", send.at("/attributes/1/value/stringValue").asText());
+        assertTrue(send.get("endTimeUnixNano").asLong() >= send.get("startTimeUnixNano").asLong());
+    }
+
+    @Test
+    @DisplayName("Should record nothing when sampling is off")
+    void startTrace_WhenSampleRateZero_ReturnsNoop() {
+        InMemorySpanExporter exporter = new InMemorySpanExporter(10);
+        NotificationTracer tracer = new NotificationTracer(new TracingProperties(), exporter);
+
+        Span root = tracer.startTrace("dispatch");
+        Span child = root.child("sender.send");
+        child.attribute("recipients", 1).end();
+        root.end();
+
+        assertSame(Span.NOOP, root);
+        assertSame(Span.NOOP, child);
+        assertTrue(exporter.getSpans().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop spans beyond the per-trace limit and count them on the root")
+    void child_BeyondSpanLimit_IsDropped() {
+        TracingProperties properties = sampleEverything();
+        properties.setMaxSpansPerTrace(3);
+        InMemorySpanExporter exporter = new InMemorySpanExporter(10);
+        NotificationTracer tracer = new NotificationTracer(properties, exporter);
+
+        try (Span root = tracer.startTrace("dispatch")) {
+            for (int i = 0; i < 5; i++) {
+                root.child("channel.batch").end();
+            }
+        }
+
+        List<Span> spans = exporter.getSpans();
+        assertEquals(3, spans.size());
+        Span root = spans.getLast();
+        assertEquals(new Span.Attribute("tracing.dropped_spans", 3L), root.getAttributes().getLast());
+    }
+
+    private static TracingProperties sampleEverything() {
+        TracingProperties properties = new TracingProperties();
+        properties.setSampleRate(1.0);
+        return properties;
+    }
+}
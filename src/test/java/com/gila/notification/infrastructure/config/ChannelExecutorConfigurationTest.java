@@ -0,0 +1,122 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelExecutorConfigurationTest {
+
+    private ChannelExecutorProperties properties;
+    private ChannelExecutorRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChannelExecutorProperties();
+        ChannelExecutorProperties.Pool smsPool = new ChannelExecutorProperties.Pool();
+        smsPool.setPoolSize(1);
+        smsPool.setQueueCapacity(1);
+        smsPool.setRejectionPolicy(ChannelExecutorProperties.RejectionPolicy.ABORT);
+        properties.getChannels().put(NotificationChannel.SMS, smsPool);
+
+        registry = new ChannelExecutorConfiguration().channelExecutorRegistry(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        registry.destroy();
+    }
+
+    @Test
+    @DisplayName("Should create an isolated executor for every channel")
+    void channelExecutorRegistry_CreatesExecutorPerChannel() {
+        Executor sms = registry.executorFor(NotificationChannel.SMS);
+        Executor email = registry.executorFor(NotificationChannel.EMAIL);
+        Executor push = registry.executorFor(NotificationChannel.PUSH_NOTIFICATION);
+
+        assertNotSame(sms, email);
+        assertNotSame(email, push);
+        assertNotSame(sms, push);
+    }
+
+    @Test
+    @DisplayName("Should reject work on a saturated channel without affecting others")
+    void executorFor_WhenChannelSaturated_RejectsOnlyThatChannel() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Executor sms = registry.executorFor(NotificationChannel.SMS);
+
+        sms.execute(() -> awaitQuietly(release));
+        sms.execute(() -> awaitQuietly(release));
+
+        assertThrows(RejectedExecutionException.class, () -> sms.execute(() -> { }));
+
+        CountDownLatch emailRan = new CountDownLatch(1);
+        AtomicReference<String> emailThread = new AtomicReference<>();
+        registry.executorFor(NotificationChannel.EMAIL).execute(() -> {
+            emailThread.set(Thread.currentThread().getName());
+            emailRan.countDown();
+        });
+
+        assertTrue(emailRan.await(5, TimeUnit.SECONDS));
+        assertTrue(emailThread.get().startsWith("email-sender-"));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should cap in-flight virtual-thread deliveries per channel")
+    void virtualMode_CapsConcurrencyPerChannel() throws Exception {
+        properties.setMode(ChannelExecutorProperties.ExecutionMode.VIRTUAL);
+        properties.getDefaults().setMaxConcurrency(2);
+        ChannelExecutorRegistry virtualRegistry = new ChannelExecutorConfiguration().channelExecutorRegistry(properties);
+
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch finished = new CountDownLatch(5);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            Executor email = virtualRegistry.executorFor(NotificationChannel.EMAIL);
+
+            for (int i = 0; i < 5; i++) {
+                email.execute(() -> {
+                    assertTrue(Thread.currentThread().isVirtual());
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    awaitQuietly(release);
+                    running.decrementAndGet();
+                    finished.countDown();
+                });
+            }
+
+            VirtualThreadChannelExecutor executor = (VirtualThreadChannelExecutor) email;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (executor.getQueueLength() < 3 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            assertEquals(2, executor.getActiveCount());
+            assertEquals(3, executor.getQueueLength());
+            release.countDown();
+            assertTrue(finished.await(5, TimeUnit.SECONDS));
+            assertEquals(2, peak.get());
+        } finally {
+            virtualRegistry.destroy();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.Category;
+import com.gila.notification.domain.model.Message;
+import com.gila.notification.domain.model.NotificationChannel;
+import com.gila.notification.domain.model.User;
+import com.gila.notification.domain.port.out.NotificationSender;
+import com.gila.notification.domain.service.NotificationStrategy;
+import com.gila.notification.infrastructure.adapter.out.persistence.WriteBehindNotificationLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricsConfigurationTest {
+
+    private final MetricsConfiguration configuration = new MetricsConfiguration();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Message message = Message.builder()
+            .id(1L)
+            .category(Category.MOVIES)
+            .content("New release")
+            .build();
+    private final User user = User.builder()
+            .id(1L)
+            .name("John Doe")
+            .subscribedCategories(Set.of(Category.MOVIES))
+            .channels(Set.of(NotificationChannel.PUSH_NOTIFICATION))
+            .build();
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private RetryScheduler retryScheduler;
+    private NotificationSenderConfiguration senderConfiguration;
+    private ChannelExecutorRegistry channelExecutorRegistry;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerProperties breakers = new CircuitBreakerProperties();
+        breakers.getDefaults().setWindowType(CircuitBreakerProperties.WindowType.COUNT_BASED);
+        breakers.getDefaults().setMinimumCalls(3);
+        circuitBreakerRegistry = new CircuitBreakerConfiguration().circuitBreakerRegistry(breakers);
+        retryScheduler = new RetryScheduler(new RetryProperties());
+        senderConfiguration = new NotificationSenderConfiguration();
+
+        ChannelExecutorProperties executors = new ChannelExecutorProperties();
+        executors.getDefaults().setPoolSize(1);
+        channelExecutorRegistry = new ChannelExecutorConfiguration().channelExecutorRegistry(executors);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        channelExecutorRegistry.destroy();
+        senderConfiguration.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should report the current state and rates of each channel's breaker")
+    void circuitBreakerMetrics_ReadsBreakerState() {
+        configuration.circuitBreakerMetrics(circuitBreakerRegistry).bindTo(registry);
+        NotificationCircuitBreaker sms = circuitBreakerRegistry.breakerFor(NotificationChannel.SMS);
+        NotificationCircuitBreaker email = circuitBreakerRegistry.breakerFor(NotificationChannel.EMAIL);
+
+        for (int i = 0; i < 3; i++) {
+            sms.recordFailure(0);
+        }
+        sms.allowRequest();
+        // Below the minimum calls, so the circuit stays closed
+        email.recordFailure(0);
+        email.recordSuccess(0);
+
+        assertEquals(1, gauge("notification.circuit.state", "channel", "sms", "state", "open"));
+        assertEquals(0, gauge("notification.circuit.state", "channel", "sms", "state", "closed"));
+        assertEquals(1, gauge("notification.circuit.state", "channel", "email", "state", "closed"));
+        assertEquals(50, gauge("notification.circuit.failure.rate", "channel", "email"));
+        assertEquals(1, registry.get("notification.circuit.not.permitted")
+                .tag("channel", "sms").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should count budget decisions and hedges of the channels that are hedged")
+    void retryMetrics_ReadsBudgetsAndHedging() throws Exception {
+        HedgingProperties hedging = new HedgingProperties();
+        hedging.setInitialDelayMs(20);
+        NotificationStrategy strategy = senderConfiguration.notificationStrategy(
+                List.of(firstCallBlocks()), hedging, retryScheduler);
+        strategy.init();
+        configuration.retryMetrics(retryScheduler, strategy, hedging).bindTo(registry);
+        RetryBudget smsBudget = retryScheduler.budgetFor(NotificationChannel.SMS);
+
+        smsBudget.tryAcquire();
+        strategy.getSender(NotificationChannel.PUSH_NOTIFICATION).send(message, user);
+
+        assertEquals(1, registry.get("notification.retry.budget.decisions")
+                .tags("channel", "sms", "decision", "permitted").functionCounter().count());
+        assertEquals(0, registry.get("notification.retry.budget.decisions")
+                .tags("channel", "sms", "decision", "denied").functionCounter().count());
+        assertEquals(smsBudget.getMetrics().availableTokens(),
+                gauge("notification.retry.budget.tokens", "channel", "sms"));
+        assertEquals(1, registry.get("notification.hedging.requests")
+                .tags("channel", "push_notification", "result", "sent").functionCounter().count());
+        assertEquals(1, registry.get("notification.hedging.requests")
+                .tags("channel", "push_notification", "result", "won").functionCounter().count());
+        assertEquals(20, gauge("notification.hedging.delay", "channel", "push_notification"));
+        assertTrue(registry.find("notification.hedging.requests").tag("channel", "sms").meters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report deliveries waiting for and running on a channel's workers")
+    void executorMetrics_ReadsQueueDepth() throws Exception {
+        configuration.executorMetrics(channelExecutorRegistry).bindTo(registry);
+        Executor email = channelExecutorRegistry.executorFor(NotificationChannel.EMAIL);
+        CountDownLatch started = new CountDownLatch(1);
+
+        email.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        email.execute(this::awaitRelease);
+        email.execute(this::awaitRelease);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, gauge("notification.executor.active", "channel", "email"));
+        assertEquals(2, gauge("notification.executor.queued", "channel", "email"));
+        assertEquals(0, gauge("notification.executor.queued", "channel", "sms"));
+    }
+
+    @Test
+    @DisplayName("Should report logs held in the write-behind ring and the spill file")
+    void logWriterMetrics_ReadsBufferedAndSpilled() {
+        WriteBehindNotificationLogWriter logWriter = mock(WriteBehindNotificationLogWriter.class);
+        when(logWriter.getBufferedCount()).thenReturn(12);
+        when(logWriter.getSpilledBytes()).thenReturn(4096);
+        configuration.logWriterMetrics(logWriter).bindTo(registry);
+
+        assertEquals(12, registry.get("notification.log.buffered").gauge().value());
+        assertEquals(4096, registry.get("notification.log.spilled").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should expose recorded and bound meters under Prometheus names")
+    void prometheusScrape_ContainsPipelineMeters() {
+        PrometheusMeterRegistry prometheus = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        NotificationMetrics metrics = configuration.notificationMetrics(prometheus);
+        configuration.circuitBreakerMetrics(circuitBreakerRegistry).bindTo(prometheus);
+        configuration.executorMetrics(channelExecutorRegistry).bindTo(prometheus);
+
+        metrics.deliveryCompleted(NotificationChannel.EMAIL, true);
+        metrics.messageDispatched(3);
+        String scrape = prometheus.scrape();
+
+        assertTrue(scrape.contains("notification_deliveries_total{channel=\"email\",outcome=\"success\"} 1.0"), scrape);
+        assertTrue(scrape.contains("notification_fanout_recipients_sum 3.0"), scrape);
+        assertTrue(scrape.contains("notification_circuit_state{channel=\"sms\",state=\"closed\"} 1.0"), scrape);
+        assertTrue(scrape.contains("notification_executor_queued{channel=\"push_notification\"} 0.0"), scrape);
+    }
+
+    private double gauge(String name, String... tags) {
+        return registry.get(name).tags(tags).gauge().value();
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private NotificationSender firstCallBlocks() {
+        AtomicInteger calls = new AtomicInteger();
+        return new NotificationSender() {
+            @Override
+            public void send(Message message, User user) {
+                if (calls.incrementAndGet() == 1) {
+                    awaitRelease();
+                }
+            }
+
+            @Override
+            public NotificationChannel getChannel() {
+                return NotificationChannel.PUSH_NOTIFICATION;
+            }
+        };
+    }
+}
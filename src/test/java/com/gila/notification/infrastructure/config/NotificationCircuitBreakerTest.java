@@ -0,0 +1,223 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.CircuitState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(600);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private CircuitBreakerProperties.Thresholds thresholds;
+    private NotificationCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        thresholds = new CircuitBreakerProperties.Thresholds();
+        thresholds.setWindowType(CircuitBreakerProperties.WindowType.TIME_BASED);
+        thresholds.setWindowDurationMs(1000);
+        thresholds.setBucketCount(10);
+        thresholds.setMinimumCalls(10);
+        thresholds.setFailureRateThreshold(50);
+        thresholds.setSlowCallDurationMs(500);
+        thresholds.setSlowCallRateThreshold(80);
+        thresholds.setOpenDurationMs(1000);
+        thresholds.setHalfOpenSuccessThreshold(2);
+        breaker = new NotificationCircuitBreaker("SMS", thresholds, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should stay closed under a steady low failure rate, even with failure streaks")
+    void recordFailure_BelowFailureRate_StaysClosed() {
+        for (int i = 0; i < 6; i++) {
+            breaker.recordFailure(FAST);
+        }
+        for (int i = 0; i < 100; i++) {
+            breaker.recordSuccess(FAST);
+            if (i % 10 == 0) {
+                breaker.recordFailure(FAST);
+            }
+        }
+
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should open once the window holds the minimum calls and the failure rate reaches the threshold")
+    void recordFailure_AtFailureRate_OpensCircuit() {
+        for (int i = 0; i < 9; i++) {
+            breaker.recordFailure(FAST);
+        }
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        breaker.recordFailure(FAST);
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertTrue(breaker.isRejecting());
+        assertFalse(breaker.allowRequest());
+        assertEquals(1, breaker.getMetrics().notPermittedCalls());
+    }
+
+    @Test
+    @DisplayName("Should open when most calls are slow even though they succeed")
+    void recordSuccess_AtSlowCallRate_OpensCircuit() {
+        for (int i = 0; i < 2; i++) {
+            breaker.recordSuccess(FAST);
+        }
+        for (int i = 0; i < 8; i++) {
+            breaker.recordSuccess(SLOW);
+        }
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should forget failures once they slide out of the time window")
+    void counts_AfterWindowElapses_DropOldOutcomes() {
+        for (int i = 0; i < 8; i++) {
+            breaker.recordFailure(FAST);
+        }
+        assertEquals(8, breaker.getMetrics().failedCalls());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1100));
+        for (int i = 0; i < 8; i++) {
+            breaker.recordSuccess(FAST);
+        }
+        breaker.recordFailure(FAST);
+        breaker.recordFailure(FAST);
+
+        NotificationCircuitBreaker.Metrics metrics = breaker.getMetrics();
+        assertEquals(CircuitState.CLOSED, metrics.state());
+        assertEquals(10, metrics.calls());
+        assertEquals(2, metrics.failedCalls());
+        assertEquals(20f, metrics.failureRate());
+    }
+
+    @Test
+    @DisplayName("Should record outcomes while the nano clock reads negative values")
+    void record_WithNegativeClock_CountsAcrossZero() {
+        clock.set(-TimeUnit.MILLISECONDS.toNanos(350));
+        for (int i = 0; i < 4; i++) {
+            breaker.recordSuccess(FAST);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        breaker.recordFailure(FAST);
+
+        NotificationCircuitBreaker.Metrics metrics = breaker.getMetrics();
+        assertEquals(5, metrics.calls());
+        assertEquals(1, metrics.failedCalls());
+    }
+
+    @Test
+    @DisplayName("Should evaluate a count-based window over the most recent calls")
+    void recordFailure_InCountBasedWindow_UsesRecentCalls() {
+        thresholds.setWindowType(CircuitBreakerProperties.WindowType.COUNT_BASED);
+        thresholds.setWindowSize(20);
+        breaker = new NotificationCircuitBreaker("PUSH", thresholds, clock::get);
+
+        for (int i = 0; i < 40; i++) {
+            breaker.recordSuccess(FAST);
+        }
+        for (int i = 0; i < 9; i++) {
+            breaker.recordFailure(FAST);
+        }
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        breaker.recordFailure(FAST);
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should admit a bounded number of trials when half-open and close after they succeed")
+    void allowRequest_AfterOpenDuration_AdmitsTrialsThenCloses() {
+        List<NotificationCircuitBreaker.StateTransition> transitions = new ArrayList<>();
+        breaker.onStateTransition(transitions::add);
+        openCircuit();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+
+        assertTrue(breaker.allowRequest());
+        assertTrue(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+
+        breaker.recordSuccess(FAST);
+        breaker.recordSuccess(FAST);
+
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getMetrics().calls());
+        assertEquals(List.of(CircuitState.OPEN, CircuitState.HALF_OPEN, CircuitState.CLOSED),
+                transitions.stream().map(NotificationCircuitBreaker.StateTransition::to).toList());
+    }
+
+    @Test
+    @DisplayName("Should reopen when a half-open trial fails or is slow")
+    void recordOutcome_WhenHalfOpen_ReopensOnFailureOrSlowCall() {
+        openCircuit();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+        assertTrue(breaker.allowRequest());
+
+        breaker.recordFailure(FAST);
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+        assertTrue(breaker.allowRequest());
+
+        breaker.recordSuccess(SLOW);
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should let exactly the trial quota through when many threads race on a half-open circuit")
+    void allowRequest_FromManyThreads_AdmitsOnlyTrialQuota() throws Exception {
+        openCircuit();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+
+        int threads = 16;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                    if (breaker.allowRequest()) {
+                        admitted.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+
+        assertEquals(2, admitted.get());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 10; i++) {
+            breaker.recordFailure(FAST);
+        }
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+}
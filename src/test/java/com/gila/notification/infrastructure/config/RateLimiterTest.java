@@ -0,0 +1,71 @@
+package com.gila.notification.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should let a burst through at once and pace the rest to the configured rate")
+    void reserve_AfterBurst_WaitsOneIntervalPerPermit() {
+        RateLimiter limiter = new RateLimiter(100, 5, clock::get);
+
+        assertEquals(0, limiter.reserve(5));
+        assertEquals(10 * MILLI, limiter.reserve(1));
+        assertEquals(30 * MILLI, limiter.reserve(2));
+
+        clock.addAndGet(30 * MILLI);
+        assertEquals(10 * MILLI, limiter.reserve(1));
+        assertEquals(9, limiter.getMetrics().granted());
+        assertEquals(0.05, limiter.getMetrics().waitedSeconds(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should refill after an idle period but never beyond the burst")
+    void reserve_AfterIdlePeriod_AllowsOnlyOneBurst() {
+        RateLimiter limiter = new RateLimiter(100, 5, clock::get);
+        limiter.reserve(5);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(5, limiter.getMetrics().availableTokens(), 1e-9);
+        assertEquals(0, limiter.reserve(5));
+        assertEquals(10 * MILLI, limiter.reserve(1));
+    }
+
+    @Test
+    @DisplayName("Should refuse a permit that is not yet earned without taking it")
+    void tryAcquire_WhenEmpty_RefusesUntilRefilled() {
+        RateLimiter limiter = new RateLimiter(1, 2, clock::get);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertFalse(limiter.isIdle());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should never wait when no rate is configured")
+    void reserve_WhenUnlimited_NeverWaits() {
+        RateLimiter limiter = new RateLimiter(0, 1, clock::get);
+
+        assertTrue(limiter.isUnlimited());
+        assertEquals(0, limiter.reserve(1_000_000));
+        assertTrue(limiter.tryAcquire());
+    }
+}
@@ -0,0 +1,111 @@
+package com.gila.notification.infrastructure.config;
+
+import com.gila.notification.domain.model.NotificationChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetrySchedulerTest {
+
+    private RetryProperties properties;
+    private RetryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetryProperties();
+        properties.setTickMs(1);
+        properties.setWheelSize(8);
+        scheduler = new RetryScheduler(properties);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("Should run each task once its delay has elapsed, including delays spanning several wheel rounds")
+    void schedule_RunsTasksInDeadlineOrder() throws Exception {
+        List<Long> completed = new CopyOnWriteArrayList<>();
+        List<Long> early = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long start = System.nanoTime();
+        for (long delay : new long[] {60, 5, 25}) {
+            scheduler.schedule(delay, TimeUnit.MILLISECONDS, () -> {
+                completed.add(delay);
+                if (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(delay)) {
+                    early.add(delay);
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(5L, 25L, 60L), completed);
+        assertTrue(early.isEmpty());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Should run pending tasks when stopped so no delivery waits forever")
+    void stop_RunsPendingTasks() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        scheduler.schedule(1, TimeUnit.HOURS, done::countDown);
+
+        scheduler.stop();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should back off exponentially within the jitter band and up to the cap")
+    void backoffMillis_StaysWithinJitteredExponentialBounds() {
+        properties.setInitialDelayMs(1000);
+        properties.setMultiplier(2.0);
+        properties.setMaxDelayMs(5000);
+        properties.setJitter(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            long first = scheduler.backoffMillis(1);
+            long second = scheduler.backoffMillis(2);
+            long capped = scheduler.backoffMillis(10);
+            assertTrue(first >= 500 && first <= 1000);
+            assertTrue(second >= 1000 && second <= 2000);
+            assertTrue(capped >= 2500 && capped <= 5000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should cap retries to the budget share of first attempts once the burst allowance is spent")
+    void tryAcquireRetry_WhenBudgetDrained_DeniesRetries() {
+        properties.setBudgetPercent(10);
+        properties.setBudgetMaxTokens(5);
+        RetryScheduler budgeted = new RetryScheduler(properties);
+
+        int granted = 0;
+        for (int i = 0; i < 100; i++) {
+            budgeted.recordFirstAttempt(NotificationChannel.SMS);
+            if (budgeted.tryAcquireRetry(NotificationChannel.SMS, 1)) {
+                granted++;
+            }
+        }
+
+        assertEquals(14, granted);
+        assertFalse(budgeted.tryAcquireRetry(NotificationChannel.SMS, 3));
+        assertTrue(budgeted.tryAcquireRetry(NotificationChannel.EMAIL, 1));
+        RetryBudget.Metrics metrics = budgeted.budgetFor(NotificationChannel.SMS).getMetrics();
+        assertEquals(14, metrics.permitted());
+        assertEquals(86, metrics.denied());
+    }
+}